@@ -39,20 +39,25 @@ public isolated client class Caller {
     #
     # When the listener connection is transacted, this method returns an `Error`: JCSMP's settle()
     # is a documented no-op on transacted flows, so calling `nack` there would silently have no
-    # effect. Use `commit`/`rollback` instead to control settlement.
+    # effect. Use `commit`/`rollback` instead to control settlement. In `AUTO_ACK` mode, a message that
+    # was negatively acknowledged is not acknowledged when `onMessage` returns.
     #
     # + message - The message to negatively acknowledge
     # + requeue - If true, the message is requeued for redelivery (FAILED outcome).
     # If false, the message moves to the DMQ immediately, if configured. If not, the message is simply
     # discarded. (REJECTED outcome)
+    # + delay - Seconds to hold a requeued message before it is redelivered, instead of redelivering it at once.
+    # The delay doubles with each delivery of the message (when the broker reports delivery counts), up to 10
+    # minutes. The message stays unsettled until then. Only valid when `requeue` is true.
     # + return - Error if NACK fails
-    isolated remote function nack(Message message, boolean requeue = true) returns Error? = @java:Method {
+    isolated remote function nack(Message message, boolean requeue = true, decimal? delay = ())
+            returns Error? = @java:Method {
         'class: "io.ballerina.lib.solace.caller.CallerActions"
     } external;
 
     # Commit the current transaction.
     #
-    # Only applicable when the listener connection is transacted.
+    # Only applicable when the listener connection is transacted, and not on a service with `autoCommit`.
     #
     # + return - Error if commit fails
     isolated remote function 'commit() returns Error? = @java:Method {
@@ -61,7 +66,7 @@ public isolated client class Caller {
 
     # Rollback the current transaction.
     #
-    # Only applicable when the listener connection is transacted.
+    # Only applicable when the listener connection is transacted, and not on a service with `autoCommit`.
     #
     # + return - Error if rollback fails
     isolated remote function 'rollback() returns Error? = @java:Method {
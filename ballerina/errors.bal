@@ -22,3 +22,23 @@ public type InactiveFlowError distinct Error;
 
 # Indicates that a previously established guaranteed consumer flow is down.
 public type FlowDownError distinct Error;
+
+# Indicates that some messages of a bulk settlement (`ackAll`/`nackAll`) could not be settled. The other messages of
+# the group were settled.
+public type SettlementError distinct (Error & error<SettlementErrorDetail>);
+
+# Details of a `SettlementError`.
+#
+# + failures - The messages that could not be settled
+public type SettlementErrorDetail record {|
+    SettlementFailure[] failures;
+|};
+
+# A message that could not be settled by a bulk settlement.
+#
+# + index - The index of the message in the settled array
+# + message - Why the message could not be settled
+public type SettlementFailure record {|
+    int index;
+    string message;
+|};
@@ -31,7 +31,9 @@ import ballerina/jballerina.java;
 # shared by every service attached to this listener. Calling `caller->commit()` or
 # `caller->rollback()` from one service's `onMessage` commits or rolls back that shared transaction
 # for all attached services, not just the one that made the call. `AUTO_ACK` is not supported on a
-# transacted listener (settlement must go through `caller->commit()`/`caller->rollback()`); use `CLIENT_ACK` instead.
+# transacted listener (settlement must go through `caller->commit()`/`caller->rollback()`); use `CLIENT_ACK` instead,
+# or set `autoCommit` on the service configuration to have the listener commit processed messages in batches. An
+# auto-committing service must be the only service on its listener.
 # If independent transactions per service are required, attach each transacted service to its own
 # `Listener` instance.
 #
@@ -73,7 +75,9 @@ public isolated class Listener {
     # Attach a service to the listener.
     #
     # The service must declare a remote `onMessage` method and may optionally declare an `onError`
-    # method. Its subscription is read from the `@solace:ServiceConfig` annotation.
+    # method. Its subscription is read from the `@solace:ServiceConfig` annotation. Before the listener
+    # is started, the service's configuration is validated here but its flows are bound to the broker by
+    # `'start()`, so an unreachable queue or endpoint is reported when the listener starts.
     #
     # + s - The service object to attach
     # + name - Optional service name (ignored; subscription is taken from the annotation)
@@ -92,9 +96,29 @@ public isolated class Listener {
         'class: "io.ballerina.lib.solace.listener.ListenerActions"
     } external;
 
+    # Reconfigure an attached service without detaching it.
+    #
+    # Binds new flows with the given configuration next to the running ones, switches delivery over to
+    # them, then lets the old flows finish the messages they already delivered (within
+    # `gracefulStopTimeout`) before closing them, so flow settings such as `transportWindowSize`,
+    # `ackThreshold` or `selector` can be tuned while the service keeps running. The new configuration
+    # replaces the service's `@solace:ServiceConfig` annotation for as long as it stays attached. On an
+    # exclusive queue the new flow takes over once the old one is closed, and a durable topic endpoint,
+    # which accepts a single flow, is rebound after the old flow is closed. If reconfiguration fails, the
+    # service keeps running with its previous configuration, unless the error reports that it was detached.
+    #
+    # + s - The attached service object
+    # + config - The new service configuration
+    # + return - Error if reconfiguration fails
+    public isolated function reconfigure(Service s, ServiceConfiguration config) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.solace.listener.ListenerActions"
+    } external;
+
     # Start the listener.
     #
-    # Begins delivering messages to all attached services.
+    # Binds the flows of the services attached so far, then begins delivering messages to all attached
+    # services. Services are bound and started concurrently. If any service fails to bind or start, the
+    # others are stopped again and the listener is not started.
     #
     # + return - Error if start fails
     public isolated function 'start() returns Error? = @java:Method {
@@ -103,8 +127,8 @@ public isolated class Listener {
 
     # Gracefully stop the listener.
     #
-    # Stops delivery to attached services and waits for in-flight message processing to complete
-    # before closing resources.
+    # Stops delivery to attached services and waits, up to `gracefulStopTimeout`, for in-flight message
+    # processing to complete before closing resources.
     #
     # + return - Error if stop fails
     public isolated function gracefulStop() returns Error? = @java:Method {
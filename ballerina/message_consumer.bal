@@ -115,8 +115,40 @@ public isolated client class MessageConsumer {
     # + requeue - If true (default), the message is made available for redelivery. (FAILED outcome)
     # If false, the message moves to the DMQ immediately, if configured.
     # If not configured, the message is simply discarded. (REJECTED outcome)
+    # + delay - Seconds to hold a requeued message before it is redelivered, instead of redelivering it at once.
+    # The delay doubles with each delivery of the message (when the broker reports delivery counts), up to 10
+    # minutes. The message stays unsettled until then. Only valid when `requeue` is true.
     # + return - Error if NACK fails
-    isolated remote function nack(Message message, boolean requeue = true) returns Error? = @java:Method {
+    isolated remote function nack(Message message, boolean requeue = true, decimal? delay = ())
+            returns Error? = @java:Method {
+        'class: "io.ballerina.lib.solace.consumer.ConsumerActions"
+    } external;
+
+    # Acknowledge a group of messages in one call.
+    #
+    # Settles the whole group on a single blocking call instead of one per message. A message that cannot be
+    # acknowledged does not stop the rest of the group; it is reported by its index in the returned error.
+    #
+    # Only use this method if the subscription is configured with ackMode = CLIENT_ACK.
+    #
+    # + messages - The messages to acknowledge
+    # + return - A `SettlementError` listing the messages that could not be acknowledged, or another Error if the
+    # group could not be settled at all
+    isolated remote function ackAll(Message[] messages) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.solace.consumer.ConsumerActions"
+    } external;
+
+    # Negatively acknowledge a group of messages in one call.
+    #
+    # Settles the whole group on a single blocking call instead of one per message. A message that cannot be
+    # settled does not stop the rest of the group; it is reported by its index in the returned error.
+    #
+    # + messages - The messages to negatively acknowledge
+    # + requeue - If true (default), the messages are made available for redelivery. (FAILED outcome)
+    # If false, the messages move to the DMQ, if configured. (REJECTED outcome)
+    # + return - A `SettlementError` listing the messages that could not be settled, or another Error if the group
+    # could not be settled at all
+    isolated remote function nackAll(Message[] messages, boolean requeue = true) returns Error? = @java:Method {
         'class: "io.ballerina.lib.solace.consumer.ConsumerActions"
     } external;
 
@@ -138,6 +170,23 @@ public isolated client class MessageConsumer {
         'class: "io.ballerina.lib.solace.consumer.ConsumerActions"
     } external;
 
+    # Consume messages as a stream.
+    #
+    # A background reader prefetches up to `prefetch` messages ahead of the stream, so `next()` returns a buffered
+    # message without waiting whenever one is available. Only one stream can be open on a consumer at a time; close
+    # it to stop the reader. Messages prefetched but never returned are settled as failed on a `CLIENT_ACK` queue so
+    # the broker redelivers them, and are dropped otherwise.
+    #
+    # + prefetch - Maximum number of messages read ahead of the stream
+    # + idleTimeout - Time in seconds to wait for a message before the stream ends. A nil timeout waits until the
+    # stream is closed
+    # + return - The message stream, or an Error if it cannot be opened
+    isolated remote function 'stream(int prefetch = 64, decimal? idleTimeout = ())
+            returns stream<Message, Error?>|Error {
+        MessageStream messageStream = check new (self, prefetch, idleTimeout);
+        return new stream<Message, Error?>(messageStream);
+    }
+
     # Close the consumer and release all resources.
     #
     # + return - Error if close fails
@@ -0,0 +1,57 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Iterator behind `MessageConsumer->'stream()`, backed by a native prefetch buffer.
+isolated class MessageStream {
+
+    # Open the stream on a consumer and start its prefetch reader.
+    #
+    # + consumer - The consumer the stream reads from
+    # + prefetch - Maximum number of messages read ahead of the stream
+    # + idleTimeout - Time in seconds to wait for a message before the stream ends, or nil to wait until closed
+    # + return - Error if the stream cannot be opened
+    isolated function init(MessageConsumer consumer, int prefetch, decimal? idleTimeout) returns Error? {
+        return self.initStream(consumer, prefetch, idleTimeout);
+    }
+
+    isolated function initStream(MessageConsumer consumer, int prefetch, decimal? idleTimeout,
+            typedesc<Message> messageType = Message) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.solace.consumer.MessageStreamActions",
+        name: "init"
+    } external;
+
+    # Return the next message of the stream.
+    #
+    # + return - The next message, nil once the stream has ended, or an Error
+    public isolated function next() returns record {|Message value;|}|Error? {
+        Message? message = check self.nextMessage();
+        return message is Message ? {value: message} : ();
+    }
+
+    isolated function nextMessage() returns Message|Error? = @java:Method {
+        'class: "io.ballerina.lib.solace.consumer.MessageStreamActions",
+        name: "next"
+    } external;
+
+    # Close the stream and stop its prefetch reader. The consumer stays open.
+    #
+    # + return - Error if close fails
+    public isolated function close() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.solace.consumer.MessageStreamActions"
+    } external;
+}
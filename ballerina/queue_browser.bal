@@ -0,0 +1,113 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# QueueBrowser reads the messages waiting on a queue without consuming them.
+#
+# Browsed messages stay on the queue, in order, for its consumers; a browser can only take one off the queue by
+# removing it explicitly. Messages are data-bound the same way `MessageConsumer` binds them.
+#
+# Example:
+# ```ballerina
+# final solace:QueueBrowser browser = check new (
+#     url = "tcp://broker:55555",
+#     auth = {username: "default"},
+#     queueName = "orders"
+# );
+# solace:Message[] backlog = check browser->nextBatch(100);
+# ```
+public isolated client class QueueBrowser {
+
+    # Initialize a new QueueBrowser with the given configuration.
+    #
+    # + url - The broker URL with format: [protocol:]host[:port]
+    # + config - The browser configuration (composed of connection config + the queue to browse)
+    # + return - Error if initialization fails
+    public isolated function init(string url, *BrowserConfiguration config) returns Error? {
+        check validateConfigurations(config);
+        return self.initBrowser(url, config);
+    }
+
+    isolated function initBrowser(string url, BrowserConfiguration config) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.solace.browser.BrowserActions",
+        name: "init"
+    } external;
+
+    # Browse the next message of the queue. A message the browser has already prefetched is returned immediately.
+    #
+    # + timeout - Maximum time in seconds to wait for a message when none is prefetched. A zero timeout never waits
+    # + T - Optional type description of the expected message type; declare a narrowed
+    # `record {|*Message; T payload;|}` to have the payload data-bound into `T`
+    # + return - The browsed message, nil once no message arrives within the timeout, or an Error
+    isolated remote function next(decimal timeout = 1.0, typedesc<Message> T = <>) returns T|Error? = @java:Method {
+        'class: "io.ballerina.lib.solace.browser.BrowserActions"
+    } external;
+
+    # Browse up to `count` messages in one call. Waits for the first message, then returns it together with the
+    # messages the browser has already prefetched.
+    #
+    # + count - Maximum number of messages to return
+    # + timeout - Maximum time in seconds to wait for the first message. A zero timeout never waits
+    # + T - Optional type description of the expected message type
+    # + return - The browsed messages, an empty array once no message arrives within the timeout, or an Error
+    isolated remote function nextBatch(int count, decimal timeout = 1.0, typedesc<Message> T = <>)
+            returns T[]|Error = @java:Method {
+        'class: "io.ballerina.lib.solace.browser.BrowserActions"
+    } external;
+
+    # Browse the queue as a stream. The stream ends once no message arrives within `timeout`.
+    #
+    # + timeout - Maximum time in seconds to wait for each message when none is prefetched
+    # + return - The stream of browsed messages
+    isolated remote function 'stream(decimal timeout = 1.0) returns stream<Message, Error?> {
+        return new stream<Message, Error?>(new BrowseIterator(self, timeout));
+    }
+
+    # Remove a browsed message from the queue, so no consumer receives it.
+    #
+    # + message - A message returned by this browser
+    # + return - Error if the message cannot be removed
+    isolated remote function remove(Message message) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.solace.browser.BrowserActions"
+    } external;
+
+    # Close the browser and release its connection. Browsed messages stay on the queue.
+    #
+    # + return - Error if close fails
+    isolated remote function close() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.solace.browser.BrowserActions"
+    } external;
+}
+
+# Iterator behind `QueueBrowser->'stream()`.
+isolated class BrowseIterator {
+    private final QueueBrowser browser;
+    private final decimal timeout;
+
+    isolated function init(QueueBrowser browser, decimal timeout) {
+        self.browser = browser;
+        self.timeout = timeout;
+    }
+
+    # Return the next browsed message.
+    #
+    # + return - The next message, nil once the backlog is exhausted, or an Error
+    public isolated function next() returns record {|Message value;|}|Error? {
+        Message? message = check self.browser->next(self.timeout);
+        return message is Message ? {value: message} : ();
+    }
+}
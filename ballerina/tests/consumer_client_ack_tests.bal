@@ -237,6 +237,83 @@ isolated function testConsumerNackWithReject() returns error? {
     check consumer->close();
 }
 
+@test:Config {groups: ["consumer", "clientack"], dependsOn: [testConsumerClientAckInit]}
+isolated function testConsumerNackWithDelay() returns error? {
+    MessageProducer producer = check new (BROKER_URL, {
+        messageVpn: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        }
+    });
+
+    check producer->send(
+        {payload: "Message to NACK with delay".toBytes()},
+        {queueName: NACK_DELAY_QUEUE}
+    );
+
+    check producer->close();
+
+    MessageConsumer consumer = check new (BROKER_URL, {
+        messageVpn: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {
+            queueName: NACK_DELAY_QUEUE,
+            ackMode: CLIENT_ACK
+        }
+    });
+
+    Message? msg = check consumer->receive(DEFAULT_RECEIVE_TIMEOUT);
+    test:assertTrue(msg is Message, "Should receive a message");
+
+    if msg is Message {
+        // NACK with a delay: the message is held and only requeued once the delay has elapsed
+        check consumer->nack(msg, requeue = true, delay = 3.0);
+    }
+
+    Message? early = check consumer->receive(SHORT_RECEIVE_TIMEOUT);
+    test:assertTrue(early is (), "Message should not be redelivered before the delay has elapsed");
+
+    BytesPayloadMessage? redeliveredMsg = check consumer->receive(DEFAULT_RECEIVE_TIMEOUT);
+    test:assertTrue(redeliveredMsg is BytesPayloadMessage, "Message should be redelivered after the delay");
+
+    if redeliveredMsg is BytesPayloadMessage {
+        test:assertEquals(redeliveredMsg.payload, "Message to NACK with delay".toBytes(),
+                "Redelivered message should match");
+        check consumer->ack(redeliveredMsg);
+    }
+
+    check consumer->close();
+}
+
+@test:Config {groups: ["consumer", "clientack"], dependsOn: [testConsumerClientAckInit]}
+isolated function testConsumerNackDelayRequiresRequeue() returns error? {
+    MessageConsumer consumer = check new (BROKER_URL, {
+        messageVpn: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {
+            queueName: NACK_DELAY_QUEUE,
+            ackMode: CLIENT_ACK
+        }
+    });
+
+    Message message = {payload: "never received".toBytes()};
+    Error? result = consumer->nack(message, requeue = false, delay = 1.0);
+    test:assertTrue(result is Error, "A delay without requeue should be rejected");
+    if result is Error {
+        test:assertEquals(result.message(),
+                "nack() delay only applies when requeue is true; a rejected message is not redelivered.");
+    }
+
+    check consumer->close();
+}
+
 @test:Config {groups: ["consumer", "clientack"], dependsOn: [testConsumerClientAckInit]}
 isolated function testConsumerUnacknowledgedRedelivery() returns error? {
     MessageProducer producer = check new (BROKER_URL, {
@@ -298,3 +375,117 @@ isolated function testConsumerUnacknowledgedRedelivery() returns error? {
 
     check consumer2->close();
 }
+
+@test:Config {groups: ["consumer", "clientack"], dependsOn: [testConsumerClientAckInit]}
+isolated function testConsumerAckAll() returns error? {
+    foreach int i in 1 ... 3 {
+        check sendMessageToQueue(ACK_ALL_QUEUE, string `Bulk ack message ${i}`);
+    }
+
+    MessageConsumer consumer = check new (BROKER_URL, {
+        messageVpn: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {
+            queueName: ACK_ALL_QUEUE,
+            ackMode: CLIENT_ACK
+        }
+    });
+
+    Message[] messages = [];
+    foreach int i in 1 ... 3 {
+        Message? msg = check consumer->receive(DEFAULT_RECEIVE_TIMEOUT);
+        test:assertTrue(msg is Message, "Should receive a message");
+        if msg is Message {
+            messages.push(msg);
+        }
+    }
+    check consumer->ackAll(messages);
+    check consumer->close();
+
+    // Acknowledged messages must not be redelivered to a new consumer
+    MessageConsumer consumer2 = check new (BROKER_URL, {
+        messageVpn: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {
+            queueName: ACK_ALL_QUEUE,
+            ackMode: CLIENT_ACK
+        }
+    });
+    Message? noMsg = check consumer2->receive(SHORT_RECEIVE_TIMEOUT);
+    test:assertTrue(noMsg is (), "Messages acknowledged by ackAll should not be redelivered");
+    check consumer2->close();
+}
+
+@test:Config {groups: ["consumer", "clientack"], dependsOn: [testConsumerClientAckInit]}
+isolated function testConsumerNackAllWithRequeue() returns error? {
+    foreach int i in 1 ... 2 {
+        check sendMessageToQueue(NACK_ALL_QUEUE, string `Bulk nack message ${i}`);
+    }
+
+    MessageConsumer consumer = check new (BROKER_URL, {
+        messageVpn: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {
+            queueName: NACK_ALL_QUEUE,
+            ackMode: CLIENT_ACK
+        }
+    });
+
+    Message[] messages = [];
+    foreach int i in 1 ... 2 {
+        Message? msg = check consumer->receive(DEFAULT_RECEIVE_TIMEOUT);
+        if msg is Message {
+            messages.push(msg);
+        }
+    }
+    test:assertEquals(messages.length(), 2, "Should receive both messages");
+    check consumer->nackAll(messages);
+
+    Message[] redelivered = [];
+    foreach int i in 1 ... 2 {
+        Message? msg = check consumer->receive(DEFAULT_RECEIVE_TIMEOUT);
+        if msg is Message {
+            test:assertTrue(msg.redelivered == true, "Redelivered flag should be set");
+            redelivered.push(msg);
+        }
+    }
+    test:assertEquals(redelivered.length(), 2, "Both messages should be redelivered after nackAll");
+    check consumer->ackAll(redelivered);
+
+    check consumer->close();
+}
+
+@test:Config {groups: ["consumer", "clientack", "negative"], dependsOn: [testConsumerClientAckInit]}
+isolated function testConsumerAckAllReportsFailuresByIndex() returns error? {
+    MessageConsumer consumer = check new (BROKER_URL, {
+        messageVpn: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {
+            queueName: ACK_ALL_QUEUE,
+            ackMode: CLIENT_ACK
+        }
+    });
+
+    // Messages that were never received have no native message to settle
+    Message[] messages = [{payload: "first".toBytes()}, {payload: "second".toBytes()}];
+    Error? result = consumer->ackAll(messages);
+    test:assertTrue(result is SettlementError, "ackAll should report unsettled messages");
+    if result is SettlementError {
+        int[] indexes = from SettlementFailure failure in result.detail().failures select failure.index;
+        test:assertEquals(indexes, [0, 1], "Failures should be reported by index");
+    }
+
+    check consumer->close();
+}
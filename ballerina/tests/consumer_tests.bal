@@ -239,6 +239,41 @@ isolated function testConsumerInitWithDurableQueueMissingName() returns error? {
     }
 }
 
+@test:Config {groups: ["consumer", "init", "validation", "negative"]}
+isolated function testConsumerInitWithDeadLetterExpiredPolicyOnAutoAck() returns error? {
+    MessageConsumer|error consumer = new (BROKER_URL, {
+        messageVpn: MESSAGE_VPN,
+        auth: {username: BROKER_USERNAME, password: BROKER_PASSWORD},
+        calculateMessageExpiration: true,
+        subscriptionConfig: {queueName: CONSUMER_EXPIRATION_QUEUE, expiredMessagePolicy: DEAD_LETTER}
+    });
+
+    test:assertTrue(consumer is error, "Dead-lettering expired messages needs CLIENT_ACK");
+    if consumer is error {
+        test:assertEquals(consumer.message(),
+                "expiredMessagePolicy DEAD_LETTER requires CLIENT_ACK on a queue or durable topic subscription");
+    }
+}
+
+@test:Config {groups: ["consumer", "init", "validation", "negative"]}
+isolated function testConsumerInitWithMaxDeliveryAttemptsOnAutoAck() returns error? {
+    MessageConsumer|error consumer = new (BROKER_URL, {
+        messageVpn: MESSAGE_VPN,
+        auth: {username: BROKER_USERNAME, password: BROKER_PASSWORD},
+        subscriptionConfig: {
+            queueName: CONSUMER_INIT_QUEUE,
+            maxDeliveryAttempts: 3,
+            deadLetterDestination: {queueName: CONSUMER_INIT_QUEUE}
+        }
+    });
+
+    test:assertTrue(consumer is error, "Dead-letter routing needs CLIENT_ACK");
+    if consumer is error {
+        test:assertEquals(consumer.message(),
+                "maxDeliveryAttempts requires CLIENT_ACK on a queue or durable topic subscription");
+    }
+}
+
 @test:Config {groups: ["consumer", "init", "validation", "negative"]}
 isolated function testConsumerInitWithDurableTopicMissingEndpointName() returns error? {
     TopicConfiguration subscriptionConfig = dynamicTopicConfiguration(CONSUMER_DURABLE_TOPIC, DURABLE);
@@ -255,6 +290,26 @@ isolated function testConsumerInitWithDurableTopicMissingEndpointName() returns
     }
 }
 
+@test:Config {groups: ["consumer", "init", "validation", "negative"]}
+isolated function testConsumerInitWithConflationOnDurableTopic() returns error? {
+    MessageConsumer|error consumer = new (BROKER_URL, {
+        messageVpn: MESSAGE_VPN,
+        auth: {username: BROKER_USERNAME, password: BROKER_PASSWORD},
+        subscriptionConfig: {
+            topicName: CONSUMER_DURABLE_TOPIC,
+            durability: DURABLE,
+            endpointName: "test-consumer-conflated-endpoint",
+            conflate: true
+        }
+    });
+
+    test:assertTrue(consumer is error, "Conflation on a DURABLE topic should fail validation");
+    if consumer is error {
+        test:assertEquals(consumer.message(),
+                "Failed to initialize consumer: conflate is only supported for TEMPORARY topic subscriptions");
+    }
+}
+
 isolated function dynamicQueueConfiguration(Durability durability) returns QueueConfiguration {
     return {durability};
 }
@@ -733,6 +788,53 @@ isolated function testConsumerReceiveFromDirectTopic() returns error? {
     check consumer->close();
 }
 
+@test:Config {groups: ["consumer", "receive"]}
+isolated function testConsumerReceiveConflatesDirectTopic() returns error? {
+    MessageConsumer consumer = check new (BROKER_URL, {
+        messageVpn: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {
+            topicName: CONSUMER_CONFLATED_TOPIC_PREFIX + "/>",
+            conflate: true
+        }
+    });
+
+    MessageProducer producer = check new (BROKER_URL, {
+        messageVpn: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        }
+    });
+    foreach int i in 1 ... 3 {
+        check producer->send({payload: string `price-${i}`.toBytes()},
+                {topicName: CONSUMER_CONFLATED_TOPIC_PREFIX + "/acme"});
+    }
+    check producer->send({payload: "volume-1".toBytes()}, {topicName: CONSUMER_CONFLATED_TOPIC_PREFIX + "/volume"});
+    check producer->close();
+    // Let every update arrive before the first receive, so the superseded prices are conflated away.
+    runtime:sleep(1);
+
+    BytesPayloadMessage? latestPrice = check consumer->receive(DEFAULT_RECEIVE_TIMEOUT);
+    BytesPayloadMessage? latestVolume = check consumer->receive(DEFAULT_RECEIVE_TIMEOUT);
+    BytesPayloadMessage? superseded = check consumer->receiveNoWait();
+
+    test:assertTrue(latestPrice is BytesPayloadMessage, "Should receive the latest price");
+    if latestPrice is BytesPayloadMessage {
+        test:assertEquals(latestPrice.payload, "price-3".toBytes(), "Only the newest price should be delivered");
+    }
+    test:assertTrue(latestVolume is BytesPayloadMessage, "Should receive the volume");
+    if latestVolume is BytesPayloadMessage {
+        test:assertEquals(latestVolume.payload, "volume-1".toBytes(), "Payload should match");
+    }
+    test:assertTrue(superseded is (), "Superseded prices should not be delivered");
+
+    check consumer->close();
+}
+
 @test:Config {groups: ["consumer", "receive"]}
 isolated function testConsumerReceiveWithSelector() returns error? {
     // Send message that matches selector
@@ -912,3 +1014,52 @@ isolated function testConsumerDefaultAckModeDoesNotRedeliver() returns error? {
 
     check consumer2->close();
 }
+
+@test:Config {groups: ["consumer", "stream"]}
+isolated function testConsumerStreamFromQueue() returns error? {
+    foreach int i in 1 ... 3 {
+        check sendMessageToQueue(CONSUMER_STREAM_QUEUE, string `Stream Message ${i}`);
+    }
+
+    MessageConsumer consumer = check new (BROKER_URL, {
+        messageVpn: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {queueName: CONSUMER_STREAM_QUEUE}
+    });
+
+    stream<Message, Error?> messages = check consumer->'stream(prefetch = 2, idleTimeout = SHORT_RECEIVE_TIMEOUT);
+    string[] received = check from Message msg in messages
+        select check string:fromBytes(<byte[]>msg.payload);
+    test:assertEquals(received, ["Stream Message 1", "Stream Message 2", "Stream Message 3"],
+            "Stream should yield every queued message in order and end once idle");
+
+    stream<Message, Error?>|Error second = consumer->'stream();
+    test:assertTrue(second is stream<Message, Error?>, "A new stream can be opened once the previous one ended");
+    if second is stream<Message, Error?> {
+        check second.close();
+    }
+
+    check consumer->close();
+}
+
+@test:Config {groups: ["consumer", "stream", "negative"]}
+isolated function testConsumerStreamWhileAnotherIsOpen() returns error? {
+    MessageConsumer consumer = check new (BROKER_URL, {
+        messageVpn: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {queueName: CONSUMER_TIMEOUT_QUEUE}
+    });
+
+    stream<Message, Error?> messages = check consumer->'stream();
+    stream<Message, Error?>|Error second = consumer->'stream();
+    test:assertTrue(second is Error, "Only one stream can be open on a consumer");
+
+    check messages.close();
+    check consumer->close();
+}
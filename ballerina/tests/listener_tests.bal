@@ -24,14 +24,24 @@ const string LISTENER_AUTOACK_QUEUE = "test/listener/autoack/queue";
 const string LISTENER_CLIENTACK_QUEUE = "test/listener/clientack/queue";
 const string LISTENER_DIRECT_TOPIC = "test/listener/direct/topic";
 const string LISTENER_NACK_QUEUE = "test/listener/nack/queue";
+const string LISTENER_NACK_DELAY_QUEUE = "test/listener/nack/delay/queue";
 const string LISTENER_TX_COMMIT_QUEUE = "test/listener/tx/commit/queue";
 const string LISTENER_TX_ROLLBACK_QUEUE = "test/listener/tx/rollback/queue";
+const string LISTENER_TX_AUTOCOMMIT_QUEUE = "test/listener/tx/autocommit/queue";
+const string LISTENER_TX_AUTOCOMMIT_CALLER_QUEUE = "test/listener/tx/autocommit/caller/queue";
 const string LISTENER_DURABLE_TOPIC = "test/listener/durable/topic";
 const string LISTENER_DURABLE_ENDPOINT = "test-listener-durable-endpoint";
 const string LISTENER_DUPLICATE_ATTACH_QUEUE = "test/listener/duplicate-attach/queue";
 const string LISTENER_DUPLICATE_ATTACH_SVC1_QUEUE = "test/listener/duplicate-attach/svc1/queue";
 const string LISTENER_DUPLICATE_ATTACH_SVC2_QUEUE = "test/listener/duplicate-attach/svc2/queue";
 const string LISTENER_DUPLICATE_ATTACH_REATTACH_QUEUE = "test/listener/duplicate-attach/reattach/queue";
+const string LISTENER_MULTI_FLOW_QUEUE = "test/listener/multiflow/queue";
+const string LISTENER_ROUTED_TOPIC_PREFIX = "test/listener/routed";
+const string LISTENER_MULTI_TOPIC_PREFIX = "test/listener/multitopic";
+const string LISTENER_TIMEOUT_QUEUE = "test/listener/timeout/queue";
+const string LISTENER_REQUEST_QUEUE = "test/listener/request/queue";
+const string LISTENER_REPLY_QUEUE = "test/listener/reply/queue";
+const string LISTENER_RECONFIGURE_QUEUE = "test/listener/reconfigure/queue";
 
 // Polling step and max steps used to wait for asynchronous conditions (delivery, redelivery, etc.).
 // Redelivery after a FAILED settlement outcome is usually immediate but can occasionally take
@@ -66,6 +76,12 @@ isolated class Recorder {
         }
     }
 
+    isolated function errorCount() returns int {
+        lock {
+            return self.errors;
+        }
+    }
+
     isolated function attemptCount() returns int {
         lock {
             return self.attempts;
@@ -329,6 +345,41 @@ function testListenerNackRequeueRedelivery() returns error? {
     test:assertTrue(queueEmpty, "After redelivery and ack the queue must be empty");
 }
 
+final Recorder nackDelayRecorder = new;
+
+Service nackDelayService = @ServiceConfig {
+    queueName: LISTENER_NACK_DELAY_QUEUE,
+    ackMode: AUTO_ACK
+} service object {
+    remote function onMessage(StringPayloadMessage message, Caller caller) returns error? {
+        int attempt = nackDelayRecorder.nextAttempt();
+        nackDelayRecorder.add(message.payload);
+        if attempt == 1 {
+            // Returning normally must not auto-ack the message while its delayed NACK is pending.
+            check caller->nack(message, requeue = true, delay = 1.0);
+        }
+    }
+};
+
+@test:Config {groups: ["listener", "autoack"]}
+function testListenerAutoAckDelayedNackRedelivery() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    check solaceListener.attach(nackDelayService);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    string payload = "listener-nack-delay-payload";
+    check publish({queueName: LISTENER_NACK_DELAY_QUEUE}, payload, PERSISTENT);
+    waitForAttempts(nackDelayRecorder, 2);
+    boolean redelivered = nackDelayRecorder.attemptCount() >= 2;
+    runtime:sleep(1);
+    check solaceListener.gracefulStop();
+
+    boolean queueEmpty = check queueIsEmpty(LISTENER_NACK_DELAY_QUEUE);
+    test:assertTrue(redelivered, "A delayed NACK from an AUTO_ACK service should redeliver the message");
+    test:assertTrue(queueEmpty, "The redelivered message should have been auto-acked (queue must be empty)");
+}
+
 // ========================================
 // Transacted listener: commit
 // ========================================
@@ -533,3 +584,371 @@ function testListenerAllowsReattachAfterDetach() returns error? {
 
     test:assertTrue(received, "The re-attached service should receive the message after being detached and re-attached");
 }
+
+// ========================================
+// Several flows bound to one non-exclusive queue
+// ========================================
+final Recorder multiFlowRecorder = new;
+
+Service multiFlowService = @ServiceConfig {
+    queueName: LISTENER_MULTI_FLOW_QUEUE,
+    ackMode: AUTO_ACK,
+    flowCount: 3
+} service object {
+    remote function onMessage(StringPayloadMessage message) returns error? {
+        multiFlowRecorder.add(message.payload);
+    }
+};
+
+// With flowCount > 1 the broker spreads the queue over several flows; every message must still be delivered
+// exactly once and settled.
+@test:Config {groups: ["listener"]}
+function testListenerMultipleFlowsOnQueue() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    check solaceListener.attach(multiFlowService);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    int messageCount = 12;
+    foreach int i in 0 ..< messageCount {
+        check publish({queueName: LISTENER_MULTI_FLOW_QUEUE}, string `listener-multiflow-payload-${i}`, PERSISTENT);
+    }
+    waitForMessages(multiFlowRecorder, messageCount);
+    int received = multiFlowRecorder.count();
+    runtime:sleep(1);
+    check solaceListener.gracefulStop();
+
+    boolean queueEmpty = check queueIsEmpty(LISTENER_MULTI_FLOW_QUEUE);
+    test:assertEquals(received, messageCount, "Every message should be delivered exactly once across the flows");
+    test:assertTrue(queueEmpty, "AUTO_ACK should have settled every message (queue must be empty)");
+}
+
+// ========================================
+// Transacted listener: automatic batch commit
+// ========================================
+final Recorder txAutoCommitRecorder = new;
+
+Service txAutoCommitService = @ServiceConfig {
+    queueName: LISTENER_TX_AUTOCOMMIT_QUEUE,
+    ackMode: AUTO_ACK,
+    autoCommit: {maxMessages: 2, maxInterval: 0.5}
+} service object {
+    remote function onMessage(StringPayloadMessage message) returns error? {
+        int attempt = txAutoCommitRecorder.nextAttempt();
+        txAutoCommitRecorder.add(message.payload);
+        if attempt == 1 {
+            // Fail the first delivery so its batch is rolled back and redelivered.
+            return error("Simulated processing failure");
+        }
+    }
+};
+
+// One full batch (maxMessages) and one partial batch (flushed by maxInterval) must both be committed, and a failed
+// handler must roll its batch back for redelivery.
+@test:Config {groups: ["listener", "transacted"]}
+function testListenerTransactedAutoCommit() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {
+        messageVpn: MESSAGE_VPN,
+        transacted: true,
+        auth: {username: BROKER_USERNAME, password: BROKER_PASSWORD}
+    });
+    check solaceListener.attach(txAutoCommitService);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    foreach int i in 0 ..< 3 {
+        check publish({queueName: LISTENER_TX_AUTOCOMMIT_QUEUE}, string `listener-tx-autocommit-payload-${i}`,
+                PERSISTENT);
+    }
+    // 3 messages plus the redelivery of the rolled-back first one.
+    waitForAttempts(txAutoCommitRecorder, 4);
+    int attempts = txAutoCommitRecorder.attemptCount();
+    // Give the interval-driven commit of the partial batch time to reach the broker.
+    runtime:sleep(2);
+    check solaceListener.gracefulStop();
+
+    boolean queueEmpty = check queueIsEmpty(LISTENER_TX_AUTOCOMMIT_QUEUE);
+    test:assertTrue(attempts >= 4, "The rolled-back batch should have been redelivered");
+    test:assertTrue(queueEmpty, "Every batch should have been committed (queue must be empty)");
+}
+
+final Recorder txAutoCommitCallerRecorder = new;
+
+Service txAutoCommitCallerService = @ServiceConfig {
+    queueName: LISTENER_TX_AUTOCOMMIT_CALLER_QUEUE,
+    ackMode: AUTO_ACK,
+    autoCommit: {maxMessages: 1}
+} service object {
+    remote function onMessage(StringPayloadMessage message, Caller caller) returns error? {
+        Error? committed = caller->'commit();
+        if committed is Error {
+            txAutoCommitCallerRecorder.add(committed.message());
+        }
+        Error? rolledBack = caller->'rollback();
+        if rolledBack is Error {
+            txAutoCommitCallerRecorder.add(rolledBack.message());
+        }
+    }
+};
+
+// Under autoCommit the listener owns the transaction, so the caller's commit and rollback are refused and the
+// message is still committed by the batcher.
+@test:Config {groups: ["listener", "transacted"]}
+function testListenerTransactedAutoCommitRejectsCallerSettlement() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig(), transacted: true});
+    check solaceListener.attach(txAutoCommitCallerService);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    check publish({queueName: LISTENER_TX_AUTOCOMMIT_CALLER_QUEUE}, "listener-tx-autocommit-caller-payload",
+            PERSISTENT);
+    waitForMessages(txAutoCommitCallerRecorder, 2);
+    runtime:sleep(1);
+    check solaceListener.gracefulStop();
+
+    boolean queueEmpty = check queueIsEmpty(LISTENER_TX_AUTOCOMMIT_CALLER_QUEUE);
+    test:assertTrue(txAutoCommitCallerRecorder.contains("commit() is not supported on a service with autoCommit; "
+            + "the listener commits processed messages in batches and rolls a batch back when onMessage returns "
+            + "an error."), "caller->commit() should be refused under autoCommit");
+    test:assertTrue(txAutoCommitCallerRecorder.contains("rollback() is not supported on a service with autoCommit; "
+            + "the listener commits processed messages in batches and rolls a batch back when onMessage returns "
+            + "an error."), "caller->rollback() should be refused under autoCommit");
+    test:assertTrue(queueEmpty, "The batcher should still have committed the message (queue must be empty)");
+}
+
+// ========================================
+// Several direct topic services on one listener
+// ========================================
+final Recorder routedOrdersRecorder = new;
+final Recorder routedAllRecorder = new;
+
+Service routedOrdersService = @ServiceConfig {
+    topicName: LISTENER_ROUTED_TOPIC_PREFIX + "/orders/*"
+} service object {
+    remote function onMessage(StringPayloadMessage message) returns error? {
+        routedOrdersRecorder.add(message.payload);
+    }
+};
+
+Service routedAllService = @ServiceConfig {
+    topicName: LISTENER_ROUTED_TOPIC_PREFIX + "/>"
+} service object {
+    remote function onMessage(StringPayloadMessage message) returns error? {
+        routedAllRecorder.add(message.payload);
+    }
+};
+
+// Both services share the session's consumer; each message must reach exactly the services whose subscription
+// matches it.
+@test:Config {groups: ["listener"]}
+function testListenerMultipleDirectTopicServices() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    check solaceListener.attach(routedOrdersService);
+    check solaceListener.attach(routedAllService);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    check publish({topicName: LISTENER_ROUTED_TOPIC_PREFIX + "/orders/created"}, "listener-routed-order", DIRECT);
+    check publish({topicName: LISTENER_ROUTED_TOPIC_PREFIX + "/payments/created"}, "listener-routed-payment",
+            DIRECT);
+    waitForMessages(routedAllRecorder, 2);
+    waitForMessages(routedOrdersRecorder, 1);
+    runtime:sleep(1);
+    int allCount = routedAllRecorder.count();
+    int ordersCount = routedOrdersRecorder.count();
+    boolean orderReceived = routedOrdersRecorder.contains("listener-routed-order");
+    check solaceListener.gracefulStop();
+
+    test:assertEquals(allCount, 2, "The '>' service should receive every message under the prefix");
+    test:assertEquals(ordersCount, 1, "The '*' service should receive only the matching message");
+    test:assertTrue(orderReceived, "The '*' service should receive the order message");
+}
+
+// ========================================
+// One direct topic service subscribed to several topics
+// ========================================
+final Recorder multiTopicRecorder = new;
+
+Service multiTopicService = @ServiceConfig {
+    topicName: [LISTENER_MULTI_TOPIC_PREFIX + "/orders", LISTENER_MULTI_TOPIC_PREFIX + "/payments",
+        LISTENER_MULTI_TOPIC_PREFIX + "/>"]
+} service object {
+    remote function onMessage(StringPayloadMessage message) returns error? {
+        multiTopicRecorder.add(message.payload);
+    }
+};
+
+// The service receives every one of its topics on a single lane, and a message matching several of its overlapping
+// subscriptions reaches it once.
+@test:Config {groups: ["listener"]}
+function testListenerServiceWithSeveralTopics() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    check solaceListener.attach(multiTopicService);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    check publish({topicName: LISTENER_MULTI_TOPIC_PREFIX + "/orders"}, "listener-multi-order", DIRECT);
+    check publish({topicName: LISTENER_MULTI_TOPIC_PREFIX + "/payments"}, "listener-multi-payment", DIRECT);
+    check publish({topicName: LISTENER_MULTI_TOPIC_PREFIX + "/refunds"}, "listener-multi-refund", DIRECT);
+    waitForMessages(multiTopicRecorder, 3);
+    runtime:sleep(1);
+    int count = multiTopicRecorder.count();
+    boolean orderReceived = multiTopicRecorder.contains("listener-multi-order");
+    boolean paymentReceived = multiTopicRecorder.contains("listener-multi-payment");
+    check solaceListener.gracefulStop();
+
+    test:assertEquals(count, 3, "Each message should be delivered once, however many subscriptions it matches");
+    test:assertTrue(orderReceived, "The service should receive messages on its first topic");
+    test:assertTrue(paymentReceived, "The service should receive messages on its second topic");
+}
+
+// ========================================
+// Processing timeout
+// ========================================
+final Recorder timeoutRecorder = new;
+
+Service timeoutService = @ServiceConfig {
+    queueName: LISTENER_TIMEOUT_QUEUE,
+    ackMode: CLIENT_ACK,
+    processingTimeout: 1,
+    processingTimeoutAction: REQUEUE
+} service object {
+    remote function onMessage(StringPayloadMessage message, Caller caller) returns error? {
+        if timeoutRecorder.nextAttempt() == 1 {
+            // Overrun the timeout; by the time this ack runs the listener has requeued the message.
+            runtime:sleep(3);
+            error? lateAck = caller->ack(message);
+            if lateAck is error {
+                timeoutRecorder.addError();
+            }
+            return;
+        }
+        timeoutRecorder.add(message.payload);
+        check caller->ack(message);
+    }
+};
+
+// The first invocation overruns its timeout: the message must be requeued and redelivered while the abandoned
+// invocation is still running, and that invocation's late ack must be refused.
+@test:Config {groups: ["listener", "clientack"]}
+function testListenerProcessingTimeoutRequeues() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    check solaceListener.attach(timeoutService);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    string payload = "listener-timeout-payload";
+    check publish({queueName: LISTENER_TIMEOUT_QUEUE}, payload, PERSISTENT);
+    waitForMessages(timeoutRecorder, 1);
+    boolean redelivered = timeoutRecorder.contains(payload);
+    // Let the abandoned invocation wake up and attempt its late ack.
+    runtime:sleep(4);
+    int refusedAcks = timeoutRecorder.errorCount();
+    check solaceListener.gracefulStop();
+
+    boolean queueEmpty = check queueIsEmpty(LISTENER_TIMEOUT_QUEUE);
+    test:assertTrue(redelivered, "A timed-out message should be requeued and redelivered");
+    test:assertEquals(refusedAcks, 1, "The abandoned invocation's late ack should be refused");
+    test:assertTrue(queueEmpty, "After redelivery and ack the queue must be empty");
+}
+
+// ========================================
+// Request-reply
+// ========================================
+Service replyingService = @ServiceConfig {
+    queueName: LISTENER_REQUEST_QUEUE,
+    ackMode: AUTO_ACK
+} service object {
+    remote function onMessage(StringPayloadMessage message) returns string {
+        return "reply:" + message.payload;
+    }
+};
+
+// The value returned by onMessage is published to the request's replyTo with the request's correlation ID.
+@test:Config {groups: ["listener"]}
+function testListenerRepliesWithReturnValue() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    check solaceListener.attach(replyingService);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    MessageProducer producer = check new (BROKER_URL, {...connectionConfig()});
+    check producer->send({
+        payload: "listener-request-payload",
+        deliveryMode: PERSISTENT,
+        correlationId: "listener-request-1",
+        replyTo: {queueName: LISTENER_REPLY_QUEUE}
+    }, {queueName: LISTENER_REQUEST_QUEUE});
+    check producer->close();
+
+    MessageConsumer consumer = check new (BROKER_URL, {
+        ...connectionConfig(),
+        subscriptionConfig: {queueName: LISTENER_REPLY_QUEUE}
+    });
+    StringPayloadMessage? reply = check consumer->receive(DEFAULT_RECEIVE_TIMEOUT);
+    check consumer->close();
+    check solaceListener.gracefulStop();
+
+    test:assertTrue(reply is StringPayloadMessage, "The service's return value should be published as a reply");
+    if reply is StringPayloadMessage {
+        test:assertEquals(reply.payload, "reply:listener-request-payload", "Reply payload should match");
+        test:assertEquals(reply.correlationId, "listener-request-1", "Reply should carry the correlation ID");
+    }
+}
+
+// ========================================
+// Reconfiguration
+// ========================================
+final Recorder reconfigureRecorder = new;
+
+Service reconfiguredService = @ServiceConfig {
+    queueName: LISTENER_RECONFIGURE_QUEUE,
+    ackMode: AUTO_ACK
+} service object {
+    remote function onMessage(StringPayloadMessage message) returns error? {
+        reconfigureRecorder.add(message.payload);
+    }
+};
+
+// Messages published before and after the switch-over must all be processed exactly once by the service.
+@test:Config {groups: ["listener"]}
+function testListenerReconfigureService() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    check solaceListener.attach(reconfiguredService);
+    check solaceListener.'start();
+    runtime:sleep(2);
+
+    foreach int i in 0 ..< 5 {
+        check publish({queueName: LISTENER_RECONFIGURE_QUEUE}, string `listener-reconfigure-${i}`, PERSISTENT);
+    }
+    check solaceListener.reconfigure(reconfiguredService, {
+        queueName: LISTENER_RECONFIGURE_QUEUE,
+        ackMode: AUTO_ACK,
+        transportWindowSize: 10,
+        ackThreshold: 50
+    });
+    foreach int i in 5 ..< 10 {
+        check publish({queueName: LISTENER_RECONFIGURE_QUEUE}, string `listener-reconfigure-${i}`, PERSISTENT);
+    }
+    waitForMessages(reconfigureRecorder, 10);
+    runtime:sleep(1);
+    int count = reconfigureRecorder.count();
+    boolean lastReceived = reconfigureRecorder.contains("listener-reconfigure-9");
+    check solaceListener.gracefulStop();
+
+    boolean queueEmpty = check queueIsEmpty(LISTENER_RECONFIGURE_QUEUE);
+    test:assertEquals(count, 10, "Every message should be processed once across the switch-over");
+    test:assertTrue(lastReceived, "Messages published after reconfiguring should reach the service");
+    test:assertTrue(queueEmpty, "All messages should be acknowledged");
+}
+
+@test:Config {groups: ["listener", "negative"]}
+function testListenerReconfigureUnattachedService() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    error? result = solaceListener.reconfigure(reconfiguredService, {queueName: LISTENER_RECONFIGURE_QUEUE});
+    check solaceListener.gracefulStop();
+    test:assertTrue(result is error, "Reconfiguring a service that is not attached should fail");
+    if result is error {
+        test:assertEquals(result.message(), "Service is not attached to this listener");
+    }
+}
@@ -0,0 +1,113 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {groups: ["browser"]}
+isolated function testBrowserDoesNotConsume() returns error? {
+    foreach int i in 1 ... 3 {
+        check sendMessageToQueue(BROWSER_QUEUE, string `Browse Message ${i}`);
+    }
+
+    QueueBrowser browser = check new (BROKER_URL,
+        messageVpn = MESSAGE_VPN,
+        auth = {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        queueName = BROWSER_QUEUE,
+        prefetch = 2
+    );
+    Message[] batch = check browser->nextBatch(2);
+    test:assertTrue(batch.length() >= 1 && batch.length() <= 2, "A batch should hold at most the requested count");
+    string[] browsed = from Message msg in batch
+        select check string:fromBytes(<byte[]>msg.payload);
+    stream<Message, Error?> rest = browser->'stream(SHORT_RECEIVE_TIMEOUT);
+    check from Message msg in rest
+        do {
+            browsed.push(check string:fromBytes(<byte[]>msg.payload));
+        };
+    test:assertEquals(browsed, ["Browse Message 1", "Browse Message 2", "Browse Message 3"],
+            "Browser should return the backlog in order");
+    check browser->close();
+
+    MessageConsumer consumer = check new (BROKER_URL, {
+        messageVpn: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {queueName: BROWSER_QUEUE}
+    });
+    foreach int i in 1 ... 3 {
+        Message? msg = check consumer->receive(DEFAULT_RECEIVE_TIMEOUT);
+        test:assertTrue(msg is Message, "Browsed messages must stay on the queue");
+    }
+    check consumer->close();
+}
+
+@test:Config {groups: ["browser"]}
+isolated function testBrowserRemove() returns error? {
+    check sendMessageToQueue(BROWSER_REMOVE_QUEUE, "Remove Me");
+    check sendMessageToQueue(BROWSER_REMOVE_QUEUE, "Keep Me");
+
+    QueueBrowser browser = check new (BROKER_URL,
+        messageVpn = MESSAGE_VPN,
+        auth = {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        queueName = BROWSER_REMOVE_QUEUE
+    );
+    Message? first = check browser->next(DEFAULT_RECEIVE_TIMEOUT);
+    test:assertTrue(first is Message, "Browser should return the first queued message");
+    if first is Message {
+        check browser->remove(first);
+    }
+    check browser->close();
+
+    MessageConsumer consumer = check new (BROKER_URL, {
+        messageVpn: MESSAGE_VPN,
+        auth: {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        subscriptionConfig: {queueName: BROWSER_REMOVE_QUEUE}
+    });
+    Message? msg = check consumer->receive(DEFAULT_RECEIVE_TIMEOUT);
+    test:assertTrue(msg is Message, "The message that was not removed should still be queued");
+    if msg is Message {
+        test:assertEquals(check string:fromBytes(<byte[]>msg.payload), "Keep Me");
+    }
+    Message? none = check consumer->receive(SHORT_RECEIVE_TIMEOUT);
+    test:assertTrue(none is (), "The removed message must not be delivered");
+    check consumer->close();
+}
+
+@test:Config {groups: ["browser", "negative"]}
+isolated function testBrowserAfterClose() returns error? {
+    QueueBrowser browser = check new (BROKER_URL,
+        messageVpn = MESSAGE_VPN,
+        auth = {
+            username: BROKER_USERNAME,
+            password: BROKER_PASSWORD
+        },
+        queueName = BROWSER_QUEUE
+    );
+    check browser->close();
+    Message|Error? result = browser->next(0);
+    test:assertTrue(result is Error, "A closed browser cannot browse");
+}
@@ -44,11 +44,12 @@ for i in $(seq 1 30); do
     sleep 2
 done
 
-# Function to create a queue. Retries a few times: the SEMP API can report the broker as
+# Function to create a queue, optionally with an access type (defaults to exclusive). Retries a few times: the SEMP API can report the broker as
 # reachable (see the readiness poll above) before its message-spool subsystem is actually
 # ready to accept queue creation, which otherwise fails with MESSAGE_SPOOL_DATA_NOT_AVAILABLE.
 create_queue() {
     local queue_name=$1
+    local access_type=${2:-exclusive}
     echo "Creating queue: $queue_name"
 
     for attempt in 1 2 3 4 5; do
@@ -57,7 +58,7 @@ create_queue() {
             -H "Content-Type: application/json" \
             -d "{
                 \"queueName\": \"$queue_name\",
-                \"accessType\": \"exclusive\",
+                \"accessType\": \"$access_type\",
                 \"permission\": \"delete\",
                 \"ingressEnabled\": true,
                 \"egressEnabled\": true,
@@ -150,6 +151,9 @@ create_queue "test/consumer/selector/queue"
 create_queue "test/consumer/multiple/queue"
 create_queue "test/consumer/flow/queue"
 create_queue "test/consumer/standby/queue"
+create_queue "test/consumer/stream/queue"
+create_queue "test/browser/queue"
+create_queue "test/browser/remove/queue"
 
 # Consumer transaction test queues
 echo "Creating consumer transaction test queues..."
@@ -164,8 +168,11 @@ create_queue "test/consumer/tx/standby/queue"
 echo "Creating client ACK test queues..."
 create_queue "test/consumer/ack/single/queue"
 create_queue "test/consumer/ack/multiple/queue"
+create_queue "test/consumer/ack/all/queue"
+create_queue "test/consumer/nack/all/queue"
 create_queue "test/consumer/nack/requeue/queue"
 create_queue "test/consumer/nack/reject/queue"
+create_queue "test/consumer/nack/delay/queue"
 create_queue "test/consumer/ack/redelivery/queue"
 create_queue "test/consumer/ack/defaultmode/queue"
 
@@ -200,12 +207,20 @@ echo "Creating listener test queues..."
 create_queue "test/listener/autoack/queue"
 create_queue "test/listener/clientack/queue"
 create_queue "test/listener/nack/queue"
+create_queue "test/listener/nack/delay/queue"
 create_queue "test/listener/tx/commit/queue"
 create_queue "test/listener/tx/rollback/queue"
+create_queue "test/listener/tx/autocommit/queue"
+create_queue "test/listener/tx/autocommit/caller/queue"
 create_queue "test/listener/duplicate-attach/queue"
 create_queue "test/listener/duplicate-attach/svc1/queue"
 create_queue "test/listener/duplicate-attach/svc2/queue"
 create_queue "test/listener/duplicate-attach/reattach/queue"
+create_queue "test/listener/multiflow/queue" "non-exclusive"
+create_queue "test/listener/timeout/queue"
+create_queue "test/listener/request/queue"
+create_queue "test/listener/reply/queue"
+create_queue "test/listener/reconfigure/queue" "non-exclusive"
 
 # Error test queues
 echo "Creating error test queues..."
@@ -74,3 +74,270 @@ function testValidationServiceAckTimerTooHigh() returns error? {
     }
     check solaceListener.gracefulStop();
 }
+
+@test:Config {groups: ["listener", "validation", "negative"]}
+function testValidationServiceFlowCountTooLow() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    Service invalidFlowCountService = @ServiceConfig {
+        queueName: BINDING_VALIDATION_QUEUE,
+        flowCount: 0
+    } service object {
+        remote function onMessage(Message message) returns error? {
+        }
+    };
+    error? result = solaceListener.attach(invalidFlowCountService);
+    test:assertTrue(result is error, "flowCount below 1 should fail validation");
+    if result is error {
+        test:assertEquals(result.message(), "Failed to attach service: flowCount must be at least 1");
+    }
+    check solaceListener.gracefulStop();
+}
+
+@test:Config {groups: ["listener", "validation", "negative"]}
+function testValidationServiceAdaptiveWindowOnDirectTopic() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    Service invalidWindowService = @ServiceConfig {
+        topicName: "test/validation/adaptive/topic",
+        adaptiveWindow: {}
+    } service object {
+        remote function onMessage(Message message) returns error? {
+        }
+    };
+    error? result = solaceListener.attach(invalidWindowService);
+    test:assertTrue(result is error, "adaptiveWindow on a direct topic should fail validation");
+    if result is error {
+        test:assertEquals(result.message(), "Failed to attach service: adaptiveWindow is only supported for "
+                + "queue and durable topic subscriptions");
+    }
+    check solaceListener.gracefulStop();
+}
+
+@test:Config {groups: ["listener", "validation", "negative"]}
+function testValidationServiceCircuitBreakerThreshold() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    Service invalidBreakerService = @ServiceConfig {
+        queueName: BINDING_VALIDATION_QUEUE,
+        circuitBreaker: {failureRateThreshold: 0.0}
+    } service object {
+        remote function onMessage(Message message) returns error? {
+        }
+    };
+    error? result = solaceListener.attach(invalidBreakerService);
+    test:assertTrue(result is error, "A zero failure rate threshold should fail validation");
+    if result is error {
+        test:assertEquals(result.message(), "Failed to attach service: circuitBreaker.failureRateThreshold must be "
+                + "greater than 0 and at most 1");
+    }
+    check solaceListener.gracefulStop();
+}
+
+@test:Config {groups: ["listener", "validation", "negative"]}
+function testValidationServiceZeroProcessingTimeout() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    Service invalidTimeoutService = @ServiceConfig {
+        queueName: BINDING_VALIDATION_QUEUE,
+        processingTimeout: 0
+    } service object {
+        remote function onMessage(Message message) returns error? {
+        }
+    };
+    error? result = solaceListener.attach(invalidTimeoutService);
+    test:assertTrue(result is error, "A zero processing timeout should fail validation");
+    if result is error {
+        test:assertEquals(result.message(),
+                "Failed to attach service: processingTimeout must be at least 0.001 seconds");
+    }
+    check solaceListener.gracefulStop();
+}
+
+@test:Config {groups: ["listener", "validation", "negative"]}
+function testValidationServiceZeroPriorityDispatchCapacity() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    Service invalidPriorityService = @ServiceConfig {
+        queueName: BINDING_VALIDATION_QUEUE,
+        priorityDispatch: {capacity: 0}
+    } service object {
+        remote function onMessage(Message message) returns error? {
+        }
+    };
+    error? result = solaceListener.attach(invalidPriorityService);
+    test:assertTrue(result is error, "A zero priority dispatch capacity should fail validation");
+    if result is error {
+        test:assertEquals(result.message(),
+                "Failed to attach service: priorityDispatch.capacity must be at least 1");
+    }
+    check solaceListener.gracefulStop();
+}
+
+@test:Config {groups: ["listener", "validation", "negative"]}
+function testValidationServiceZeroMaxRate() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    Service invalidRateService = @ServiceConfig {
+        queueName: BINDING_VALIDATION_QUEUE,
+        maxRate: 0
+    } service object {
+        remote function onMessage(Message message) returns error? {
+        }
+    };
+    error? result = solaceListener.attach(invalidRateService);
+    test:assertTrue(result is error, "A zero maxRate should fail validation");
+    if result is error {
+        test:assertEquals(result.message(), "Failed to attach service: maxRate must be greater than 0");
+    }
+    check solaceListener.gracefulStop();
+}
+
+@test:Config {groups: ["listener", "validation", "negative"]}
+function testValidationServiceZeroDeduplicationCapacity() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    Service invalidDeduplicationService = @ServiceConfig {
+        queueName: BINDING_VALIDATION_QUEUE,
+        deduplication: {capacity: 0}
+    } service object {
+        remote function onMessage(Message message) returns error? {
+        }
+    };
+    error? result = solaceListener.attach(invalidDeduplicationService);
+    test:assertTrue(result is error, "A zero deduplication capacity should fail validation");
+    if result is error {
+        test:assertEquals(result.message(),
+                "Failed to attach service: deduplication.capacity must be between 1 and 16777216");
+    }
+    check solaceListener.gracefulStop();
+}
+
+@test:Config {groups: ["listener", "validation", "negative"]}
+function testValidationServiceReplayOnTemporaryTopic() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    Service invalidReplayService = @ServiceConfig {
+        topicName: "test/validation/replay",
+        replayFrom: REPLAY_FROM_BEGINNING
+    } service object {
+        remote function onMessage(Message message) returns error? {
+        }
+    };
+    error? result = solaceListener.attach(invalidReplayService);
+    test:assertTrue(result is error, "Replay on a TEMPORARY topic subscription should fail validation");
+    if result is error {
+        test:assertEquals(result.message(),
+                "Failed to attach service: replayFrom is only supported for DURABLE topic subscriptions");
+    }
+    check solaceListener.gracefulStop();
+}
+
+@test:Config {groups: ["listener", "validation", "negative"]}
+function testValidationServiceExpiredPolicyWithoutExpiration() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    Service invalidExpiredPolicyService = @ServiceConfig {
+        queueName: BINDING_VALIDATION_QUEUE,
+        expiredMessagePolicy: DISCARD
+    } service object {
+        remote function onMessage(Message message) returns error? {
+        }
+    };
+    error? result = solaceListener.attach(invalidExpiredPolicyService);
+    test:assertTrue(result is error,
+            "An expired message policy without calculateMessageExpiration should fail validation");
+    if result is error {
+        test:assertEquals(result.message(),
+                "expiredMessagePolicy requires calculateMessageExpiration to be enabled on the listener");
+    }
+    check solaceListener.gracefulStop();
+}
+
+@test:Config {groups: ["listener", "validation", "negative"]}
+function testValidationServiceMaxDeliveryAttemptsWithoutDestination() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    Service invalidDeadLetterService = @ServiceConfig {
+        queueName: BINDING_VALIDATION_QUEUE,
+        maxDeliveryAttempts: 3
+    } service object {
+        remote function onMessage(Message message) returns error? {
+        }
+    };
+    error? result = solaceListener.attach(invalidDeadLetterService);
+    test:assertTrue(result is error, "maxDeliveryAttempts without a deadLetterDestination should fail validation");
+    if result is error {
+        test:assertEquals(result.message(),
+                "Failed to attach service: maxDeliveryAttempts requires a deadLetterDestination");
+    }
+    check solaceListener.gracefulStop();
+}
+
+@test:Config {groups: ["listener", "validation", "negative"]}
+function testValidationServiceSeveralTopicsOnDurableEndpoint() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    Service invalidTopicsService = @ServiceConfig {
+        topicName: ["test/validation/topics/a", "test/validation/topics/b"],
+        durability: DURABLE,
+        endpointName: "test-validation-topics-endpoint"
+    } service object {
+        remote function onMessage(Message message) returns error? {
+        }
+    };
+    error? result = solaceListener.attach(invalidTopicsService);
+    test:assertTrue(result is error, "Several topics on a DURABLE topic subscription should fail validation");
+    if result is error {
+        test:assertEquals(result.message(),
+                "Failed to attach service: A DURABLE topic subscription takes a single topicName");
+    }
+    check solaceListener.gracefulStop();
+}
+
+@test:Config {groups: ["listener", "validation", "negative"]}
+function testValidationServiceConflationOnDurableEndpoint() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig()});
+    Service invalidConflationService = @ServiceConfig {
+        topicName: "test/validation/conflation",
+        durability: DURABLE,
+        endpointName: "test-validation-conflation-endpoint",
+        conflate: true
+    } service object {
+        remote function onMessage(Message message) returns error? {
+        }
+    };
+    error? result = solaceListener.attach(invalidConflationService);
+    test:assertTrue(result is error, "Conflation on a DURABLE topic subscription should fail validation");
+    if result is error {
+        test:assertEquals(result.message(),
+                "Failed to attach service: conflate is only supported for TEMPORARY topic subscriptions");
+    }
+    check solaceListener.gracefulStop();
+}
+
+@test:Config {groups: ["listener", "validation", "negative"]}
+function testValidationServiceAutoCommitOnSharedTransaction() returns error? {
+    Listener solaceListener = check new (BROKER_URL, {...connectionConfig(), transacted: true});
+    Service clientAckService = @ServiceConfig {
+        queueName: "test-validation-shared-tx-queue",
+        ackMode: CLIENT_ACK
+    } service object {
+        remote function onMessage(Message message) returns error? {
+        }
+    };
+    Service autoCommitService = @ServiceConfig {
+        queueName: "test-validation-shared-tx-autocommit-queue",
+        autoCommit: {maxMessages: 10}
+    } service object {
+        remote function onMessage(Message message) returns error? {
+        }
+    };
+    check solaceListener.attach(clientAckService);
+    error? result = solaceListener.attach(autoCommitService);
+    test:assertTrue(result is error, "autoCommit should be rejected on a transaction shared with another service");
+    if result is error {
+        test:assertEquals(result.message(), "autoCommit commits the listener's transaction for every service, so "
+                + "it requires a transacted listener of its own. Attach this service to a separate listener.");
+    }
+
+    check solaceListener.detach(clientAckService);
+    check solaceListener.attach(autoCommitService);
+    result = solaceListener.attach(clientAckService);
+    test:assertTrue(result is error, "A service should be rejected on a transaction committed by autoCommit");
+    if result is error {
+        test:assertEquals(result.message(), "Another service on this transacted listener uses autoCommit, which "
+                + "commits the listener's transaction for every service. Attach this service to a listener of its "
+                + "own.");
+    }
+    check solaceListener.gracefulStop();
+}
@@ -85,6 +85,9 @@ const string CONSUMER_SELECTOR_QUEUE = "test/consumer/selector/queue";
 const string CONSUMER_MULTIPLE_QUEUE = "test/consumer/multiple/queue";
 const string CONSUMER_FLOW_QUEUE = "test/consumer/flow/queue";
 const string CONSUMER_STANDBY_QUEUE = "test/consumer/standby/queue";
+const string CONSUMER_STREAM_QUEUE = "test/consumer/stream/queue";
+const string BROWSER_QUEUE = "test/browser/queue";
+const string BROWSER_REMOVE_QUEUE = "test/browser/remove/queue";
 const string CONSUMER_TX_STANDBY_QUEUE = "test/consumer/tx/standby/queue";
 const string CONSUMER_STANDBY_DURABLE_TOPIC = "test/consumer/standby/durable/topic";
 const string CONSUMER_STANDBY_DURABLE_ENDPOINT = "test-consumer-standby-durable-endpoint";
@@ -100,13 +103,17 @@ const string CONSUMER_TX_COORDINATED_QUEUE = "test/consumer/tx/coordinated/queue
 const string CONSUMER_DIRECT_TOPIC = "test/consumer/direct/topic";
 const string CONSUMER_EMPTY_DIRECT_TOPIC = "test/consumer/direct/empty/topic";
 const string CONSUMER_DURABLE_TOPIC = "test/consumer/durable/topic";
+const string CONSUMER_CONFLATED_TOPIC_PREFIX = "test/consumer/conflated";
 const string CONSUMER_DURABLE_ENDPOINT = "test-consumer-durable-endpoint";
 
 // Client ACK test queues
 const string ACK_SINGLE_QUEUE = "test/consumer/ack/single/queue";
 const string ACK_MULTIPLE_QUEUE = "test/consumer/ack/multiple/queue";
+const string ACK_ALL_QUEUE = "test/consumer/ack/all/queue";
+const string NACK_ALL_QUEUE = "test/consumer/nack/all/queue";
 const string NACK_REQUEUE_QUEUE = "test/consumer/nack/requeue/queue";
 const string NACK_REJECT_QUEUE = "test/consumer/nack/reject/queue";
+const string NACK_DELAY_QUEUE = "test/consumer/nack/delay/queue";
 const string ACK_REDELIVERY_QUEUE = "test/consumer/ack/redelivery/queue";
 const string ACK_DEFAULT_MODE_QUEUE = "test/consumer/ack/defaultmode/queue";
 
@@ -26,6 +26,9 @@
 # ```
 # Declaring a narrowed `payload` type (`T`) causes the message payload to be data-bound into that
 # type; declaring the base `solace:Message` type yields the raw payload as `anydata`.
+# `onMessage` may also return a `solace:Message` or any other `anydata` value (alongside `error?`). A
+# returned value is published on the listener's session as the reply to the message, addressed to its
+# `replyTo` and carrying its `correlationId`; a value that is not a `solace:Message` becomes the payload.
 # The subscription (queue or topic) and flow options are supplied via the
 # `@solace:ServiceConfig` annotation on the service.
 public type Service distinct service object {
@@ -249,6 +252,10 @@ type CommonConsumerConnectionConfiguration record {|
 # Note: Subscription (queue or topic) is specified per-service via the ServiceConfig annotation
 public type ListenerConfiguration record {|
     *CommonConsumerConnectionConfiguration;
+    # Maximum time in seconds that `gracefulStop()` and `detach()` wait for messages already handed to services to
+    # finish processing. All services drain in parallel within this single budget; whatever is still queued when it
+    # expires is abandoned and redelivered by the broker.
+    decimal gracefulStopTimeout = 5.0;
 |};
 
 # Common consumer subscription fields
@@ -270,6 +277,70 @@ type CommonConsumerConfiguration record {|
     int reconnectTries = -1;
     # Wait time between reconnection attempts in seconds (min 0.05 seconds)
     decimal reconnectRetryInterval = 3.0;
+    # Skips messages whose `applicationMessageId` was already processed, such as redeliveries after a flow
+    # reconnects or copies re-published upstream. Not supported on transacted consumers and listeners.
+    DeduplicationConfiguration deduplication?;
+    # Asks the broker to replay the endpoint's messages from its replay log when the flow binds, before delivering
+    # new ones. Requires replay to be enabled on the message VPN. Supported for DURABLE queues and DURABLE topic
+    # subscriptions only
+    ReplayFrom replayFrom?;
+    # How messages that have already expired when they arrive are handled. Expiry is checked before the payload is
+    # converted, against the expiration the client calculates on receipt, so any policy other than `DELIVER` requires
+    # `calculateMessageExpiration`. Not supported on transacted consumers and listeners.
+    ExpiredMessagePolicy expiredMessagePolicy = DELIVER;
+    # Most times a message is delivered before its next failure moves it to `deadLetterDestination` instead of
+    # having it redelivered (at least 1). A delivery fails when the message is NACKed with `requeue = true`, or, in a
+    # service with `AUTO_ACK`, when `onMessage` returns an error. Requires `deadLetterDestination` and the broker to
+    # report delivery counts. Supported on queues and DURABLE topic subscriptions, and with `CLIENT_ACK` only on a
+    # `MessageConsumer`. Not supported on transacted consumers and listeners
+    int maxDeliveryAttempts?;
+    # Where a message is published, on the consumer's own session, after its final delivery attempt fails. The copy
+    # is persistent and carries the original's properties plus `deadLetterReason`, `deadLetterSource`,
+    # `deadLetterDeliveryCount` and `deadLetterTimestamp`; the original is acknowledged once the broker accepts the
+    # copy. Requires `maxDeliveryAttempts`
+    Destination deadLetterDestination?;
+|};
+
+# How a consumer or service handles a message that has already expired when it arrives
+public enum ExpiredMessagePolicy {
+    # Deliver the message like any other
+    DELIVER,
+    # Acknowledge the message without delivering it
+    DISCARD,
+    # Reject the message without delivering it, so the broker moves it to the dead message queue if one is
+    # configured. On a `MessageConsumer`, requires `CLIENT_ACK` on a queue or durable topic subscription
+    DEAD_LETTER
+}
+
+# Replays every message in the replay log
+public const REPLAY_FROM_BEGINNING = "BEGINNING";
+
+# Replays the messages spooled at or after a point in time
+public type ReplayFromTime record {|
+    # The time to replay from, in UTC milliseconds from epoch
+    int timestamp;
+|};
+
+# Replays the messages spooled after a given message
+public type ReplayAfterMessage record {|
+    # The `replicationGroupMessageId` of the last message not to replay
+    string replicationGroupMessageId;
+|};
+
+# Where a replay starts: the beginning of the replay log, a point in time, or after a message
+public type ReplayFrom REPLAY_FROM_BEGINNING|ReplayFromTime|ReplayAfterMessage;
+
+# Client-side deduplication by `applicationMessageId`. A message counts as processed once it is acknowledged - when
+# it is received on an `AUTO_ACK` consumer or a direct subscription, and when its `onMessage` succeeds in a service.
+# Later copies are acknowledged and skipped without being returned or dispatched. Messages without an
+# `applicationMessageId` are never skipped. IDs are remembered as 64-bit hashes, so a message whose ID hashes like a
+# remembered one is also skipped; with the cache full, the chance is at most about one in 10^12 per message.
+public type DeduplicationConfiguration record {|
+    # Most message IDs remembered at once; the oldest is forgotten first (between 1 and 16777216). The cache
+    # preallocates up to 48 bytes per ID
+    int capacity = 100000;
+    # Seconds a processed message ID is remembered
+    decimal window = 600.0;
 |};
 
 # Queue consumer configuration for synchronous (pull-based) consumption
@@ -287,13 +358,19 @@ public type QueueConfiguration record {|
 # Topic consumer configuration for synchronous (pull-based) consumption
 public type TopicConfiguration record {|
     *CommonConsumerConfiguration;
-    # The topic name to subscribe to
-    string topicName;
+    # The topic name to subscribe to, or several topic names to receive on the same subscription. Several topics are
+    # only supported when durability is TEMPORARY: they are added to the session together, and their messages are
+    # delivered through one consumer, since a durable topic endpoint holds a single topic subscription
+    string|string[] topicName;
     # Durability: TEMPORARY (ephemeral/direct) or DURABLE (persisted on broker)
     Durability durability = TEMPORARY;
     # Endpoint name - REQUIRED when durability is DURABLE (optional for TEMPORARY)
     # Used to identify the durable topic endpoint on the broker. Must be unique for durable endpoints.
     string endpointName?;
+    # Keeps only the latest message of each topic while earlier ones wait to be received: a newer message replaces
+    # the waiting one of its topic in place, and the replaced one is dropped and counted in the `conflated` metric.
+    # Suits subscribers that only need a topic's current value. Only valid when durability is TEMPORARY
+    boolean conflate = false;
 |};
 
 # Consumer subscription configuration: QueueConfiguration or TopicConfiguration
@@ -306,6 +383,18 @@ public type ConsumerConfiguration record {|
     SubscriptionConfiguration subscriptionConfig;
 |};
 
+# Queue browser configuration for peeking at a queue's backlog via QueueBrowser
+public type BrowserConfiguration record {|
+    *CommonConsumerConnectionConfiguration;
+    # The name of the queue to browse
+    string queueName;
+    # Optional SQL-92 message selector; only matching messages are browsed
+    string messageSelector?;
+    # Number of messages the broker sends ahead of the browser (1-255). Messages already prefetched are returned by
+    # `next()` without waiting
+    int prefetch = 255;
+|};
+
 # Delivery modes for messages
 public enum DeliveryMode {
     # At-most-once delivery mode. Direct messages are not retained for disconnected clients and can be discarded
@@ -327,23 +416,124 @@ public enum Durability {
     TEMPORARY
 }
 
+# Automatic commit batching for a service on a transacted listener. The listener commits the shared transacted
+# session once a batch of messages has been processed successfully, and rolls the whole batch back (so the broker
+# redelivers it) if any message in it fails.
+public type AutoCommitConfiguration record {|
+    # Commit after this many successfully processed messages (min 1)
+    int maxMessages = 100;
+    # Commit at most this many seconds after the first uncommitted message, even if `maxMessages` is not reached
+    decimal maxInterval = 1.0;
+|};
+
+# Adaptive flow control for a listener service. Each flow is paused while its service holds as many messages as
+# the window allows, and the window is resized from the service's `onMessage` processing time so that a message
+# spends about `targetLatency` in the service, waiting and processing.
+public type AdaptiveWindowConfiguration record {|
+    # Target time in seconds a message should spend in the service, from delivery to the end of `onMessage`
+    decimal targetLatency = 1.0;
+    # Smallest window, in messages (min 1)
+    int minWindow = 1;
+    # Largest window, in messages
+    int maxWindow = 255;
+|};
+
+# Circuit breaker for a listener service. When `onMessage` keeps failing, the service's flows are paused instead of
+# redelivering the failing messages in a tight loop, then reopened gradually with a few probe messages.
+public type CircuitBreakerConfiguration record {|
+    # Number of most recent messages the failure rate is computed over (min 1)
+    int windowSize = 20;
+    # Fewest messages in the window before the breaker may open (between 1 and `windowSize`)
+    int minimumMessages = 10;
+    # Failure rate, greater than 0 and at most 1, at or above which the breaker opens
+    float failureRateThreshold = 0.5;
+    # Seconds the flows stay paused before probing
+    decimal openDuration = 10.0;
+    # Upper bound in seconds of the pause, which doubles each time a probe fails
+    decimal maxOpenDuration = 120.0;
+    # Number of probe messages delivered before deciding whether to close the breaker (min 1)
+    int halfOpenMessages = 1;
+|};
+
+# Priority-ordered dispatch for a listener service. Messages waiting in each flow are dispatched highest `priority`
+# first instead of in arrival order, so urgent messages overtake a backlog of bulk ones. Messages without a priority
+# are dispatched at the broker's default priority, 4.
+public type PriorityDispatchConfiguration record {|
+    # Most messages each flow holds waiting for dispatch; the flow is paused while it holds this many (min 1)
+    int capacity = 1000;
+    # Seconds a message may wait before it is dispatched ahead of higher-priority messages, so low priorities are
+    # never starved
+    decimal maxWait = 1.0;
+|};
+
+# How a listener service settles a message whose `onMessage` invocation exceeded its `processingTimeout`
+public enum ProcessingTimeoutAction {
+    # Settle the message as failed, so the broker redelivers it
+    REQUEUE,
+    # Reject the message, so the broker moves it to the dead message queue if one is configured
+    REJECT,
+    # Leave the message unsettled; it is redelivered once the service is detached or the listener stops
+    LEAVE_UNSETTLED
+}
+
+# Service-only options shared by queue and topic service configurations
+type CommonServiceConfiguration record {|
+    *CommonConsumerConfiguration;
+    # Commits the listener's transacted session automatically in batches instead of via `caller->commit()`. Only
+    # valid on a transacted listener, where it also permits `AUTO_ACK`. The transaction is shared by every service on
+    # the listener, so an auto-committing service must be the only service attached to its listener. The service's
+    # `caller->commit()` and `caller->rollback()` return an error; returning an error from `onMessage` rolls the
+    # batch back instead.
+    AutoCommitConfiguration autoCommit?;
+    # Sizes how many messages the service holds from its processing time, pausing the flow when it is full. Only
+    # valid for queues and durable topic endpoints.
+    AdaptiveWindowConfiguration adaptiveWindow?;
+    # Pauses the service's flows while `onMessage` keeps failing. Only errors returned or raised by `onMessage`
+    # count as failures. Only valid for queues and durable topic endpoints.
+    CircuitBreakerConfiguration circuitBreaker?;
+    # Dispatches waiting messages by priority instead of arrival order. Message order is then only kept between
+    # messages of the same priority. Only valid for queues and durable topic endpoints.
+    PriorityDispatchConfiguration priorityDispatch?;
+    # Most messages per second handed to the service, across all of its flows. When the service is over its rate,
+    # its flows are paused so the backlog stays on the broker; messages are delayed, never dropped or rejected.
+    # Only valid for queues and durable topic endpoints.
+    decimal maxRate?;
+    # Longest time in seconds `onMessage` may take for one message. When it elapses the invocation is abandoned and
+    # treated as failed, and the service moves on to its next message. The abandoned invocation runs to completion,
+    # but its result is ignored and `caller->ack()`/`caller->nack()` on its message return an error.
+    decimal processingTimeout?;
+    # How a message that timed out is settled. Ignored for direct topic subscriptions, whose messages are not
+    # settled, and on a transacted listener, where the message stays in the open transaction.
+    ProcessingTimeoutAction processingTimeoutAction = REQUEUE;
+|};
+
 # Queue service configuration for asynchronous (push-based) consumption via Listener
 public type QueueServiceConfiguration record {|
-    *CommonConsumerConfiguration;
+    *CommonServiceConfiguration;
     # The queue name to consume messages from
     string queueName;
+    # Number of flows bound to the queue (min 1). Each flow has its own dispatch lane, so a non-exclusive queue is
+    # consumed concurrently by this many lanes with ordering kept per flow. On an exclusive queue the extra flows
+    # stay inactive as standbys.
+    int flowCount = 1;
 |};
 
 # Topic service configuration for asynchronous (push-based) consumption via Listener
 public type TopicServiceConfiguration record {|
-    *CommonConsumerConfiguration;
-    # The topic name to subscribe to
-    string topicName;
+    *CommonServiceConfiguration;
+    # The topic name to subscribe to, or several topic names to receive on the same subscription. Several topics are
+    # only supported when durability is TEMPORARY: they are added to the session together, and their messages are
+    # delivered through one consumer, since a durable topic endpoint holds a single topic subscription
+    string|string[] topicName;
     # Durability: TEMPORARY (ephemeral/direct) or DURABLE (persisted on broker)
     Durability durability = TEMPORARY;
     # Endpoint name - REQUIRED when durability is DURABLE (optional for TEMPORARY)
     # Used to identify the durable topic endpoint on the broker. Must be unique for durable endpoints.
     string endpointName?;
+    # Keeps only the latest message of each topic while `onMessage` is busy: a newer message replaces the waiting one
+    # of its topic in place, and the replaced one is dropped and counted in the `conflated` metric. Waiting topics
+    # are dispatched in the order they first received a message. Only valid when durability is TEMPORARY
+    boolean conflate = false;
 |};
 
 # Service subscription configuration (sealed: QueueServiceConfiguration | TopicServiceConfiguration)
@@ -391,6 +581,9 @@ public type Message record {|
     # Message expiration time in UTC milliseconds from epoch (populated by the client on receipt only when
     # `calculateMessageExpiration` is enabled on the consumer/listener configuration; `0`/unset otherwise)
     int expiration?;
+    # Broker-assigned ID of the message within its replication group; a replay can start after it with
+    # `ReplayAfterMessage` (Only set on receive)
+    string replicationGroupMessageId?;
 |};
 
 # Represents the allowed value types for a Solace message property.
@@ -442,4 +635,6 @@ type InternalMessage record {|
     # Message expiration time in UTC milliseconds from epoch (populated by the client on receipt only when
     # `calculateMessageExpiration` is enabled on the consumer/listener configuration; `0`/unset otherwise).
     int expiration?;
+    # Broker-assigned ID of the message within its replication group (Only set on receive).
+    string replicationGroupMessageId?;
 |};
@@ -55,9 +55,12 @@ public class CompilerPluginTest {
         List<Diagnostic> errors = result.errors().stream().toList();
         Assert.assertEquals(errors.stream().map(diagnostic -> diagnostic.diagnosticInfo().code()).toList(),
                 List.of("SOLACE_101", "SOLACE_102", "SOLACE_103", "SOLACE_104", "SOLACE_103", "SOLACE_105",
-                        "SOLACE_106", "SOLACE_107", "SOLACE_108", "SOLACE_109"));
+                        "SOLACE_106", "SOLACE_107", "SOLACE_108", "SOLACE_109", "SOLACE_110"));
         Assert.assertEquals(errors.get(7).message(),
                 "the second parameter (optional) must be of type 'solace:Caller'");
+        Assert.assertEquals(errors.get(10).message(),
+                "'onMessage' must return a value assignable to 'anydata|error'; a returned value is published as " +
+                        "the reply");
     }
 
     @Test
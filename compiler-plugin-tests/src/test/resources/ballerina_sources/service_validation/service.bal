@@ -50,7 +50,12 @@ solace:Service invalidOnError = @solace:ServiceConfig {queueName: "q"} service o
 };
 
 solace:Service invalidReturn = @solace:ServiceConfig {queueName: "q"} service object {
-    remote function onMessage(solace:Message message) returns string => "invalid";
+    remote function onMessage(solace:Message message) returns error? {}
+    remote function onError(solace:Error err) returns string => "invalid";
+};
+
+solace:Service invalidReplyType = @solace:ServiceConfig {queueName: "q"} service object {
+    remote function onMessage(solace:Message message) returns typedesc<int> => int;
 };
 
 type StringMessage record {|
@@ -62,3 +67,7 @@ solace:Service validService = @solace:ServiceConfig {queueName: "q"} service obj
     remote function onMessage(StringMessage message, solace:Caller caller) returns solace:Error? {}
     remote function onError(solace:Error err) returns error? {}
 };
+
+solace:Service replyService = @solace:ServiceConfig {queueName: "q"} service object {
+    remote function onMessage(StringMessage message) returns solace:Message|string|error? => message.payload;
+};
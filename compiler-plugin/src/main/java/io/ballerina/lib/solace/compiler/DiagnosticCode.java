@@ -32,6 +32,8 @@ enum DiagnosticCode {
     INVALID_CALLER_PARAMETER("SOLACE_107", "the second parameter (optional) must be of type ''solace:Caller''"),
     INVALID_ON_ERROR_PARAMETER("SOLACE_108", "''onError'' must declare exactly one ''solace:Error'' parameter"),
     INVALID_RETURN_TYPE("SOLACE_109", "remote method ''{0}'' must return a value assignable to ''error?''"),
+    INVALID_ON_MESSAGE_RETURN_TYPE("SOLACE_110", "''onMessage'' must return a value assignable to " +
+            "''anydata|error''; a returned value is published as the reply"),
     MISSING_QUEUE_NAME("SOLACE_201", "queueName is required when the queue is DURABLE"),
     MISSING_ENDPOINT_NAME("SOLACE_202", "endpointName is required when the topic is DURABLE");
 
@@ -122,13 +122,28 @@ final class ServiceValidator {
     }
 
     private void validateReturnType(FunctionDefinitionNode function) {
-        methodSymbol(function).map(MethodSymbol::typeDescriptor)
-                .flatMap(FunctionTypeSymbol::returnTypeDescriptor)
-                .filter(type -> !isErrorOrNil(type))
+        Optional<TypeSymbol> returnType = methodSymbol(function).map(MethodSymbol::typeDescriptor)
+                .flatMap(FunctionTypeSymbol::returnTypeDescriptor);
+        if (function.functionName().text().equals("onMessage")) {
+            // A value returned from onMessage is published as the reply, so it must be sendable.
+            TypeSymbol anydata = context.semanticModel().types().ANYDATA;
+            returnType.filter(type -> !isReplyOrError(type, anydata))
+                    .ifPresent(type -> report(DiagnosticCode.INVALID_ON_MESSAGE_RETURN_TYPE, function));
+            return;
+        }
+        returnType.filter(type -> !isErrorOrNil(type))
                 .ifPresent(type -> report(DiagnosticCode.INVALID_RETURN_TYPE, function,
                         function.functionName().text()));
     }
 
+    private boolean isReplyOrError(TypeSymbol type, TypeSymbol anydata) {
+        if (isErrorOrNil(type) || type.subtypeOf(anydata)) {
+            return true;
+        }
+        return PluginUtils.rawType(type) instanceof UnionTypeSymbol union && union.memberTypeDescriptors().stream()
+                .allMatch(member -> isReplyOrError(member, anydata));
+    }
+
     private boolean isErrorOrNil(TypeSymbol type) {
         TypeSymbol rawType = PluginUtils.rawType(type);
         if (rawType.typeKind() == TypeDescKind.NIL || rawType.typeKind() == TypeDescKind.ERROR ||
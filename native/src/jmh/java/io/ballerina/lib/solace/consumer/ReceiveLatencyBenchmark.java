@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.consumer;
+
+import io.ballerina.lib.solace.common.CommonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Receive call latency against an in-memory flow, comparing a virtual thread per call (the former
+ * {@code CommonUtils.executeBlocking} path) with the consumer's {@link ReceiveWorker} and an inline
+ * {@code receiveNoWait}. Run in sample mode, so JMH reports the p50, p99 and p999 of each.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ReceiveLatencyBenchmark {
+
+    private static final int RECEIVE_TIMEOUT_MILLIS = 1000;
+
+    private InMemoryFlow flow;
+    private ReceiveWorker worker;
+
+    @Setup
+    public void setUp() {
+        flow = new InMemoryFlow(1024);
+        worker = new ReceiveWorker(Thread.ofVirtual().name("benchmark-receive").factory());
+    }
+
+    @TearDown
+    public void tearDown() {
+        worker.close();
+    }
+
+    @Benchmark
+    public Object virtualThreadPerCall() throws Exception {
+        return CommonUtils.executeBlocking(() -> flow.receive(RECEIVE_TIMEOUT_MILLIS));
+    }
+
+    @Benchmark
+    public Object receiveWorker() throws Exception {
+        return worker.submit(flow::receive, RECEIVE_TIMEOUT_MILLIS);
+    }
+
+    @Benchmark
+    public Object receiveNoWaitInline() {
+        return flow.receiveNoWait();
+    }
+
+    /**
+     * Stands in for a flow whose transport window always holds messages: each receive takes one and puts it back,
+     * so the measured cost is the hand-off around the call rather than waiting for the broker.
+     */
+    private static final class InMemoryFlow {
+
+        private final BlockingQueue<Object> messages;
+
+        InMemoryFlow(int depth) {
+            messages = new ArrayBlockingQueue<>(depth);
+            for (int i = 0; i < depth; i++) {
+                messages.add(new Object());
+            }
+        }
+
+        Object receive(int timeoutMillis) throws InterruptedException {
+            Object message = messages.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+            if (message != null) {
+                messages.offer(message);
+            }
+            return message;
+        }
+
+        Object receiveNoWait() {
+            Object message = messages.poll();
+            if (message != null) {
+                messages.offer(message);
+            }
+            return message;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.TextMessage;
+import io.ballerina.lib.solace.config.ExpiredMessagePolicy;
+import io.ballerina.lib.solace.config.ProcessingTimeoutAction;
+import io.ballerina.lib.solace.config.ServiceConfiguration;
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.RemoteMethodType;
+import io.ballerina.runtime.api.types.ServiceType;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.values.BObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Allocation per message on a listener's dispatch path, from {@code onReceive} through the conversion to a Ballerina
+ * record and the lane hand-off to the metadata lookup for {@code onMessage}. The service is a stub whose
+ * {@code onMessage} does nothing, so the gc profiler's {@code gc.alloc.rate.norm} is the listener's own cost.
+ * <p>
+ * {@code dispatch} runs the current path, which shares one {@link StrandMetadata} across messages when tracing is
+ * off. {@code dispatchWithMetadataPerMessage} adds the metadata the former path built for every invocation, so the
+ * difference between the two is the saving. Tracing is configured per process, so the traced lookup is measured on
+ * {@link DispatchMetadata} alone by {@code tracedMetadata}: it still allocates an observer context, its properties
+ * map and a {@link StrandMetadata} per message.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DispatchMetadataBenchmark {
+
+    private static final String URL = "tcp://localhost:55554";
+    private static final String VPN = "default";
+    private static final String QUEUE = "orders";
+
+    private SolaceMessageListener listener;
+    private SolaceMessageListener perMessageListener;
+    private TextMessage message;
+    private DispatchMetadata traced;
+    private Map<String, String> traceContext;
+    private volatile Object invoked;
+
+    @Setup
+    public void setUp() {
+        Service service = stubService();
+        listener = newListener(service, (target, method, metadata, args) -> {
+            invoked = metadata;
+            return null;
+        });
+        perMessageListener = newListener(service, (target, method, metadata, args) -> {
+            invoked = new StrandMetadata(metadata.isConcurrentSafe(), null);
+            return null;
+        });
+        message = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
+        message.setText("order-created");
+        traced = new DispatchMetadata(true, false, true, URL, VPN, QUEUE, "queue");
+        traceContext = Map.of("traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+    }
+
+    @Benchmark
+    public Object dispatch() {
+        listener.onReceive(message);
+        return invoked;
+    }
+
+    @Benchmark
+    public Object dispatchWithMetadataPerMessage() {
+        perMessageListener.onReceive(message);
+        return invoked;
+    }
+
+    @Benchmark
+    public StrandMetadata tracedMetadata() {
+        return traced.onMessage(traceContext);
+    }
+
+    /**
+     * A CLIENT_ACK queue listener without any of the optional dispatch features, whose lane runs each task on the
+     * calling thread.
+     */
+    private static SolaceMessageListener newListener(Service service, SolaceMessageListener.MethodCaller caller) {
+        return new SolaceMessageListener(caller, service, null, false, URL, VPN, QUEUE, "queue", Runnable::run,
+                new DispatchCounters(), null, null, null, false, null, null, null, ExpiredMessagePolicy.DELIVER, null,
+                ServiceConfiguration.NO_PROCESSING_TIMEOUT, ProcessingTimeoutAction.LEAVE_UNSETTLED, null);
+    }
+
+    /**
+     * An isolated service with {@code remote function onMessage(record {| string payload; anydata...; |} message)}.
+     */
+    private static Service stubService() {
+        Map<String, Field> fields = new HashMap<>();
+        fields.put("payload", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "payload", 0));
+        fields.put("properties", TypeCreator.createField(TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA),
+                "properties", 0));
+        RecordType messageType = TypeCreator.createRecordType("BenchmarkMessage",
+                new Module("ballerinax", "solace", "1"), 0, fields, PredefinedTypes.TYPE_ANYDATA, false, 0);
+        RemoteMethodType onMessage = stub(RemoteMethodType.class, Map.of("getName", "onMessage",
+                "getParameters", new Parameter[]{new Parameter("message", false, messageType)},
+                "isIsolated", true));
+        ServiceType serviceType = stub(ServiceType.class, Map.of("getRemoteMethods", new RemoteMethodType[]{onMessage},
+                "isIsolated", true, "getTag", TypeTags.OBJECT_TYPE_TAG));
+        BObject consumerService = stub(BObject.class, Map.of("getType", serviceType,
+                "getOriginalType", serviceType));
+        return new Service(consumerService);
+    }
+
+    /**
+     * An implementation of {@code type} whose methods return the given value by name, or the default value of their
+     * return type.
+     */
+    private static <T> T stub(Class<T> type, Map<String, Object> results) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            String name = method.getName();
+            if (results.containsKey(name)) {
+                return results.get(name);
+            }
+            return switch (name) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> type.getSimpleName();
+                default -> defaultValue(method.getReturnType());
+            };
+        }));
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        return type.isPrimitive() && type != void.class ? Array.get(Array.newInstance(type, 1), 0) : null;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.browser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects a batch of browsed messages in one pass. The first message is waited for, up to the caller's timeout;
+ * the rest are only taken if the browser has already fetched them, so a batch never waits once it has something to
+ * return.
+ */
+final class BrowseBatch {
+
+    private BrowseBatch() {
+    }
+
+    /**
+     * A queue browser, reduced to the two reads a batch needs.
+     */
+    interface BrowseSource<M> {
+
+        /**
+         * Returns the next message, waiting up to {@code timeoutMillis}, or null if none arrives in time.
+         */
+        M next(int timeoutMillis) throws Exception;
+
+        /**
+         * Returns the next message if one is already buffered, or null.
+         */
+        M nextNoWait() throws Exception;
+    }
+
+    /**
+     * Takes up to {@code count} messages from {@code source}.
+     *
+     * @param source        the browser to read from
+     * @param count         the most messages to take
+     * @param timeoutMillis how long to wait for the first message, or 0 to only take buffered messages
+     * @return the messages taken, in browse order; empty if none arrived in time
+     */
+    static <M> List<M> take(BrowseSource<M> source, int count, int timeoutMillis) throws Exception {
+        List<M> batch = new ArrayList<>(Math.min(count, 256));
+        M message = timeoutMillis > 0 ? source.next(timeoutMillis) : source.nextNoWait();
+        while (message != null) {
+            batch.add(message);
+            if (batch.size() == count) {
+                break;
+            }
+            message = source.nextNoWait();
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.browser;
+
+import com.solacesystems.jcsmp.Browser;
+import com.solacesystems.jcsmp.BrowserProperties;
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.JCSMPProperties;
+import com.solacesystems.jcsmp.JCSMPSession;
+import com.solacesystems.jcsmp.XMLMessage;
+import io.ballerina.lib.solace.common.BallerinaSolaceDatabindingException;
+import io.ballerina.lib.solace.common.CommonUtils;
+import io.ballerina.lib.solace.config.BrowserConfiguration;
+import io.ballerina.lib.solace.config.ConfigurationUtils;
+import io.ballerina.lib.solace.consumer.MessageConverter;
+import io.ballerina.lib.solace.observability.SolaceMetricsUtil;
+import io.ballerina.lib.solace.observability.SolaceSessionEventHandler;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static io.ballerina.lib.solace.common.Constants.NATIVE_BROWSER;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_CLOSED;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_EVENT_HANDLER;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_SESSION;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_URL;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_VPN;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.CONTEXT_BROWSER;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.UNKNOWN;
+
+/**
+ * Queue browser actions - main entry point for Ballerina QueueBrowser interop. A browser reads a queue's messages
+ * without consuming them; the broker keeps every browsed message until it is consumed or explicitly removed.
+ */
+public class BrowserActions {
+
+    private BrowserActions() {
+    }
+
+    /**
+     * Initialize the browser: connect a session and open a JCSMP browser on the configured queue.
+     *
+     * @param browser the Ballerina QueueBrowser object
+     * @param url     the broker URL
+     * @param config  the browser configuration
+     * @return null on success, BError on failure
+     */
+    public static BError init(BObject browser, BString url, BMap<BString, Object> config) {
+        JCSMPSession session = null;
+        String messageVpn = UNKNOWN;
+        try {
+            BrowserConfiguration browserConfig = new BrowserConfiguration(config);
+            browserConfig.validate();
+            messageVpn = browserConfig.connectionConfig().messageVpn();
+
+            JCSMPProperties jcsmpProps =
+                    ConfigurationUtils.buildJCSMPProperties(url.getValue(), browserConfig.connectionConfig());
+            ConfigurationUtils.applyReceiveTimestampProperty(jcsmpProps, browserConfig.generateReceiveTimestamps(),
+                    browserConfig.calculateMessageExpiration());
+
+            SolaceSessionEventHandler eventHandler =
+                    new SolaceSessionEventHandler(CONTEXT_BROWSER, url.getValue(), messageVpn);
+            session = JCSMPFactory.onlyInstance().createSession(jcsmpProps, null, eventHandler);
+            session.connect();
+            eventHandler.markConnected();
+
+            BrowserProperties browserProps = new BrowserProperties();
+            browserProps.setEndpoint(JCSMPFactory.onlyInstance().createQueue(browserConfig.queueName()));
+            if (browserConfig.selector() != null) {
+                browserProps.setSelector(browserConfig.selector());
+            }
+            // The browser's transport window is how far the broker sends ahead of next(), i.e. its prefetch.
+            browserProps.setTransportWindowSize(browserConfig.prefetch());
+            Browser jcsmpBrowser = session.createBrowser(browserProps);
+
+            browser.addNativeData(NATIVE_SESSION, session);
+            browser.addNativeData(NATIVE_BROWSER, jcsmpBrowser);
+            browser.addNativeData(NATIVE_CLOSED, false);
+            browser.addNativeData(NATIVE_URL, url.getValue());
+            browser.addNativeData(NATIVE_VPN, messageVpn);
+            browser.addNativeData(NATIVE_EVENT_HANDLER, eventHandler);
+        } catch (Exception e) {
+            if (session != null) {
+                CommonUtils.closeQuietly(session::closeSession);
+            }
+            SolaceMetricsUtil.reportConnectionError(CONTEXT_BROWSER, url.getValue(), messageVpn);
+            return CommonUtils.createError("Failed to initialize queue browser", e);
+        }
+        return null;
+    }
+
+    /**
+     * Browse the next message. A message the browser has already prefetched is returned without waiting.
+     *
+     * @param browser   the Ballerina QueueBrowser object
+     * @param timeout   the time in seconds to wait for a message when none is prefetched
+     * @param bTypedesc the caller-declared expected message type
+     * @return the browsed message, null once no message arrives within the timeout, or BError on failure
+     */
+    public static Object next(BObject browser, BDecimal timeout, BTypedesc bTypedesc) {
+        Browser jcsmpBrowser = openBrowser(browser);
+        if (jcsmpBrowser == null) {
+            return CommonUtils.createError("Queue browser is closed");
+        }
+        try {
+            BytesXMLMessage message = jcsmpBrowser.getNextNoWait();
+            int timeoutMs = toMillis(timeout);
+            if (message == null && timeoutMs > 0) {
+                message = (BytesXMLMessage) CommonUtils.executeBlocking(() -> jcsmpBrowser.getNext(timeoutMs));
+            }
+            return message == null ? null : MessageConverter.toBallerinaMessage(message, bTypedesc);
+        } catch (BallerinaSolaceDatabindingException e) {
+            return CommonUtils.createError(e.getMessage());
+        } catch (Exception e) {
+            return CommonUtils.createError("Failed to browse message", e);
+        }
+    }
+
+    /**
+     * Browse up to {@code count} messages in one call. Waits for the first message, then takes only messages the
+     * browser has already prefetched.
+     *
+     * @param browser   the Ballerina QueueBrowser object
+     * @param count     the most messages to return
+     * @param timeout   the time in seconds to wait for the first message
+     * @param bTypedesc the caller-declared expected message type
+     * @return the browsed messages, empty once no message arrives within the timeout, or BError on failure
+     */
+    public static Object nextBatch(BObject browser, long count, BDecimal timeout, BTypedesc bTypedesc) {
+        if (count < 1) {
+            return CommonUtils.createError("count must be at least 1");
+        }
+        Browser jcsmpBrowser = openBrowser(browser);
+        if (jcsmpBrowser == null) {
+            return CommonUtils.createError("Queue browser is closed");
+        }
+        int batchSize = (int) Math.min(count, Integer.MAX_VALUE);
+        BrowseBatch.BrowseSource<BytesXMLMessage> source = new BrowseBatch.BrowseSource<>() {
+            @Override
+            public BytesXMLMessage next(int timeoutMillis) throws Exception {
+                return jcsmpBrowser.getNext(timeoutMillis);
+            }
+
+            @Override
+            public BytesXMLMessage nextNoWait() throws Exception {
+                return jcsmpBrowser.getNextNoWait();
+            }
+        };
+        try {
+            int timeoutMs = toMillis(timeout);
+            @SuppressWarnings("unchecked")
+            List<BytesXMLMessage> messages = timeoutMs > 0
+                    ? (List<BytesXMLMessage>) CommonUtils.executeBlocking(
+                            () -> BrowseBatch.take(source, batchSize, timeoutMs))
+                    : BrowseBatch.take(source, batchSize, 0);
+            BArray batch = ValueCreator.createArrayValue(TypeCreator.createArrayType(bTypedesc.getDescribingType()));
+            for (BytesXMLMessage message : messages) {
+                batch.append(MessageConverter.toBallerinaMessage(message, bTypedesc));
+            }
+            return batch;
+        } catch (BallerinaSolaceDatabindingException e) {
+            return CommonUtils.createError(e.getMessage());
+        } catch (Exception e) {
+            return CommonUtils.createError("Failed to browse messages", e);
+        }
+    }
+
+    /**
+     * Remove a browsed message from the queue, as if it had been consumed and acknowledged.
+     *
+     * @param browser the Ballerina QueueBrowser object
+     * @param message a message returned by this browser
+     * @return null on success, BError on failure
+     */
+    public static BError remove(BObject browser, BMap<BString, Object> message) {
+        Browser jcsmpBrowser = openBrowser(browser);
+        if (jcsmpBrowser == null) {
+            return CommonUtils.createError("Queue browser is closed");
+        }
+        XMLMessage nativeMessage = MessageConverter.extractNativeMessage(message);
+        if (!(nativeMessage instanceof BytesXMLMessage browsed)) {
+            return CommonUtils.createError("Message was not returned by a queue browser");
+        }
+        try {
+            jcsmpBrowser.remove(browsed);
+            return null;
+        } catch (Exception e) {
+            return CommonUtils.createError("Failed to remove browsed message", e);
+        }
+    }
+
+    /**
+     * Close the browser and its session. Closing an already closed browser is a no-op.
+     *
+     * @param browser the Ballerina QueueBrowser object
+     * @return null on success, BError on failure
+     */
+    public static BError close(BObject browser) {
+        if (Boolean.TRUE.equals(browser.getNativeData(NATIVE_CLOSED))) {
+            return null;
+        }
+        Browser jcsmpBrowser = (Browser) browser.getNativeData(NATIVE_BROWSER);
+        JCSMPSession session = (JCSMPSession) browser.getNativeData(NATIVE_SESSION);
+
+        Exception firstError = null;
+        if (jcsmpBrowser != null) {
+            firstError = CommonUtils.attemptClose(jcsmpBrowser::close);
+        }
+        if (session != null) {
+            Exception e = CommonUtils.attemptClose(session::closeSession);
+            firstError = firstError == null ? e : firstError;
+        }
+
+        browser.addNativeData(NATIVE_CLOSED, true);
+        browser.addNativeData(NATIVE_BROWSER, null);
+        browser.addNativeData(NATIVE_SESSION, null);
+        SolaceSessionEventHandler.markDisconnected(browser);
+
+        if (firstError != null) {
+            return CommonUtils.createError("Failed to close queue browser", firstError);
+        }
+        return null;
+    }
+
+    private static Browser openBrowser(BObject browser) {
+        if (Boolean.TRUE.equals(browser.getNativeData(NATIVE_CLOSED))) {
+            return null;
+        }
+        return (Browser) browser.getNativeData(NATIVE_BROWSER);
+    }
+
+    private static int toMillis(BDecimal seconds) {
+        return seconds.decimalValue().multiply(BigDecimal.valueOf(1000)).intValue();
+    }
+}
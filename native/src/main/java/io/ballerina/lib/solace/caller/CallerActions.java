@@ -21,6 +21,8 @@ package io.ballerina.lib.solace.caller;
 import com.solacesystems.jcsmp.XMLMessage;
 import com.solacesystems.jcsmp.transaction.TransactedSession;
 import io.ballerina.lib.solace.common.CommonUtils;
+import io.ballerina.lib.solace.common.DeadLetterRouter;
+import io.ballerina.lib.solace.common.DelayedRedelivery;
 import io.ballerina.lib.solace.consumer.MessageConverter;
 import io.ballerina.lib.solace.observability.SolaceMetricsUtil;
 import io.ballerina.runtime.api.values.BError;
@@ -30,6 +32,8 @@ import io.ballerina.runtime.api.values.BString;
 
 import java.util.logging.Logger;
 
+import static io.ballerina.lib.solace.common.Constants.NATIVE_AUTO_COMMIT;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_DEAD_LETTER_ROUTER;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_TX_SESSION;
 import static io.ballerina.lib.solace.observability.SolaceMetricsUtil.reportConsumerFailure;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_ACKNOWLEDGE;
@@ -53,10 +57,24 @@ public class CallerActions {
                     + "on transacted flows. Use caller->rollback() to have the broker redeliver the message, or "
                     + "caller->commit() to accept it.";
 
+    private static final String NACK_DELAY_REQUEUE_ERROR =
+            "nack() delay only applies when requeue is true; a rejected message is not redelivered.";
+
+    private static final String AUTO_COMMIT_ERROR =
+            "%s is not supported on a service with autoCommit; the listener commits processed messages in batches "
+                    + "and rolls a batch back when onMessage returns an error.";
+
+    private static final String ABANDONED_ERROR =
+            "Cannot %s: the listener abandoned the message after its processingTimeout elapsed.";
+
     private static boolean isTransacted(BObject caller) {
         return caller.getNativeData(NATIVE_TX_SESSION) != null;
     }
 
+    private static boolean isAutoCommit(BObject caller) {
+        return Boolean.TRUE.equals(caller.getNativeData(NATIVE_AUTO_COMMIT));
+    }
+
     /**
      * Acknowledge a message (CLIENT_ACK mode).
      *
@@ -65,6 +83,10 @@ public class CallerActions {
      * @return null on success, BError on failure
      */
     public static BError ack(BObject caller, BMap<BString, Object> message) {
+        if (MessageConverter.isAbandoned(message)) {
+            // The timeout was already counted and the message settled by the listener; this is a late settlement.
+            return CommonUtils.createError(String.format(ABANDONED_ERROR, "acknowledge"));
+        }
         if (isTransacted(caller)) {
             LOGGER.warning(String.format(TRANSACTED_SETTLE_WARNING, "ack()"));
             return null;
@@ -80,6 +102,7 @@ public class CallerActions {
                 SolaceMetricsUtil.reportConsumerError(caller, ERROR_TYPE_ACKNOWLEDGE);
                 return bError;
             }
+            MessageConverter.markSettled(message);
             SolaceMetricsUtil.reportAck(caller);
             return null;
         } catch (Exception e) {
@@ -93,18 +116,51 @@ public class CallerActions {
      *
      * @param caller  the Ballerina caller object
      * @param message the Ballerina message to NACK
-     * @param requeue if true, use FAILED outcome (requeue); if false, use REJECTED outcome (DMQ)
+     * @param requeue if true, use FAILED outcome (requeue), or dead-letter the message if this was its final
+     *                delivery attempt; if false, use REJECTED outcome (DMQ)
+     * @param delay   optional delay in seconds before a requeued message is redelivered, doubled on each delivery
      * @return null on success, BError on failure
      */
-    public static BError nack(BObject caller, BMap<BString, Object> message, boolean requeue) {
+    public static BError nack(BObject caller, BMap<BString, Object> message, boolean requeue, Object delay) {
+        if (MessageConverter.isAbandoned(message)) {
+            return CommonUtils.createError(String.format(ABANDONED_ERROR, "NACK"));
+        }
         if (isTransacted(caller)) {
             return reportConsumerFailure(caller, ERROR_TYPE_NACK, TRANSACTED_NACK_ERROR);
         }
+        long delayMillis = DelayedRedelivery.toMillis(delay);
+        if (delayMillis < 0) {
+            return reportConsumerFailure(caller, ERROR_TYPE_NACK, "nack() delay must not be negative");
+        }
+        if (delayMillis > 0 && !requeue) {
+            return reportConsumerFailure(caller, ERROR_TYPE_NACK, NACK_DELAY_REQUEUE_ERROR);
+        }
         try {
             XMLMessage nativeMessage = MessageConverter.extractNativeMessage(message);
             if (nativeMessage == null) {
                 return reportConsumerFailure(caller, ERROR_TYPE_NACK, "Cannot NACK: native message not found");
             }
+            DeadLetterRouter deadLetters = (DeadLetterRouter) caller.getNativeData(NATIVE_DEAD_LETTER_ROUTER);
+            if (requeue && deadLetters != null && deadLetters.isFinalAttempt(nativeMessage)) {
+                Object result = CommonUtils.executeBlocking(
+                        () -> deadLetters.deadLetter(nativeMessage, DeadLetterRouter.NACK_REASON));
+                if (result instanceof BError bError) {
+                    SolaceMetricsUtil.reportConsumerError(caller, ERROR_TYPE_NACK);
+                    return bError;
+                }
+                // The original is only settled once the broker confirms its copy, so an AUTO_ACK service must not
+                // ack it when onMessage returns.
+                MessageConverter.markSettled(message);
+                SolaceMetricsUtil.reportNack(caller, true);
+                return null;
+            }
+            if (delayMillis > 0) {
+                // The message stays unsettled until the delay elapses, so an AUTO_ACK service must not ack it first.
+                MessageConverter.markSettled(message);
+                DelayedRedelivery.schedule(nativeMessage, delayMillis);
+                SolaceMetricsUtil.reportNack(caller, true);
+                return null;
+            }
             Object result = CommonUtils.executeBlocking(() -> {
                 XMLMessage.Outcome outcome = requeue ? XMLMessage.Outcome.FAILED : XMLMessage.Outcome.REJECTED;
                 nativeMessage.settle(outcome);
@@ -114,6 +170,7 @@ public class CallerActions {
                 SolaceMetricsUtil.reportConsumerError(caller, ERROR_TYPE_NACK);
                 return bError;
             }
+            MessageConverter.markSettled(message);
             SolaceMetricsUtil.reportNack(caller, requeue);
             return null;
         } catch (Exception e) {
@@ -135,6 +192,10 @@ public class CallerActions {
                     "commit() can only be called when the listener connection is transacted. "
                             + "Set transacted = true on the listener configuration to enable transactions.");
         }
+        if (isAutoCommit(caller)) {
+            // Committing here would also commit the messages still waiting in the lanes, outside the batcher.
+            return reportConsumerFailure(caller, ERROR_TYPE_COMMIT, String.format(AUTO_COMMIT_ERROR, "commit()"));
+        }
         try {
             Object result = CommonUtils.executeBlocking(txSession::commit);
             if (result instanceof BError bError) {
@@ -161,6 +222,11 @@ public class CallerActions {
                     "rollback() can only be called when the listener connection is transacted. "
                             + "Set transacted = true on the listener configuration to enable transactions.");
         }
+        if (isAutoCommit(caller)) {
+            // The batcher would keep counting the discarded messages towards a batch it no longer has.
+            return reportConsumerFailure(caller, ERROR_TYPE_ROLLBACK,
+                    String.format(AUTO_COMMIT_ERROR, "rollback()"));
+        }
         try {
             Object result = CommonUtils.executeBlocking(txSession::rollback);
             if (result instanceof BError bError) {
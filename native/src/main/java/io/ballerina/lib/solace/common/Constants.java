@@ -32,6 +32,8 @@ public class Constants {
     public static final String NATIVE_CLOSED = "native.closed";
     public static final String NATIVE_PRODUCER = "native.producer";
     public static final String NATIVE_MESSAGE = "native.message";
+    public static final String NATIVE_MESSAGE_ABANDONED = "native.message.abandoned";
+    public static final String NATIVE_MESSAGE_SETTLED = "native.message.settled";
     public static final String NATIVE_URL = "native.url";
     public static final String NATIVE_DESTINATION = "native.destination";
     public static final String NATIVE_VPN = "native.vpn";
@@ -39,11 +41,27 @@ public class Constants {
     public static final String NATIVE_EVENT_HANDLER = "native.session.event.handler";
     public static final String NATIVE_PUBLISH_ACK_TRACKER = "native.publish.ack.tracker";
     public static final String NATIVE_CONSUMER_FLOW_STATE_TRACKER = "native.consumer.flow.state.tracker";
+    public static final String NATIVE_ACK_MODE = "native.ack.mode";
+    public static final String NATIVE_MESSAGE_STREAM = "native.message.stream";
+    public static final String NATIVE_RECEIVE_WORKER = "native.receive.worker";
+    public static final String NATIVE_DUPLICATE_FILTER = "native.duplicate.filter";
+    public static final String NATIVE_EXPIRED_MESSAGE_POLICY = "native.expired.message.policy";
+    public static final String NATIVE_DEAD_LETTER_ROUTER = "native.dead.letter.router";
+    public static final String NATIVE_CONFLATING_RECEIVER = "native.conflating.receiver";
+    public static final String NATIVE_BROWSER = "native.browser";
 
     // Listener-specific native data keys
     public static final String NATIVE_RUNTIME = "native.runtime";
     public static final String NATIVE_SERVICES = "native.services";
     public static final String NATIVE_STARTED = "native.started";
     public static final String NATIVE_ATTACH_LOCK = "native.attach.lock";
+    public static final String NATIVE_DISPATCH_EXECUTOR = "native.dispatch.executor";
+    public static final String NATIVE_GRACEFUL_STOP_TIMEOUT = "native.graceful.stop.timeout";
+    public static final String NATIVE_DIRECT_TOPIC_ROUTER = "native.direct.topic.router";
+    public static final String NATIVE_REPLY_PUBLISHER = "native.reply.publisher";
+    public static final String NATIVE_PENDING_SERVICES = "native.pending.services";
+    public static final String NATIVE_AUTO_COMMIT_SERVICE = "native.auto.commit.service";
+    public static final String NATIVE_AUTO_COMMIT = "native.auto.commit";
+    public static final String NATIVE_CALCULATE_EXPIRATION = "native.calculate.expiration";
 
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.common;
+
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.DeliveryMode;
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.JCSMPSession;
+import com.solacesystems.jcsmp.SDTException;
+import com.solacesystems.jcsmp.SDTMap;
+import com.solacesystems.jcsmp.XMLMessage;
+import com.solacesystems.jcsmp.XMLMessageProducer;
+import io.ballerina.lib.solace.config.DeadLetterConfig;
+import io.ballerina.lib.solace.observability.SolaceMetricsUtil;
+import io.ballerina.lib.solace.producer.PublishEventHandler;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_ACKNOWLEDGE;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_PUBLISH;
+
+/**
+ * Moves a consumer's or service's messages to its dead-letter destination once they have used up their delivery
+ * attempts.
+ * <p>
+ * A message whose delivery count has reached {@code maxDeliveryAttempts} is not redelivered when it fails again.
+ * Instead a persistent copy of it, with the failure reason and where it came from added as properties, is published on
+ * the consumer's own session, and the original is acknowledged once the broker has accepted the copy. If the broker
+ * rejects the copy, the original is settled as FAILED, so it is redelivered and dead-lettered again on its next
+ * failure. Nothing else may settle the original in the meantime, so an AUTO_ACK service does not acknowledge a message
+ * its caller dead-lettered.
+ */
+public final class DeadLetterRouter {
+
+    /**
+     * Property carrying the error that made the final delivery attempt fail.
+     */
+    public static final String REASON_PROPERTY = "deadLetterReason";
+
+    /**
+     * Property carrying the queue or topic the message was consumed from.
+     */
+    public static final String SOURCE_PROPERTY = "deadLetterSource";
+
+    /**
+     * Property carrying the number of times the message was delivered.
+     */
+    public static final String DELIVERY_COUNT_PROPERTY = "deadLetterDeliveryCount";
+
+    /**
+     * Property carrying when the message was dead-lettered, in milliseconds since the epoch.
+     */
+    public static final String TIMESTAMP_PROPERTY = "deadLetterTimestamp";
+
+    /**
+     * Reason recorded for a message NACKed for redelivery on its final delivery attempt.
+     */
+    public static final String NACK_REASON = "Negatively acknowledged on the final delivery attempt";
+
+    private static final Logger LOGGER = Logger.getLogger(DeadLetterRouter.class.getName());
+
+    private final DeadLetterConfig config;
+    private final ProducerSource producers;
+    private final String url;
+    private final String vpn;
+    private final String destination;
+    private final String destinationKind;
+    private final AtomicBoolean countUnsupportedReported = new AtomicBoolean();
+
+    /**
+     * Creates the router of one consumer or service.
+     *
+     * @param config          the dead-letter configuration of the consumer or service
+     * @param producers       the producer of the session the messages are consumed on
+     * @param url             the broker URL, for metrics
+     * @param vpn             the message VPN, for metrics
+     * @param destination     the queue or topic the messages are consumed from
+     * @param destinationKind whether {@code destination} is a queue or a topic, for metrics
+     */
+    public DeadLetterRouter(DeadLetterConfig config, ProducerSource producers, String url, String vpn,
+                            String destination, String destinationKind) {
+        this.config = config;
+        this.producers = producers;
+        this.url = url;
+        this.vpn = vpn;
+        this.destination = destination;
+        this.destinationKind = destinationKind;
+    }
+
+    /**
+     * Whether a failure of this delivery of the message is its last one. Direct messages are never redelivered,
+     * and neither are messages from brokers that do not report delivery counts.
+     */
+    public boolean isFinalAttempt(XMLMessage message) {
+        return message.getDeliveryMode() != DeliveryMode.DIRECT
+                && deliveryCount(message) >= config.maxDeliveryAttempts();
+    }
+
+    /**
+     * Publishes a copy of a message that failed its final delivery attempt to the dead-letter destination. The
+     * original is settled once the broker has confirmed the copy.
+     *
+     * @param message the received message
+     * @param reason  why the final delivery attempt failed
+     * @throws JCSMPException if the copy could not be sent; the original is left unsettled
+     */
+    public void deadLetter(XMLMessage message, String reason) throws JCSMPException {
+        // Every received message is a BytesXMLMessage, whatever its payload type.
+        BytesXMLMessage copy = JCSMPFactory.onlyInstance().createMessage((BytesXMLMessage) message);
+        copy.setProperties(withFailureDetails(message, reason));
+        copy.setDeliveryMode(DeliveryMode.PERSISTENT);
+        copy.setCorrelationKey(new Confirmation(message));
+        producers.producer().send(copy, config.destination());
+    }
+
+    /**
+     * Copies a message's user properties and adds the details of its failure.
+     */
+    SDTMap withFailureDetails(XMLMessage message, String reason) throws SDTException {
+        SDTMap properties = JCSMPFactory.onlyInstance().createMap();
+        SDTMap original = message.getProperties();
+        if (original != null) {
+            for (String key : original.keySet()) {
+                properties.putObject(key, original.get(key));
+            }
+        }
+        properties.putString(REASON_PROPERTY, reason);
+        properties.putString(SOURCE_PROPERTY, destination);
+        int deliveryCount = deliveryCount(message);
+        if (deliveryCount > 0) {
+            properties.putInteger(DELIVERY_COUNT_PROPERTY, deliveryCount);
+        }
+        properties.putLong(TIMESTAMP_PROPERTY, System.currentTimeMillis());
+        return properties;
+    }
+
+    private int deliveryCount(XMLMessage message) {
+        try {
+            return message.getDeliveryCount();
+        } catch (UnsupportedOperationException e) {
+            if (countUnsupportedReported.compareAndSet(false, true)) {
+                LOGGER.warning(String.format("Messages from '%s' are never dead-lettered: the broker does not "
+                        + "report delivery counts", destination));
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Supplies the producer dead-lettered messages are published with.
+     */
+    @FunctionalInterface
+    public interface ProducerSource {
+        XMLMessageProducer producer() throws JCSMPException;
+    }
+
+    /**
+     * A source that creates the session's producer on the first dead-lettered message. The producer is closed
+     * together with the session.
+     */
+    public static ProducerSource sessionProducer(JCSMPSession session, String url, String vpn) {
+        return new ProducerSource() {
+            private XMLMessageProducer producer;
+
+            @Override
+            public synchronized XMLMessageProducer producer() throws JCSMPException {
+                if (producer == null) {
+                    producer = session.getMessageProducer(new PublishEventHandler(url, vpn));
+                }
+                return producer;
+            }
+        };
+    }
+
+    /**
+     * Settles the original message once the broker has ruled on its copy.
+     */
+    private final class Confirmation implements PublishEventHandler.ConfirmationListener {
+
+        private final XMLMessage original;
+
+        Confirmation(XMLMessage original) {
+            this.original = original;
+        }
+
+        @Override
+        public void accepted() {
+            SolaceMetricsUtil.reportDeadLettered(url, vpn, destination, destinationKind);
+            try {
+                original.ackMessage();
+            } catch (Exception e) {
+                // The original is redelivered once its flow reconnects, and dead-lettered a second time.
+                SolaceMetricsUtil.reportConsumerError(url, vpn, destination, destinationKind,
+                        ERROR_TYPE_ACKNOWLEDGE);
+                LOGGER.warning("Failed to acknowledge dead-lettered Solace message: " + e.getMessage());
+            }
+        }
+
+        @Override
+        public void rejected(JCSMPException cause) {
+            SolaceMetricsUtil.reportConsumerError(url, vpn, destination, destinationKind, ERROR_TYPE_PUBLISH);
+            LOGGER.warning(String.format("Failed to dead-letter Solace message from '%s': %s", destination,
+                    cause.getMessage()));
+            try {
+                original.settle(XMLMessage.Outcome.FAILED);
+            } catch (Exception e) {
+                // Left unsettled, the original is redelivered once its flow reconnects.
+                LOGGER.warning("Failed to requeue Solace message after a failed dead-letter: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.common;
+
+import com.solacesystems.jcsmp.XMLMessage;
+import io.ballerina.runtime.api.values.BDecimal;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delayed negative acknowledgement. Instead of settling a message as FAILED straight away, which makes the broker
+ * redeliver it at once, the message is held unsettled on the {@link HashedTimingWheel#shared() shared timing wheel}
+ * and settled as FAILED when its backoff has elapsed. The backoff doubles with each delivery of the message, starting
+ * from the requested delay.
+ */
+public final class DelayedRedelivery {
+
+    static final long MAX_BACKOFF_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final int MAX_DOUBLINGS = 30;
+
+    private DelayedRedelivery() {
+    }
+
+    /**
+     * Converts the optional {@code delay} argument of {@code nack}, in seconds, to milliseconds.
+     *
+     * @return the delay in milliseconds, or 0 if no delay was given
+     */
+    public static long toMillis(Object delay) {
+        if (!(delay instanceof BDecimal decimal)) {
+            return 0;
+        }
+        return decimal.decimalValue().multiply(BigDecimal.valueOf(1000)).longValue();
+    }
+
+    /**
+     * Computes the backoff for a delivery: {@code baseMillis * 2^(deliveryCount - 1)}, capped at ten minutes, or at
+     * {@code baseMillis} if that is longer.
+     */
+    static long backoffMillis(long baseMillis, int deliveryCount) {
+        int doublings = Math.min(Math.max(deliveryCount, 1) - 1, MAX_DOUBLINGS);
+        long cap = Math.max(baseMillis, MAX_BACKOFF_MILLIS);
+        if (baseMillis > cap >> doublings) {
+            return cap;
+        }
+        return baseMillis << doublings;
+    }
+
+    /**
+     * Holds the message unsettled and settles it as FAILED after the backoff for its delivery count. Brokers that do
+     * not report delivery counts get the base delay on every delivery.
+     *
+     * @param message    the message to redeliver
+     * @param baseMillis the delay before the first redelivery
+     */
+    public static void schedule(XMLMessage message, long baseMillis) {
+        int deliveryCount = 1;
+        try {
+            deliveryCount = message.getDeliveryCount();
+        } catch (UnsupportedOperationException ignored) {
+            // Delivery count is not enabled on the broker; use the base delay.
+        }
+        // If the flow has been closed by the deadline, settling fails, but the broker redelivers unsettled messages
+        // of a closed flow anyway.
+        HashedTimingWheel.shared().schedule(
+                () -> CommonUtils.closeQuietly(() -> message.settle(XMLMessage.Outcome.FAILED)),
+                backoffMillis(baseMillis, deliveryCount), TimeUnit.MILLISECONDS);
+    }
+}
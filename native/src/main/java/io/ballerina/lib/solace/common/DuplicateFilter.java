@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.common;
+
+import io.ballerina.lib.solace.config.DeduplicationConfig;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers the application message IDs of recently processed messages, so a redelivered or re-published copy can be
+ * skipped. IDs are kept as 64-bit hashes in an open-addressing table, with a ring recording their insertion order:
+ * an ID is forgotten once it is older than the window, or when the table is full and it is the oldest. Memory is
+ * allocated up front and stays fixed at {@link #footprintBytes()}.
+ * <p>
+ * Only the 64-bit FNV-1a hash of each ID is stored, not the ID itself, so two different IDs with the same hash are
+ * taken for one another and the later message is skipped and acknowledged without being processed. With the table
+ * full at its largest capacity of 2^24 IDs, a new ID matches one of them with a probability of about 2^-40, which is
+ * accepted in exchange for a fixed footprint that does not depend on ID length. A rotating Bloom filter would cover
+ * longer windows in less memory, but its false positives would be many orders of magnitude more frequent.
+ */
+public final class DuplicateFilter {
+
+    private static final long EMPTY = 0;
+
+    private final int capacity;
+    private final long windowNanos;
+    private final LongSupplier clock;
+    private final long[] table;
+    private final int mask;
+    private final long[] ringKeys;
+    private final long[] ringTimes;
+    private int head;
+    private int size;
+
+    public DuplicateFilter(DeduplicationConfig config) {
+        this(config.capacity(), config.windowInMsecs(), System::nanoTime);
+    }
+
+    DuplicateFilter(int capacity, long windowInMsecs, LongSupplier clock) {
+        this.capacity = capacity;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowInMsecs);
+        this.clock = clock;
+        // Keep the table at most half full so probe sequences stay short.
+        int tableSize = Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1) << 1;
+        this.table = new long[tableSize];
+        this.mask = tableSize - 1;
+        this.ringKeys = new long[capacity];
+        this.ringTimes = new long[capacity];
+    }
+
+    /**
+     * Whether a message with this ID was recorded within the window. Messages without an ID are never duplicates.
+     */
+    public synchronized boolean isDuplicate(String messageId) {
+        if (messageId == null) {
+            return false;
+        }
+        expire(clock.getAsLong());
+        return find(hash(messageId)) >= 0;
+    }
+
+    /**
+     * Records a message ID as processed. Recording an ID that is already remembered keeps its original time.
+     */
+    public synchronized void record(String messageId) {
+        if (messageId == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        expire(now);
+        long key = hash(messageId);
+        if (find(key) >= 0) {
+            return;
+        }
+        if (size == capacity) {
+            evictOldest();
+        }
+        int tail = (head + size) % capacity;
+        ringKeys[tail] = key;
+        ringTimes[tail] = now;
+        size++;
+        int slot = slot(key);
+        while (table[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = key;
+    }
+
+    /**
+     * Number of IDs currently remembered.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Bytes held by the table and the insertion ring.
+     */
+    public long footprintBytes() {
+        return (long) Long.BYTES * (table.length + ringKeys.length + ringTimes.length);
+    }
+
+    private void expire(long now) {
+        while (size > 0 && now - ringTimes[head] >= windowNanos) {
+            evictOldest();
+        }
+    }
+
+    private void evictOldest() {
+        remove(ringKeys[head]);
+        head = (head + 1) % capacity;
+        size--;
+    }
+
+    private int find(long key) {
+        int slot = slot(key);
+        while (table[slot] != EMPTY) {
+            if (table[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Removes a key with backward-shift deletion, so later keys of the same probe sequence stay reachable without
+     * tombstones.
+     */
+    private void remove(long key) {
+        int hole = find(key);
+        if (hole < 0) {
+            return;
+        }
+        table[hole] = EMPTY;
+        int next = (hole + 1) & mask;
+        while (table[next] != EMPTY) {
+            int home = slot(table[next]);
+            // Move the key into the hole unless its home slot lies cyclically after the hole, up to its position.
+            boolean reachable = hole <= next ? home > hole && home <= next : home > hole || home <= next;
+            if (!reachable) {
+                table[hole] = table[next];
+                table[next] = EMPTY;
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+    }
+
+    private int slot(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed >>> 32) & mask;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the ID, never {@link #EMPTY}.
+     */
+    static long hash(String messageId) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < messageId.length(); i++) {
+            hash ^= messageId.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash == EMPTY ? 1 : hash;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.common;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Keeps only the latest waiting message of each topic, for subscribers that care about a topic's current value
+ * rather than every update to it.
+ * <p>
+ * A message offered while an older one of the same topic is still waiting replaces it in place, keeping the older
+ * one's turn; the replaced message is dropped. Topics are taken in the order their waiting message first arrived, so
+ * a busy topic cannot starve the others. Offering and taking never lock: a topic is queued for its turn only when its
+ * map entry goes from absent to present, and its entry is removed only once its turn has been taken, so each waiting
+ * topic is queued exactly once and a taker always gets the newest message.
+ *
+ * @param <M> the type of the waiting messages
+ */
+public final class TopicConflator<M> {
+
+    private final Map<String, M> latest = new ConcurrentHashMap<>();
+    private final Queue<String> turns = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Holds a message as the latest of its topic.
+     *
+     * @param topic   the topic the message was published to
+     * @param message the message
+     * @return true if the topic had no waiting message and was queued for a turn, false if the message replaced a
+     *         waiting one, which is dropped
+     */
+    public boolean offer(String topic, M message) {
+        if (latest.put(topic, message) != null) {
+            return false;
+        }
+        turns.add(topic);
+        return true;
+    }
+
+    /**
+     * Takes the latest message of the topic whose turn is next.
+     *
+     * @return the message, or null if no message is waiting
+     */
+    public M poll() {
+        String topic;
+        while ((topic = turns.poll()) != null) {
+            M message = latest.remove(topic);
+            // A turn has no message only if the conflator was cleared while the turn was being queued.
+            if (message != null) {
+                return message;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Number of topics with a waiting message.
+     */
+    public int size() {
+        return latest.size();
+    }
+
+    /**
+     * Drops every waiting message.
+     */
+    public void clear() {
+        // Turns first, so a concurrent offer never leaves a message behind without a turn to take it.
+        turns.clear();
+        latest.clear();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+
+/**
+ * Adaptive flow-control window for a flow-based listener service. Maps to AdaptiveWindowConfiguration in Ballerina
+ * types.bal.
+ *
+ * @param targetLatencyInMsecs how long a message should spend in the service, waiting and processing, in milliseconds
+ * @param minWindow            the fewest messages the service may hold before its flow is paused
+ * @param maxWindow            the most messages the service may hold before its flow is paused
+ */
+public record AdaptiveWindowConfig(long targetLatencyInMsecs, int minWindow, int maxWindow) {
+
+    private static final BString TARGET_LATENCY_KEY = StringUtils.fromString("targetLatency");
+    private static final BString MIN_WINDOW_KEY = StringUtils.fromString("minWindow");
+    private static final BString MAX_WINDOW_KEY = StringUtils.fromString("maxWindow");
+
+    /**
+     * Creates an AdaptiveWindowConfig from a Ballerina map record.
+     */
+    public AdaptiveWindowConfig(BMap<BString, Object> config) {
+        this(
+                decimalToMillis(((BDecimal) config.get(TARGET_LATENCY_KEY)).decimalValue()),
+                Math.toIntExact(config.getIntValue(MIN_WINDOW_KEY)),
+                Math.toIntExact(config.getIntValue(MAX_WINDOW_KEY))
+        );
+    }
+
+    private static long decimalToMillis(BigDecimal seconds) {
+        return seconds.multiply(BigDecimal.valueOf(1000)).longValue();
+    }
+
+    /**
+     * Validates the latency target and window bounds.
+     *
+     * @throws IllegalArgumentException if the target is not positive or the bounds are out of order
+     */
+    public void validate() {
+        if (targetLatencyInMsecs < 1) {
+            throw new IllegalArgumentException("adaptiveWindow.targetLatency must be at least 0.001 seconds");
+        }
+        if (minWindow < 1) {
+            throw new IllegalArgumentException("adaptiveWindow.minWindow must be at least 1");
+        }
+        if (maxWindow < minWindow) {
+            throw new IllegalArgumentException("adaptiveWindow.maxWindow must not be less than minWindow");
+        }
+    }
+}
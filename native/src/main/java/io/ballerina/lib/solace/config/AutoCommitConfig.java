@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+
+/**
+ * Automatic commit batching for a service on a transacted listener. Maps to AutoCommitConfiguration in Ballerina
+ * types.bal.
+ *
+ * @param maxMessages        commit after this many successfully processed messages
+ * @param maxIntervalInMsecs commit at most this many milliseconds after the first uncommitted message
+ */
+public record AutoCommitConfig(int maxMessages, long maxIntervalInMsecs) {
+
+    private static final BString MAX_MESSAGES_KEY = StringUtils.fromString("maxMessages");
+    private static final BString MAX_INTERVAL_KEY = StringUtils.fromString("maxInterval");
+
+    /**
+     * Creates an AutoCommitConfig from a Ballerina map record.
+     */
+    public AutoCommitConfig(BMap<BString, Object> config) {
+        this(
+                Math.toIntExact(config.getIntValue(MAX_MESSAGES_KEY)),
+                decimalToMillis(((BDecimal) config.get(MAX_INTERVAL_KEY)).decimalValue())
+        );
+    }
+
+    private static long decimalToMillis(BigDecimal seconds) {
+        return seconds.multiply(BigDecimal.valueOf(1000)).longValue();
+    }
+
+    /**
+     * Validates the batch bounds.
+     *
+     * @throws IllegalArgumentException if a bound is not positive
+     */
+    public void validate() {
+        if (maxMessages < 1) {
+            throw new IllegalArgumentException("autoCommit.maxMessages must be at least 1");
+        }
+        if (maxIntervalInMsecs < 1) {
+            throw new IllegalArgumentException("autoCommit.maxInterval must be at least 0.001 seconds");
+        }
+    }
+}
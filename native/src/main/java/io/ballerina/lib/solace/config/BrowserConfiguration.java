@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Queue browser configuration for peeking at a queue's backlog via QueueBrowser. Composes
+ * CommonConsumerConnectionConfiguration with the queue to browse. Maps to BrowserConfiguration in Ballerina
+ * types.bal.
+ *
+ * @param connectionConfig           the common connection configuration
+ * @param generateReceiveTimestamps  whether to generate receive timestamps on browsed messages
+ * @param calculateMessageExpiration whether to calculate message expiration on browsed messages
+ * @param queueName                  the name of the queue to browse
+ * @param selector                   optional SQL-92 message selector, or null to browse every message
+ * @param prefetch                   how many messages the broker sends ahead of the browser (1-255), used as the
+ *                                   browser's transport window
+ */
+public record BrowserConfiguration(
+        ConnectionConfiguration connectionConfig,
+        boolean generateReceiveTimestamps,
+        boolean calculateMessageExpiration,
+        String queueName,
+        String selector,
+        int prefetch) {
+
+    private static final BString GENERATE_RECEIVE_TIMESTAMPS_KEY = StringUtils.fromString("generateReceiveTimestamps");
+    private static final BString CALCULATE_MESSAGE_EXPIRATION_KEY =
+            StringUtils.fromString("calculateMessageExpiration");
+    private static final BString QUEUE_NAME_KEY = StringUtils.fromString("queueName");
+    private static final BString MESSAGE_SELECTOR_KEY = StringUtils.fromString("messageSelector");
+    private static final BString PREFETCH_KEY = StringUtils.fromString("prefetch");
+
+    private static final int MAX_PREFETCH = 255;
+
+    /**
+     * Creates a BrowserConfiguration from a Ballerina map record.
+     *
+     * @param config the configuration map
+     */
+    public BrowserConfiguration(BMap<BString, Object> config) {
+        this(
+                new ConnectionConfiguration(config),
+                config.getBooleanValue(GENERATE_RECEIVE_TIMESTAMPS_KEY),
+                config.getBooleanValue(CALCULATE_MESSAGE_EXPIRATION_KEY),
+                config.getStringValue(QUEUE_NAME_KEY).getValue(),
+                config.get(MESSAGE_SELECTOR_KEY) instanceof BString selector ? selector.getValue() : null,
+                config.getIntValue(PREFETCH_KEY).intValue()
+        );
+    }
+
+    /**
+     * Validates the browsed queue and the prefetch size.
+     *
+     * @throws IllegalArgumentException if the queue name is empty or the prefetch is out of range
+     */
+    public void validate() {
+        if (queueName.isBlank()) {
+            throw new IllegalArgumentException("queueName must not be empty");
+        }
+        if (prefetch < 1 || prefetch > MAX_PREFETCH) {
+            throw new IllegalArgumentException("prefetch must be between 1 and " + MAX_PREFETCH);
+        }
+    }
+}
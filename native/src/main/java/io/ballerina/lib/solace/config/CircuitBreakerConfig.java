@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+
+/**
+ * Circuit breaker that pauses a flow-based listener service after sustained handler failures. Maps to
+ * CircuitBreakerConfiguration in Ballerina types.bal.
+ *
+ * @param windowSize              number of most recent outcomes the failure rate is computed over
+ * @param minimumMessages         fewest outcomes in the window before the breaker may open
+ * @param failureRateThreshold    failure rate, in (0, 1], at or above which the breaker opens
+ * @param openDurationInMsecs     how long the flows stay paused before the first probe, in milliseconds
+ * @param maxOpenDurationInMsecs  upper bound of the open duration, which doubles after each failed probe
+ * @param halfOpenMessages        number of probe messages let through while half-open
+ */
+public record CircuitBreakerConfig(
+        int windowSize,
+        int minimumMessages,
+        double failureRateThreshold,
+        long openDurationInMsecs,
+        long maxOpenDurationInMsecs,
+        int halfOpenMessages) {
+
+    private static final BString WINDOW_SIZE_KEY = StringUtils.fromString("windowSize");
+    private static final BString MINIMUM_MESSAGES_KEY = StringUtils.fromString("minimumMessages");
+    private static final BString FAILURE_RATE_THRESHOLD_KEY = StringUtils.fromString("failureRateThreshold");
+    private static final BString OPEN_DURATION_KEY = StringUtils.fromString("openDuration");
+    private static final BString MAX_OPEN_DURATION_KEY = StringUtils.fromString("maxOpenDuration");
+    private static final BString HALF_OPEN_MESSAGES_KEY = StringUtils.fromString("halfOpenMessages");
+
+    /**
+     * Creates a CircuitBreakerConfig from a Ballerina map record.
+     */
+    public CircuitBreakerConfig(BMap<BString, Object> config) {
+        this(
+                Math.toIntExact(config.getIntValue(WINDOW_SIZE_KEY)),
+                Math.toIntExact(config.getIntValue(MINIMUM_MESSAGES_KEY)),
+                config.getFloatValue(FAILURE_RATE_THRESHOLD_KEY),
+                decimalToMillis(((BDecimal) config.get(OPEN_DURATION_KEY)).decimalValue()),
+                decimalToMillis(((BDecimal) config.get(MAX_OPEN_DURATION_KEY)).decimalValue()),
+                Math.toIntExact(config.getIntValue(HALF_OPEN_MESSAGES_KEY))
+        );
+    }
+
+    private static long decimalToMillis(BigDecimal seconds) {
+        return seconds.multiply(BigDecimal.valueOf(1000)).longValue();
+    }
+
+    /**
+     * Validates the window, threshold and timing bounds.
+     *
+     * @throws IllegalArgumentException if a bound is out of range
+     */
+    public void validate() {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("circuitBreaker.windowSize must be at least 1");
+        }
+        if (minimumMessages < 1 || minimumMessages > windowSize) {
+            throw new IllegalArgumentException("circuitBreaker.minimumMessages must be between 1 and windowSize");
+        }
+        if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+            throw new IllegalArgumentException(
+                    "circuitBreaker.failureRateThreshold must be greater than 0 and at most 1");
+        }
+        if (openDurationInMsecs < 1) {
+            throw new IllegalArgumentException("circuitBreaker.openDuration must be at least 0.001 seconds");
+        }
+        if (maxOpenDurationInMsecs < openDurationInMsecs) {
+            throw new IllegalArgumentException("circuitBreaker.maxOpenDuration must not be less than openDuration");
+        }
+        if (halfOpenMessages < 1) {
+            throw new IllegalArgumentException("circuitBreaker.halfOpenMessages must be at least 1");
+        }
+    }
+}
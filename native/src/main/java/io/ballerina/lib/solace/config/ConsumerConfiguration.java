@@ -30,12 +30,19 @@ import io.ballerina.runtime.api.values.BString;
  * @param generateReceiveTimestamps  whether to generate receive timestamps on incoming messages
  * @param calculateMessageExpiration whether to calculate message expiration on incoming messages
  * @param subscriptionConfig         the consumer subscription configuration (queue or topic)
+ * @param deduplication              skips messages whose ID was already received, or null to deliver every message
+ * @param expiredMessagePolicy       how messages that have already expired when they arrive are handled
+ * @param deadLetter                 moves messages to a dead-letter destination after their last failed delivery
+ *                                   attempt, or null to leave them to the broker
  */
 public record ConsumerConfiguration(
         ConnectionConfiguration connectionConfig,
         boolean generateReceiveTimestamps,
         boolean calculateMessageExpiration,
-        ConsumerSubscriptionConfig subscriptionConfig) {
+        ConsumerSubscriptionConfig subscriptionConfig,
+        DeduplicationConfig deduplication,
+        ExpiredMessagePolicy expiredMessagePolicy,
+        DeadLetterConfig deadLetter) {
 
     private static final BString GENERATE_RECEIVE_TIMESTAMPS_KEY = StringUtils.fromString("generateReceiveTimestamps");
     private static final BString CALCULATE_MESSAGE_EXPIRATION_KEY =
@@ -53,7 +60,10 @@ public record ConsumerConfiguration(
                 new ConnectionConfiguration(config),
                 config.getBooleanValue(GENERATE_RECEIVE_TIMESTAMPS_KEY),
                 config.getBooleanValue(CALCULATE_MESSAGE_EXPIRATION_KEY),
-                getSubscriptionConfig((BMap<BString, Object>) config.getMapValue(SUBSCRIPTION_CONFIG_KEY))
+                getSubscriptionConfig((BMap<BString, Object>) config.getMapValue(SUBSCRIPTION_CONFIG_KEY)),
+                getDeduplication((BMap<BString, Object>) config.getMapValue(SUBSCRIPTION_CONFIG_KEY)),
+                getExpiredMessagePolicy((BMap<BString, Object>) config.getMapValue(SUBSCRIPTION_CONFIG_KEY)),
+                getDeadLetter((BMap<BString, Object>) config.getMapValue(SUBSCRIPTION_CONFIG_KEY))
         );
     }
 
@@ -73,4 +83,25 @@ public record ConsumerConfiguration(
 
         return config;
     }
+
+    private static DeduplicationConfig getDeduplication(BMap<BString, Object> subscriptionConfigMap) {
+        DeduplicationConfig deduplication = DeduplicationConfig.fromSubscription(subscriptionConfigMap);
+        if (deduplication != null) {
+            deduplication.validate();
+        }
+        return deduplication;
+    }
+
+    private static ExpiredMessagePolicy getExpiredMessagePolicy(BMap<BString, Object> subscriptionConfigMap) {
+        return subscriptionConfigMap == null
+                ? ExpiredMessagePolicy.DELIVER : ExpiredMessagePolicy.fromSubscription(subscriptionConfigMap);
+    }
+
+    private static DeadLetterConfig getDeadLetter(BMap<BString, Object> subscriptionConfigMap) {
+        DeadLetterConfig deadLetter = DeadLetterConfig.fromSubscription(subscriptionConfigMap);
+        if (deadLetter != null) {
+            deadLetter.validate();
+        }
+        return deadLetter;
+    }
 }
@@ -66,9 +66,15 @@ public sealed interface ConsumerSubscriptionConfig permits QueueConsumerConfig,
 
     int reconnectRetryIntervalInMsecs();
 
+    /**
+     * Where the flow asks the broker to start a replay, or null to receive only the endpoint's current messages.
+     */
+    ReplayFrom replayFrom();
+
     /**
      * Validates the flow-control bounds shared by queue and topic subscriptions: {@code transportWindowSize}
-     * (1-255), {@code ackThreshold} (1-75), and {@code ackTimer} (20-1500ms / 0.02-1.5s). {@code ackTimerInMsecs}
+     * (1-255), {@code ackThreshold} (1-75), {@code ackTimer} (20-1500ms / 0.02-1.5s), and the {@code replayFrom}
+     * start location. {@code ackTimerInMsecs}
      * is {@code null} when the Ballerina-side {@code ackTimer} is left unset (disabled by default), so it is
      * not bounds-checked in that case.
      * <p>
@@ -91,5 +97,8 @@ public sealed interface ConsumerSubscriptionConfig permits QueueConsumerConfig,
         if (timerMs != null && (timerMs < 20 || timerMs > 1500)) {
             throw new IllegalArgumentException("ackTimer must be between 0.02 and 1.5 seconds");
         }
+        if (replayFrom() != null) {
+            replayFrom().validate();
+        }
     }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.config;
+
+import com.solacesystems.jcsmp.Destination;
+import io.ballerina.lib.solace.common.DestinationConverter;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Client-side dead-letter routing of messages that keep failing. Once a message has been delivered
+ * {@code maxDeliveryAttempts} times, its last failure publishes a copy to {@code destination} instead of having it
+ * redelivered. Read from the {@code maxDeliveryAttempts} and {@code deadLetterDestination} fields of a consumer or
+ * service subscription in Ballerina types.bal.
+ *
+ * @param maxDeliveryAttempts most times a message is delivered before it is dead-lettered
+ * @param destination         where dead-lettered messages are published
+ */
+public record DeadLetterConfig(long maxDeliveryAttempts, Destination destination) {
+
+    private static final BString MAX_DELIVERY_ATTEMPTS_KEY = StringUtils.fromString("maxDeliveryAttempts");
+    private static final BString DEAD_LETTER_DESTINATION_KEY = StringUtils.fromString("deadLetterDestination");
+
+    /**
+     * Reads the optional {@code maxDeliveryAttempts} and {@code deadLetterDestination} fields of a consumer or
+     * service subscription, which are only meaningful together.
+     *
+     * @param subscription the subscription configuration map
+     * @return the dead-letter configuration, or null if dead-letter routing is off
+     * @throws IllegalArgumentException if only one of the two fields is set
+     */
+    @SuppressWarnings("unchecked")
+    public static DeadLetterConfig fromSubscription(BMap<BString, Object> subscription) {
+        Object maxDeliveryAttempts = subscription.get(MAX_DELIVERY_ATTEMPTS_KEY);
+        Object destination = subscription.get(DEAD_LETTER_DESTINATION_KEY);
+        if (maxDeliveryAttempts == null && destination == null) {
+            return null;
+        }
+        if (destination == null) {
+            throw new IllegalArgumentException("maxDeliveryAttempts requires a deadLetterDestination");
+        }
+        if (maxDeliveryAttempts == null) {
+            throw new IllegalArgumentException("deadLetterDestination requires maxDeliveryAttempts");
+        }
+        return new DeadLetterConfig((Long) maxDeliveryAttempts,
+                DestinationConverter.toJCSMPDestination((BMap<BString, Object>) destination));
+    }
+
+    /**
+     * Validates the attempt limit.
+     *
+     * @throws IllegalArgumentException if maxDeliveryAttempts is below 1
+     */
+    public void validate() {
+        if (maxDeliveryAttempts < 1) {
+            throw new IllegalArgumentException("maxDeliveryAttempts must be at least 1");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+
+/**
+ * Client-side deduplication of consumed messages by their application message ID. Maps to DeduplicationConfiguration
+ * in Ballerina types.bal.
+ *
+ * @param capacity      most message IDs remembered at once; the oldest is forgotten first
+ * @param windowInMsecs how long, in milliseconds, a processed message ID is remembered
+ */
+public record DeduplicationConfig(int capacity, long windowInMsecs) {
+
+    /**
+     * Largest supported capacity; the filter preallocates up to 48 bytes per remembered ID.
+     */
+    public static final int MAX_CAPACITY = 1 << 24;
+
+    private static final BString DEDUPLICATION_KEY = StringUtils.fromString("deduplication");
+    private static final BString CAPACITY_KEY = StringUtils.fromString("capacity");
+    private static final BString WINDOW_KEY = StringUtils.fromString("window");
+
+    /**
+     * Creates a DeduplicationConfig from a Ballerina map record.
+     */
+    public DeduplicationConfig(BMap<BString, Object> config) {
+        this(
+                Math.toIntExact(config.getIntValue(CAPACITY_KEY)),
+                decimalToMillis(((BDecimal) config.get(WINDOW_KEY)).decimalValue())
+        );
+    }
+
+    /**
+     * Reads the optional {@code deduplication} field of a consumer or service subscription.
+     *
+     * @param subscription the subscription configuration map
+     * @return the deduplication configuration, or null if deduplication is off
+     */
+    @SuppressWarnings("unchecked")
+    public static DeduplicationConfig fromSubscription(BMap<BString, Object> subscription) {
+        return subscription.get(DEDUPLICATION_KEY) instanceof BMap<?, ?> deduplication
+                ? new DeduplicationConfig((BMap<BString, Object>) deduplication) : null;
+    }
+
+    private static long decimalToMillis(BigDecimal seconds) {
+        return seconds.multiply(BigDecimal.valueOf(1000)).longValue();
+    }
+
+    /**
+     * Validates the capacity and the window.
+     *
+     * @throws IllegalArgumentException if a bound is out of range
+     */
+    public void validate() {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("deduplication.capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        if (windowInMsecs < 1) {
+            throw new IllegalArgumentException("deduplication.window must be at least 0.001 seconds");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * How a consumer or service handles a message that has already expired when it arrives. Expiry is read from the
+ * expiration the client calculates on receipt, so any policy other than {@link #DELIVER} needs
+ * {@code calculateMessageExpiration}. Maps to ExpiredMessagePolicy in Ballerina types.bal.
+ */
+public enum ExpiredMessagePolicy {
+    /**
+     * Deliver expired messages like any other.
+     */
+    DELIVER,
+    /**
+     * Acknowledge expired messages without delivering them.
+     */
+    DISCARD,
+    /**
+     * Settle expired messages as REJECTED without delivering them, so the broker moves them to the dead message
+     * queue if one is configured.
+     */
+    DEAD_LETTER;
+
+    private static final BString EXPIRED_MESSAGE_POLICY_KEY = StringUtils.fromString("expiredMessagePolicy");
+
+    /**
+     * Reads the {@code expiredMessagePolicy} field of a subscription configuration.
+     *
+     * @param config the subscription configuration map
+     * @return the configured policy, or {@link #DELIVER} when it is not set
+     */
+    public static ExpiredMessagePolicy fromSubscription(BMap<BString, Object> config) {
+        return config.get(EXPIRED_MESSAGE_POLICY_KEY) instanceof BString policy
+                ? valueOf(policy.getValue()) : DELIVER;
+    }
+
+    /**
+     * Whether a message with the given expiration has expired.
+     *
+     * @param expirationMillis the message's expiration in UTC milliseconds from epoch, or 0 if it never expires
+     * @param nowMillis        the current time in UTC milliseconds from epoch
+     */
+    public static boolean isExpired(long expirationMillis, long nowMillis) {
+        return expirationMillis > 0 && expirationMillis <= nowMillis;
+    }
+}
@@ -19,9 +19,12 @@
 package io.ballerina.lib.solace.config;
 
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 
+import java.math.BigDecimal;
+
 /**
  * Listener configuration for asynchronous (push-based) message consumption. Maps to ListenerConfiguration in
  * Ballerina types.bal.
@@ -29,15 +32,18 @@ import io.ballerina.runtime.api.values.BString;
  * @param connectionConfig           the common connection configuration
  * @param generateReceiveTimestamps  whether to generate receive timestamps on incoming messages
  * @param calculateMessageExpiration whether to calculate message expiration on incoming messages
+ * @param gracefulStopTimeoutInMsecs how long a graceful stop or detach waits for services to drain, in milliseconds
  */
 public record ListenerConfiguration(
         ConnectionConfiguration connectionConfig,
         boolean generateReceiveTimestamps,
-        boolean calculateMessageExpiration) {
+        boolean calculateMessageExpiration,
+        long gracefulStopTimeoutInMsecs) {
 
     private static final BString GENERATE_RECEIVE_TIMESTAMPS_KEY = StringUtils.fromString("generateReceiveTimestamps");
     private static final BString CALCULATE_MESSAGE_EXPIRATION_KEY =
             StringUtils.fromString("calculateMessageExpiration");
+    private static final BString GRACEFUL_STOP_TIMEOUT_KEY = StringUtils.fromString("gracefulStopTimeout");
 
     /**
      * Creates a ListenerConfiguration from a Ballerina map record. The map contains connection configuration fields.
@@ -48,7 +54,12 @@ public record ListenerConfiguration(
         this(
                 new ConnectionConfiguration(config),
                 config.getBooleanValue(GENERATE_RECEIVE_TIMESTAMPS_KEY),
-                config.getBooleanValue(CALCULATE_MESSAGE_EXPIRATION_KEY)
+                config.getBooleanValue(CALCULATE_MESSAGE_EXPIRATION_KEY),
+                decimalToMillis(((BDecimal) config.get(GRACEFUL_STOP_TIMEOUT_KEY)).decimalValue())
         );
     }
+
+    private static long decimalToMillis(BigDecimal seconds) {
+        return seconds.multiply(BigDecimal.valueOf(1000)).longValue();
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+
+/**
+ * Priority-ordered dispatch for a flow-based listener service. Maps to PriorityDispatchConfiguration in Ballerina
+ * types.bal.
+ *
+ * @param capacity       most messages each flow holds waiting for dispatch before it is paused
+ * @param maxWaitInMsecs how long a message may wait, in milliseconds, before it is dispatched ahead of higher
+ *                       priorities
+ */
+public record PriorityDispatchConfig(int capacity, long maxWaitInMsecs) {
+
+    private static final BString CAPACITY_KEY = StringUtils.fromString("capacity");
+    private static final BString MAX_WAIT_KEY = StringUtils.fromString("maxWait");
+
+    /**
+     * Creates a PriorityDispatchConfig from a Ballerina map record.
+     */
+    public PriorityDispatchConfig(BMap<BString, Object> config) {
+        this(
+                Math.toIntExact(config.getIntValue(CAPACITY_KEY)),
+                decimalToMillis(((BDecimal) config.get(MAX_WAIT_KEY)).decimalValue())
+        );
+    }
+
+    private static long decimalToMillis(BigDecimal seconds) {
+        return seconds.multiply(BigDecimal.valueOf(1000)).longValue();
+    }
+
+    /**
+     * Validates the capacity and the aging bound.
+     *
+     * @throws IllegalArgumentException if a bound is out of range
+     */
+    public void validate() {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("priorityDispatch.capacity must be at least 1");
+        }
+        if (maxWaitInMsecs < 1) {
+            throw new IllegalArgumentException("priorityDispatch.maxWait must be at least 0.001 seconds");
+        }
+    }
+}
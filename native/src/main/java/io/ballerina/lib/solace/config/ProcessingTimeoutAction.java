@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.config;
+
+/**
+ * How a listener service settles a message whose {@code onMessage} invocation exceeded its processing timeout. Maps
+ * to ProcessingTimeoutAction in Ballerina types.bal.
+ */
+public enum ProcessingTimeoutAction {
+    /**
+     * Settle the message as FAILED, so the broker redelivers it.
+     */
+    REQUEUE,
+    /**
+     * Settle the message as REJECTED, so the broker moves it to the dead message queue if one is configured.
+     */
+    REJECT,
+    /**
+     * Leave the message unsettled; it is redelivered once the flow is closed.
+     */
+    LEAVE_UNSETTLED
+}
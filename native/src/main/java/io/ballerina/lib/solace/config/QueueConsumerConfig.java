@@ -44,6 +44,7 @@ import java.math.BigDecimal;
  * @param ackTimerInMsecs               ACK timer in milliseconds (20-1500). Disabled (null) by default
  * @param reconnectTries                number of reconnection attempts after flow goes down (-1 = infinite)
  * @param reconnectRetryIntervalInMsecs wait time between reconnection attempts in ms (min 50, default 3000)
+ * @param replayFrom                    where the flow asks the broker to start a replay, or null to not replay
  */
 public record QueueConsumerConfig(
         String queueName,
@@ -54,7 +55,8 @@ public record QueueConsumerConfig(
         Integer ackThreshold,
         Integer ackTimerInMsecs,
         Integer reconnectTries,
-        int reconnectRetryIntervalInMsecs
+        int reconnectRetryIntervalInMsecs,
+        ReplayFrom replayFrom
 ) implements ConsumerSubscriptionConfig {
 
     private static final BString QUEUE_NAME_KEY = StringUtils.fromString("queueName");
@@ -86,7 +88,8 @@ public record QueueConsumerConfig(
                 extractOptionalInteger(config, ACK_THRESHOLD_KEY),
                 extractOptionalDecimalMillis(config, ACK_TIMER_KEY),
                 extractOptionalInteger(config, RECONNECT_TRIES_KEY),
-                decimalToMillis(((BDecimal) config.get(RECONNECT_RETRY_INTERVAL_KEY)).decimalValue())
+                decimalToMillis(((BDecimal) config.get(RECONNECT_RETRY_INTERVAL_KEY)).decimalValue()),
+                ReplayFrom.fromSubscription(config)
         );
     }
 
@@ -138,9 +141,11 @@ public record QueueConsumerConfig(
     }
 
     /**
-     * Validates the shared flow-control bounds, then that queueName is provided when durability is DURABLE.
+     * Validates the shared flow-control bounds, then that queueName is provided when durability is DURABLE and that
+     * only DURABLE queues replay.
      *
-     * @throws IllegalArgumentException if a flow-control bound is violated, or queueName is missing while durable
+     * @throws IllegalArgumentException if a flow-control bound is violated, queueName is missing while durable, or a
+     *                                   TEMPORARY queue sets replayFrom
      */
     @Override
     public void validate() {
@@ -148,5 +153,8 @@ public record QueueConsumerConfig(
         if (!isTemporary() && (queueName == null || queueName.isEmpty())) {
             throw new IllegalArgumentException("queueName is required when the queue is DURABLE");
         }
+        if (replayFrom != null && isTemporary()) {
+            throw new IllegalArgumentException("replayFrom is not supported for TEMPORARY queues");
+        }
     }
 }
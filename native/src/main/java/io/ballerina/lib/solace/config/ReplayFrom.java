@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.config;
+
+import com.solacesystems.jcsmp.InvalidPropertiesException;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.ReplayStartLocation;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Date;
+
+/**
+ * Where a flow asks the broker to start replaying an endpoint's messages from the replay log. Maps to ReplayFrom in
+ * Ballerina types.bal: {@code REPLAY_FROM_BEGINNING}, a {@code ReplayFromTime}, or a {@code ReplayAfterMessage}.
+ */
+public sealed interface ReplayFrom {
+
+    BString REPLAY_FROM_KEY = StringUtils.fromString("replayFrom");
+    BString TIMESTAMP_KEY = StringUtils.fromString("timestamp");
+    BString REPLICATION_GROUP_MESSAGE_ID_KEY = StringUtils.fromString("replicationGroupMessageId");
+
+    /**
+     * Replays every message in the replay log.
+     */
+    record Beginning() implements ReplayFrom {
+
+        @Override
+        public ReplayStartLocation toStartLocation() {
+            return JCSMPFactory.onlyInstance().createReplayStartLocationBeginning();
+        }
+
+        @Override
+        public void validate() {
+        }
+    }
+
+    /**
+     * Replays the messages spooled at or after a point in time.
+     *
+     * @param epochMillis the time to replay from, in UTC milliseconds from epoch
+     */
+    record FromTime(long epochMillis) implements ReplayFrom {
+
+        @Override
+        public ReplayStartLocation toStartLocation() {
+            return JCSMPFactory.onlyInstance().createReplayStartLocationDate(new Date(epochMillis));
+        }
+
+        @Override
+        public void validate() {
+            if (epochMillis < 0) {
+                throw new IllegalArgumentException("replayFrom.timestamp must not be negative");
+            }
+        }
+    }
+
+    /**
+     * Replays the messages spooled after a given message.
+     *
+     * @param replicationGroupMessageId the replication group message ID of the last message not to replay
+     */
+    record AfterMessage(String replicationGroupMessageId) implements ReplayFrom {
+
+        @Override
+        public ReplayStartLocation toStartLocation() throws InvalidPropertiesException {
+            return JCSMPFactory.onlyInstance().createReplicationGroupMessageId(replicationGroupMessageId);
+        }
+
+        @Override
+        public void validate() {
+            try {
+                toStartLocation();
+            } catch (InvalidPropertiesException e) {
+                throw new IllegalArgumentException(
+                        "replayFrom.replicationGroupMessageId is not a valid replication group message ID");
+            }
+        }
+    }
+
+    /**
+     * Reads the {@code replayFrom} field of a subscription configuration.
+     *
+     * @param config the subscription configuration map
+     * @return the replay start, or null when the subscription does not replay
+     */
+    static ReplayFrom fromSubscription(BMap<BString, Object> config) {
+        Object value = config.get(REPLAY_FROM_KEY);
+        if (value instanceof BString) {
+            return new Beginning();
+        }
+        if (value instanceof BMap<?, ?> location) {
+            Object timestamp = location.get(TIMESTAMP_KEY);
+            if (timestamp instanceof Long epochMillis) {
+                return new FromTime(epochMillis);
+            }
+            return new AfterMessage(location.get(REPLICATION_GROUP_MESSAGE_ID_KEY).toString());
+        }
+        return null;
+    }
+
+    /**
+     * Creates the JCSMP replay start location to set on the flow properties.
+     *
+     * @throws InvalidPropertiesException if a replication group message ID is malformed
+     */
+    ReplayStartLocation toStartLocation() throws InvalidPropertiesException;
+
+    /**
+     * Validates the replay start.
+     *
+     * @throws IllegalArgumentException if the replay start is invalid
+     */
+    void validate();
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.config;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+
+/**
+ * Listener service configuration read from the {@code @solace:ServiceConfig} annotation. Pairs the subscription
+ * (shared with the pull-based MessageConsumer) with the dispatch options that only apply to services. Maps to
+ * QueueServiceConfiguration/TopicServiceConfiguration in Ballerina types.bal.
+ *
+ * @param subscriptionConfig       the queue or topic subscription of the service
+ * @param flowCount                number of flows bound to the queue, each with its own dispatch lane (queues only,
+ *                                 default 1)
+ * @param autoCommit               automatic commit batching on a transacted listener, or null when commits are
+ *                                 driven by the service through its caller
+ * @param adaptiveWindow           latency-driven flow control of each flow, or null to let every flow deliver freely
+ * @param circuitBreaker           pauses the service's flows after sustained handler failures, or null to never
+ *                                 pause
+ * @param priorityDispatch         dispatches each flow's waiting messages highest priority first, or null to
+ *                                 dispatch them in arrival order
+ * @param maxRate                  most messages per second the service is handed, or {@link #NO_MAX_RATE} to not
+ *                                 limit its intake
+ * @param processingTimeoutInMsecs how long {@code onMessage} may run for one message, in milliseconds, or
+ *                                 {@link #NO_PROCESSING_TIMEOUT} to let it run without a limit
+ * @param processingTimeoutAction  how a message is settled when its {@code onMessage} invocation times out
+ * @param deduplication            skips messages whose ID the service already processed, or null to deliver every
+ *                                 message
+ * @param expiredMessagePolicy     how messages that have already expired when they arrive are handled
+ * @param deadLetter               moves messages to a dead-letter destination after their last failed delivery
+ *                                 attempt, or null to leave them to the broker
+ */
+public record ServiceConfiguration(
+        ConsumerSubscriptionConfig subscriptionConfig,
+        int flowCount,
+        AutoCommitConfig autoCommit,
+        AdaptiveWindowConfig adaptiveWindow,
+        CircuitBreakerConfig circuitBreaker,
+        PriorityDispatchConfig priorityDispatch,
+        double maxRate,
+        long processingTimeoutInMsecs,
+        ProcessingTimeoutAction processingTimeoutAction,
+        DeduplicationConfig deduplication,
+        ExpiredMessagePolicy expiredMessagePolicy,
+        DeadLetterConfig deadLetter) {
+
+    /**
+     * The value of {@code processingTimeoutInMsecs} when no processing timeout is configured.
+     */
+    public static final long NO_PROCESSING_TIMEOUT = -1;
+
+    /**
+     * The value of {@code maxRate} when the service's intake is not limited.
+     */
+    public static final double NO_MAX_RATE = -1;
+
+    private static final BString FLOW_COUNT_KEY = StringUtils.fromString("flowCount");
+    private static final BString AUTO_COMMIT_KEY = StringUtils.fromString("autoCommit");
+    private static final BString ADAPTIVE_WINDOW_KEY = StringUtils.fromString("adaptiveWindow");
+    private static final BString CIRCUIT_BREAKER_KEY = StringUtils.fromString("circuitBreaker");
+    private static final BString PRIORITY_DISPATCH_KEY = StringUtils.fromString("priorityDispatch");
+    private static final BString MAX_RATE_KEY = StringUtils.fromString("maxRate");
+    private static final BString PROCESSING_TIMEOUT_KEY = StringUtils.fromString("processingTimeout");
+    private static final BString PROCESSING_TIMEOUT_ACTION_KEY = StringUtils.fromString("processingTimeoutAction");
+
+    private static final int DEFAULT_FLOW_COUNT = 1;
+
+    /**
+     * Creates a ServiceConfiguration from the Ballerina service annotation value.
+     *
+     * @param config the annotation value
+     */
+    @SuppressWarnings("unchecked")
+    public ServiceConfiguration(BMap<BString, Object> config) {
+        this(
+                ConsumerSubscriptionConfig.fromBMap(config),
+                extractInt(config, FLOW_COUNT_KEY, DEFAULT_FLOW_COUNT),
+                config.get(AUTO_COMMIT_KEY) instanceof BMap<?, ?> autoCommit
+                        ? new AutoCommitConfig((BMap<BString, Object>) autoCommit) : null,
+                config.get(ADAPTIVE_WINDOW_KEY) instanceof BMap<?, ?> adaptiveWindow
+                        ? new AdaptiveWindowConfig((BMap<BString, Object>) adaptiveWindow) : null,
+                config.get(CIRCUIT_BREAKER_KEY) instanceof BMap<?, ?> circuitBreaker
+                        ? new CircuitBreakerConfig((BMap<BString, Object>) circuitBreaker) : null,
+                config.get(PRIORITY_DISPATCH_KEY) instanceof BMap<?, ?> priorityDispatch
+                        ? new PriorityDispatchConfig((BMap<BString, Object>) priorityDispatch) : null,
+                config.get(MAX_RATE_KEY) instanceof BDecimal rate ? rate.decimalValue().doubleValue() : NO_MAX_RATE,
+                config.get(PROCESSING_TIMEOUT_KEY) instanceof BDecimal timeout
+                        ? decimalToMillis(timeout.decimalValue()) : NO_PROCESSING_TIMEOUT,
+                config.get(PROCESSING_TIMEOUT_ACTION_KEY) instanceof BString action
+                        ? ProcessingTimeoutAction.valueOf(action.getValue()) : ProcessingTimeoutAction.REQUEUE,
+                DeduplicationConfig.fromSubscription(config),
+                ExpiredMessagePolicy.fromSubscription(config),
+                DeadLetterConfig.fromSubscription(config)
+        );
+    }
+
+    private static long decimalToMillis(BigDecimal seconds) {
+        return seconds.multiply(BigDecimal.valueOf(1000)).longValue();
+    }
+
+    private static int extractInt(BMap<BString, Object> config, BString key, int defaultValue) {
+        Object value = config.get(key);
+        return value instanceof Number number ? number.intValue() : defaultValue;
+    }
+
+    /**
+     * Validates the subscription, then the service-only dispatch options.
+     *
+     * @throws IllegalArgumentException if the subscription or a dispatch option is invalid
+     */
+    public void validate() {
+        subscriptionConfig.validate();
+        if (flowCount < 1) {
+            throw new IllegalArgumentException("flowCount must be at least 1");
+        }
+        if (flowCount > 1 && !(subscriptionConfig instanceof QueueConsumerConfig)) {
+            throw new IllegalArgumentException("flowCount is only supported for queue subscriptions");
+        }
+        if (flowCount > 1 && subscriptionConfig.replayFrom() != null) {
+            // Each flow would replay the queue again whenever it binds or becomes active.
+            throw new IllegalArgumentException("replayFrom is not supported with a flowCount greater than 1");
+        }
+        if (autoCommit != null) {
+            autoCommit.validate();
+        }
+        if (adaptiveWindow != null) {
+            requireFlow("adaptiveWindow");
+            adaptiveWindow.validate();
+        }
+        if (circuitBreaker != null) {
+            requireFlow("circuitBreaker");
+            circuitBreaker.validate();
+        }
+        if (priorityDispatch != null) {
+            requireFlow("priorityDispatch");
+            priorityDispatch.validate();
+        }
+        if (maxRate != NO_MAX_RATE) {
+            requireFlow("maxRate");
+            if (!(maxRate > 0)) {
+                throw new IllegalArgumentException("maxRate must be greater than 0");
+            }
+        }
+        if (hasProcessingTimeout() && processingTimeoutInMsecs < 1) {
+            throw new IllegalArgumentException("processingTimeout must be at least 0.001 seconds");
+        }
+        if (deduplication != null) {
+            deduplication.validate();
+        }
+        if (deadLetter != null) {
+            requireFlow("maxDeliveryAttempts");
+            deadLetter.validate();
+        }
+    }
+
+    /**
+     * Whether {@code onMessage} invocations are abandoned after {@code processingTimeoutInMsecs}.
+     */
+    public boolean hasProcessingTimeout() {
+        return processingTimeoutInMsecs != NO_PROCESSING_TIMEOUT;
+    }
+
+    /**
+     * Whether the service's intake is limited to {@code maxRate} messages per second.
+     */
+    public boolean hasMaxRate() {
+        return maxRate != NO_MAX_RATE;
+    }
+
+    private void requireFlow(String option) {
+        if (subscriptionConfig instanceof TopicConsumerConfig topicConfig && !topicConfig.isDurable()) {
+            throw new IllegalArgumentException(option + " is only supported for queue and durable topic subscriptions");
+        }
+    }
+}
@@ -20,18 +20,22 @@ package io.ballerina.lib.solace.config;
 
 import io.ballerina.lib.solace.consumer.AcknowledgementMode;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Topic consumer configuration. Represents the subscription to a topic for receiving messages, shared by both the
  * synchronous (pull-based) MessageConsumer and the asynchronous (push-based) Listener. Maps to
  * TopicConfiguration/TopicServiceConfiguration in Ballerina types.bal.
  *
- * @param topicName                     the name of the topic to subscribe to
+ * @param topicNames                    the topics to subscribe to; several topics share one direct subscription
+ *                                      (TEMPORARY only)
  * @param ackMode                       the JCSMP acknowledgement mode (SUPPORTED_MESSAGE_ACK_AUTO or
  *                                      SUPPORTED_MESSAGE_ACK_CLIENT)
  * @param selector                      optional SQL-92 message selector expression for filtering
@@ -45,9 +49,13 @@ import java.math.BigDecimal;
  *                                      only
  * @param reconnectRetryIntervalInMsecs wait time between reconnection attempts in ms (min 50, default 3000) - DURABLE
  *                                      only
+ * @param replayFrom                    where the flow asks the broker to start a replay, or null to not replay -
+ *                                      DURABLE only
+ * @param conflate                      whether only the latest waiting message of each topic is delivered -
+ *                                      TEMPORARY only
  */
 public record TopicConsumerConfig(
-        String topicName,
+        List<String> topicNames,
         AcknowledgementMode ackMode,
         String selector,
         String durability,
@@ -56,7 +64,9 @@ public record TopicConsumerConfig(
         Integer ackThreshold,
         Integer ackTimerInMsecs,
         Integer reconnectTries,
-        int reconnectRetryIntervalInMsecs
+        int reconnectRetryIntervalInMsecs,
+        ReplayFrom replayFrom,
+        boolean conflate
 ) implements ConsumerSubscriptionConfig {
 
     private static final BString TOPIC_NAME_KEY = StringUtils.fromString("topicName");
@@ -69,6 +79,7 @@ public record TopicConsumerConfig(
     private static final BString ACK_TIMER_KEY = StringUtils.fromString("ackTimer");
     private static final BString RECONNECT_TRIES_KEY = StringUtils.fromString("reconnectTries");
     private static final BString RECONNECT_RETRY_INTERVAL_KEY = StringUtils.fromString("reconnectRetryInterval");
+    private static final BString CONFLATE_KEY = StringUtils.fromString("conflate");
 
     private static final String DEFAULT_DURABILITY = "TEMPORARY";
 
@@ -79,7 +90,7 @@ public record TopicConsumerConfig(
      */
     public TopicConsumerConfig(BMap<BString, Object> config) {
         this(
-                extractTopicName(config),
+                extractTopicNames(config),
                 AcknowledgementMode.valueOf(config.getStringValue(ACK_MODE_KEY).getValue()),
                 extractSelector(config),
                 extractDurability(config),
@@ -88,16 +99,25 @@ public record TopicConsumerConfig(
                 extractOptionalInteger(config, ACK_THRESHOLD_KEY),
                 extractOptionalDecimalMillis(config, ACK_TIMER_KEY),
                 extractOptionalInteger(config, RECONNECT_TRIES_KEY),
-                decimalToMillis(((BDecimal) config.get(RECONNECT_RETRY_INTERVAL_KEY)).decimalValue())
+                decimalToMillis(((BDecimal) config.get(RECONNECT_RETRY_INTERVAL_KEY)).decimalValue()),
+                ReplayFrom.fromSubscription(config),
+                Boolean.TRUE.equals(config.get(CONFLATE_KEY))
         );
     }
 
-    private static String extractTopicName(BMap<BString, Object> config) {
+    private static List<String> extractTopicNames(BMap<BString, Object> config) {
         Object value = config.get(TOPIC_NAME_KEY);
         if (value == null) {
             throw new IllegalArgumentException("topicName is required for TopicConsumerConfig");
         }
-        return value.toString();
+        if (!(value instanceof BArray topics)) {
+            return List.of(value.toString());
+        }
+        List<String> topicNames = new ArrayList<>(topics.size());
+        for (int i = 0; i < topics.size(); i++) {
+            topicNames.add(topics.getBString(i).getValue());
+        }
+        return List.copyOf(topicNames);
     }
 
     private static String extractSelector(BMap<BString, Object> config) {
@@ -136,17 +156,46 @@ public record TopicConsumerConfig(
     }
 
     /**
-     * Validates the shared flow-control bounds, then that endpointName is provided for DURABLE endpoints.
+     * Names the subscription in observability tags: its topic, or its topics separated by commas.
+     *
+     * @return the subscribed topic names
+     */
+    public String destinationName() {
+        return String.join(",", topicNames);
+    }
+
+    /**
+     * Validates the shared flow-control bounds, then that at least one topic is given and a DURABLE endpoint gets a
+     * single one, that endpointName is provided for DURABLE endpoints, that only DURABLE subscriptions replay and
+     * that only TEMPORARY subscriptions conflate.
      *
-     * @throws IllegalArgumentException if a flow-control bound is violated, or endpointName is missing for
-     *                                   DURABLE endpoints
+     * @throws IllegalArgumentException if a flow-control bound is violated, the topics do not suit the durability,
+     *                                   endpointName is missing for DURABLE endpoints, a TEMPORARY subscription sets
+     *                                   replayFrom, or a DURABLE one sets conflate
      */
     @Override
     public void validate() {
         ConsumerSubscriptionConfig.super.validate();
+        if (topicNames.isEmpty()) {
+            throw new IllegalArgumentException("topicName must name at least one topic");
+        }
+        if (topicNames.stream().anyMatch(String::isEmpty)) {
+            throw new IllegalArgumentException("topicName must not be empty");
+        }
+        // A durable topic endpoint holds exactly one topic subscription.
+        if (isDurable() && topicNames.size() > 1) {
+            throw new IllegalArgumentException("A DURABLE topic subscription takes a single topicName");
+        }
         if (isDurable() && (endpointName == null || endpointName.isEmpty())) {
             throw new IllegalArgumentException("endpointName is required when the topic is DURABLE");
         }
+        if (replayFrom != null && !isDurable()) {
+            throw new IllegalArgumentException("replayFrom is only supported for DURABLE topic subscriptions");
+        }
+        // Dropping a guaranteed message would need it settled, and would defeat the endpoint that spooled it.
+        if (conflate && isDurable()) {
+            throw new IllegalArgumentException("conflate is only supported for TEMPORARY topic subscriptions");
+        }
     }
 
     private static int decimalToMillis(BigDecimal seconds) {
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.consumer;
+
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.XMLMessageConsumer;
+import io.ballerina.lib.solace.common.TopicConflator;
+
+/**
+ * Receives from a conflating direct topic consumer.
+ * <p>
+ * The messages JCSMP has buffered for the consumer are drained into a {@link TopicConflator} before each receive, so
+ * an update that was superseded while the application was busy is dropped instead of returned, and the application
+ * receives the latest message of each waiting topic in turn. Only a receive that finds nothing waiting blocks on the
+ * consumer.
+ */
+final class ConflatingReceiver implements MessagePrefetcher.MessageSource<BytesXMLMessage> {
+
+    // Bounds one drain, so a topic published faster than it is drained cannot keep a receive from returning.
+    static final int MAX_DRAIN = 1024;
+
+    private final XMLMessageConsumer consumer;
+    private final Runnable onConflated;
+    private final TopicConflator<BytesXMLMessage> conflator = new TopicConflator<>();
+
+    /**
+     * Creates a receiver that conflates the messages of a direct topic consumer.
+     *
+     * @param consumer    the direct topic consumer to receive from
+     * @param onConflated called for every message dropped in favour of a newer one on its topic
+     */
+    ConflatingReceiver(XMLMessageConsumer consumer, Runnable onConflated) {
+        this.consumer = consumer;
+        this.onConflated = onConflated;
+    }
+
+    /**
+     * Takes the latest message of the next waiting topic, waiting up to a timeout for one to arrive if none is.
+     *
+     * @param timeoutMillis how long to wait, as for {@link XMLMessageConsumer#receive(int)}
+     * @return the message, or null if the timeout elapsed
+     */
+    @Override
+    public BytesXMLMessage receive(int timeoutMillis) throws JCSMPException {
+        BytesXMLMessage latest = receiveNoWait();
+        if (latest != null) {
+            return latest;
+        }
+        BytesXMLMessage message = consumer.receive(timeoutMillis);
+        if (message == null) {
+            return null;
+        }
+        offer(message);
+        return receiveNoWait();
+    }
+
+    /**
+     * Takes the latest message of the next waiting topic without waiting.
+     *
+     * @return the message, or null if none is waiting
+     */
+    BytesXMLMessage receiveNoWait() throws JCSMPException {
+        for (int i = 0; i < MAX_DRAIN; i++) {
+            BytesXMLMessage message = consumer.receiveNoWait();
+            if (message == null) {
+                break;
+            }
+            offer(message);
+        }
+        return conflator.poll();
+    }
+
+    private void offer(BytesXMLMessage message) {
+        if (!conflator.offer(message.getDestination().getName(), message)) {
+            onConflated.run();
+        }
+    }
+}
@@ -19,24 +19,34 @@
 package io.ballerina.lib.solace.consumer;
 
 import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.DeliveryMode;
 import com.solacesystems.jcsmp.FlowReceiver;
+import com.solacesystems.jcsmp.JCSMPException;
 import com.solacesystems.jcsmp.JCSMPFactory;
 import com.solacesystems.jcsmp.JCSMPProperties;
 import com.solacesystems.jcsmp.JCSMPSession;
 import com.solacesystems.jcsmp.XMLMessage;
 import com.solacesystems.jcsmp.XMLMessageConsumer;
 import com.solacesystems.jcsmp.transaction.TransactedSession;
+import io.ballerina.lib.solace.ModuleUtils;
 import io.ballerina.lib.solace.common.BallerinaSolaceDatabindingException;
 import io.ballerina.lib.solace.common.CommonUtils;
+import io.ballerina.lib.solace.common.DeadLetterRouter;
+import io.ballerina.lib.solace.common.DelayedRedelivery;
+import io.ballerina.lib.solace.common.DuplicateFilter;
 import io.ballerina.lib.solace.config.ConfigurationUtils;
 import io.ballerina.lib.solace.config.ConsumerConfiguration;
 import io.ballerina.lib.solace.config.ConsumerSubscriptionConfig;
+import io.ballerina.lib.solace.config.ExpiredMessagePolicy;
 import io.ballerina.lib.solace.config.QueueConsumerConfig;
 import io.ballerina.lib.solace.config.TopicConsumerConfig;
 import io.ballerina.lib.solace.observability.SolaceMetricsUtil;
 import io.ballerina.lib.solace.observability.SolaceSessionEventHandler;
 import io.ballerina.lib.solace.observability.SolaceTracingUtil;
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
@@ -48,12 +58,23 @@ import io.ballerina.runtime.api.values.BTypedesc;
 
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntConsumer;
 
+import static io.ballerina.lib.solace.common.Constants.NATIVE_ACK_MODE;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_CLOSED;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_CONFLATING_RECEIVER;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_CONSUMER_FLOW_STATE_TRACKER;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_CONSUMER;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_DEAD_LETTER_ROUTER;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_DESTINATION;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_DESTINATION_KIND;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_DUPLICATE_FILTER;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_EXPIRED_MESSAGE_POLICY;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_FLOW;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_MESSAGE_STREAM;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_RECEIVE_WORKER;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_SESSION;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_SUBSCRIPTION_TYPE;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_TRANSACTED;
@@ -85,6 +106,12 @@ public class ConsumerActions {
 
     private static final String INACTIVE_FLOW_ERROR = "InactiveFlowError";
     private static final String FLOW_DOWN_ERROR = "FlowDownError";
+    private static final String SETTLEMENT_ERROR = "SettlementError";
+    private static final String SETTLEMENT_ERROR_DETAIL = "SettlementErrorDetail";
+    private static final String SETTLEMENT_FAILURE = "SettlementFailure";
+    private static final BString FAILURES_KEY = StringUtils.fromString("failures");
+    private static final BString INDEX_KEY = StringUtils.fromString("index");
+    private static final BString MESSAGE_KEY = StringUtils.fromString("message");
 
     /**
      * Initialize the consumer with connection URL and configuration. Creates either a transacted or non-transacted
@@ -127,6 +154,23 @@ public class ConsumerActions {
                         "Use DURABLE endpoint type for guaranteed delivery with transactions.");
             }
 
+            if (isTransacted && consumerConfig.deduplication() != null) {
+                cleanupOnInitFailure(session, null);
+                return CommonUtils.createError("deduplication is not supported for transacted consumers");
+            }
+
+            BError expiredPolicyError = validateExpiredMessagePolicy(consumerConfig);
+            if (expiredPolicyError != null) {
+                cleanupOnInitFailure(session, null);
+                return expiredPolicyError;
+            }
+
+            BError deadLetterError = validateDeadLetter(consumerConfig);
+            if (deadLetterError != null) {
+                cleanupOnInitFailure(session, null);
+                return deadLetterError;
+            }
+
             // Create TransactedSession if in transacted mode
             txSession = isTransacted ? session.createTransactedSession() : null;
             final JCSMPSession finalSession = session;
@@ -136,6 +180,7 @@ public class ConsumerActions {
             consumer.addNativeData(NATIVE_SESSION, session);
             consumer.addNativeData(NATIVE_TX_SESSION, txSession);
             consumer.addNativeData(NATIVE_TRANSACTED, isTransacted);
+            consumer.addNativeData(NATIVE_ACK_MODE, subscriptionConfig.ackMode());
             consumer.addNativeData(NATIVE_CLOSED, false);
             consumer.addNativeData(NATIVE_URL, url.getValue());
             consumer.addNativeData(NATIVE_VPN, messageVpn);
@@ -161,6 +206,20 @@ public class ConsumerActions {
                 cleanupOnInitFailure(session, txSession);
                 return CommonUtils.createError("Unknown subscription configuration type");
             }
+            consumer.addNativeData(NATIVE_RECEIVE_WORKER,
+                    new ReceiveWorker(Thread.ofVirtual().name("solace-consumer-receive").factory()));
+            if (consumerConfig.deduplication() != null) {
+                consumer.addNativeData(NATIVE_DUPLICATE_FILTER, new DuplicateFilter(consumerConfig.deduplication()));
+            }
+            if (consumerConfig.expiredMessagePolicy() != ExpiredMessagePolicy.DELIVER) {
+                consumer.addNativeData(NATIVE_EXPIRED_MESSAGE_POLICY, consumerConfig.expiredMessagePolicy());
+            }
+            if (consumerConfig.deadLetter() != null) {
+                consumer.addNativeData(NATIVE_DEAD_LETTER_ROUTER, new DeadLetterRouter(consumerConfig.deadLetter(),
+                        DeadLetterRouter.sessionProducer(session, url.getValue(), messageVpn), url.getValue(),
+                        messageVpn, (String) consumer.getNativeData(NATIVE_DESTINATION),
+                        (String) consumer.getNativeData(NATIVE_DESTINATION_KIND)));
+            }
 
         } catch (Exception e) {
             cleanupOnInitFailure(session, txSession);
@@ -168,6 +227,60 @@ public class ConsumerActions {
             return CommonUtils.createError("Failed to initialize consumer", e);
         }
         SolaceMetricsUtil.reportNewConsumer(consumer);
+        if (consumer.getNativeData(NATIVE_DUPLICATE_FILTER) instanceof DuplicateFilter filter) {
+            SolaceMetricsUtil.reportDeduplicationFootprint(consumer, filter.footprintBytes());
+        }
+        return null;
+    }
+
+    /**
+     * Checks that an expired message policy other than DELIVER can be applied: expiry is only known when the client
+     * calculates it, an expired message cannot be settled on its own inside a transaction, and only a CLIENT_ACK flow
+     * leaves a message unsettled for it to be rejected.
+     *
+     * @return the error to fail init with, or null if the policy can be applied
+     */
+    private static BError validateExpiredMessagePolicy(ConsumerConfiguration consumerConfig) {
+        ExpiredMessagePolicy policy = consumerConfig.expiredMessagePolicy();
+        if (policy == ExpiredMessagePolicy.DELIVER) {
+            return null;
+        }
+        if (!consumerConfig.calculateMessageExpiration()) {
+            return CommonUtils.createError("expiredMessagePolicy requires calculateMessageExpiration to be enabled");
+        }
+        if (consumerConfig.connectionConfig().transacted()) {
+            return CommonUtils.createError("expiredMessagePolicy is not supported for transacted consumers");
+        }
+        ConsumerSubscriptionConfig subscriptionConfig = consumerConfig.subscriptionConfig();
+        boolean directTopic = subscriptionConfig instanceof TopicConsumerConfig topicConfig && !topicConfig.isDurable();
+        if (policy == ExpiredMessagePolicy.DEAD_LETTER
+                && (directTopic || subscriptionConfig.ackMode() != AcknowledgementMode.CLIENT_ACK)) {
+            return CommonUtils.createError(
+                    "expiredMessagePolicy DEAD_LETTER requires CLIENT_ACK on a queue or durable topic subscription");
+        }
+        return null;
+    }
+
+    /**
+     * Checks that dead-letter routing can be applied: a message is only dead-lettered when the application NACKs it
+     * for redelivery, which needs a CLIENT_ACK flow, and the dead-lettered original must be acknowledged on its own,
+     * which a transaction does not allow.
+     *
+     * @return the error to fail init with, or null if dead-letter routing is off or can be applied
+     */
+    private static BError validateDeadLetter(ConsumerConfiguration consumerConfig) {
+        if (consumerConfig.deadLetter() == null) {
+            return null;
+        }
+        if (consumerConfig.connectionConfig().transacted()) {
+            return CommonUtils.createError("maxDeliveryAttempts is not supported for transacted consumers");
+        }
+        ConsumerSubscriptionConfig subscriptionConfig = consumerConfig.subscriptionConfig();
+        boolean directTopic = subscriptionConfig instanceof TopicConsumerConfig topicConfig && !topicConfig.isDurable();
+        if (directTopic || subscriptionConfig.ackMode() != AcknowledgementMode.CLIENT_ACK) {
+            return CommonUtils.createError(
+                    "maxDeliveryAttempts requires CLIENT_ACK on a queue or durable topic subscription");
+        }
         return null;
     }
 
@@ -203,39 +316,20 @@ public class ConsumerActions {
         BigDecimal timeoutDecimal = timeout instanceof BDecimal bDecimal ? bDecimal.decimalValue() : BigDecimal.ZERO;
         long timeoutMs = timeoutDecimal.multiply(BigDecimal.valueOf(1000)).longValue();
         String subscriptionType = (String) consumer.getNativeData(NATIVE_SUBSCRIPTION_TYPE);
+        ReceiveWorker worker = (ReceiveWorker) consumer.getNativeData(NATIVE_RECEIVE_WORKER);
+        if (worker == null) {
+            return reportConsumerFailure(consumer, ERROR_TYPE_RECEIVE, "Consumer not initialized");
+        }
 
         try {
-            Object result = CommonUtils.executeBlocking(() -> {
-                BytesXMLMessage message = null;
-                if (SUBSCRIPTION_TYPE_QUEUE.equals(subscriptionType) ||
-                        SUBSCRIPTION_TYPE_DURABLE_TOPIC.equals(subscriptionType)) {
-                    FlowReceiver flowReceiver = (FlowReceiver) consumer.getNativeData(NATIVE_FLOW);
-                    if (flowReceiver == null) {
-                        return CommonUtils.createError("Consumer flow not initialized");
-                    }
-                    try {
-                        message = flowReceiver.receive((int) timeoutMs);
-                    } catch (Exception e) {
-                        return new FlowReceiveFailure(e);
-                    }
-                } else if (SUBSCRIPTION_TYPE_DIRECT_TOPIC.equals(subscriptionType)) {
-                    XMLMessageConsumer xmlConsumer = (XMLMessageConsumer) consumer.getNativeData(NATIVE_CONSUMER);
-                    if (xmlConsumer == null) {
-                        return CommonUtils.createError("Consumer not initialized");
-                    }
-                    message = xmlConsumer.receive((int) timeoutMs);
-                }
-                if (message == null) {
-                    return emptyReceiveResult(consumer);
-                }
-                try {
-                    return MessageConverter.toBallerinaMessage(message, bTypedesc);
-                } catch (BallerinaSolaceDatabindingException e) {
-                    return CommonUtils.createError(e.getMessage());
-                } catch (Exception e) {
-                    return CommonUtils.createError("Failed to receive message", e);
-                }
-            });
+            Object result;
+            try {
+                result = worker.submit(remainingMs -> receiveOnWorker(consumer, subscriptionType, remainingMs,
+                        bTypedesc), timeoutMs);
+            } catch (TimeoutException e) {
+                // An earlier receive on the consumer held the worker past this call's timeout.
+                result = emptyReceiveResult(consumer);
+            }
 
             if (result instanceof FlowReceiveFailure failure) {
                 SolaceMetricsUtil.reportConsumerError(consumer, ERROR_TYPE_RECEIVE);
@@ -256,6 +350,46 @@ public class ConsumerActions {
         }
     }
 
+    /**
+     * Runs one receive call on the consumer's receive worker.
+     *
+     * @param timeoutMs the time the call has left in milliseconds, or 0 to wait indefinitely
+     * @return the converted message, the empty-receive result, a {@link FlowReceiveFailure}, or a BError
+     */
+    private static Object receiveOnWorker(BObject consumer, String subscriptionType, long timeoutMs,
+                                          BTypedesc bTypedesc) throws Exception {
+        BytesXMLMessage message = null;
+        if (SUBSCRIPTION_TYPE_QUEUE.equals(subscriptionType) ||
+                SUBSCRIPTION_TYPE_DURABLE_TOPIC.equals(subscriptionType)) {
+            FlowReceiver flowReceiver = (FlowReceiver) consumer.getNativeData(NATIVE_FLOW);
+            if (flowReceiver == null) {
+                return CommonUtils.createError("Consumer flow not initialized");
+            }
+            try {
+                message = receiveNew(consumer, flowReceiver::receive, timeoutMs);
+            } catch (Exception e) {
+                return new FlowReceiveFailure(e);
+            }
+        } else if (SUBSCRIPTION_TYPE_DIRECT_TOPIC.equals(subscriptionType)) {
+            XMLMessageConsumer xmlConsumer = (XMLMessageConsumer) consumer.getNativeData(NATIVE_CONSUMER);
+            if (xmlConsumer == null) {
+                return CommonUtils.createError("Consumer not initialized");
+            }
+            ConflatingReceiver conflating = (ConflatingReceiver) consumer.getNativeData(NATIVE_CONFLATING_RECEIVER);
+            message = receiveNew(consumer, conflating != null ? conflating : xmlConsumer::receive, timeoutMs);
+        }
+        if (message == null) {
+            return emptyReceiveResult(consumer);
+        }
+        try {
+            return MessageConverter.toBallerinaMessage(message, bTypedesc);
+        } catch (BallerinaSolaceDatabindingException e) {
+            return CommonUtils.createError(e.getMessage());
+        } catch (Exception e) {
+            return CommonUtils.createError("Failed to receive message", e);
+        }
+    }
+
     private static Object emptyReceiveResult(BObject consumer) {
         String errorType = flowStateErrorType(flowState(consumer));
         if (INACTIVE_FLOW_ERROR.equals(errorType)) {
@@ -305,34 +439,7 @@ public class ConsumerActions {
         }
         String subscriptionType = (String) consumer.getNativeData(NATIVE_SUBSCRIPTION_TYPE);
         try {
-            Object result = CommonUtils.executeBlocking(() -> {
-                BytesXMLMessage message = null;
-                if (SUBSCRIPTION_TYPE_QUEUE.equals(subscriptionType) ||
-                        SUBSCRIPTION_TYPE_DURABLE_TOPIC.equals(subscriptionType)) {
-                    FlowReceiver flowReceiver = (FlowReceiver) consumer.getNativeData(NATIVE_FLOW);
-                    if (flowReceiver == null) {
-                        return CommonUtils.createError("Consumer flow not initialized");
-                    }
-                    message = flowReceiver.receiveNoWait();
-                } else if (SUBSCRIPTION_TYPE_DIRECT_TOPIC.equals(subscriptionType)) {
-                    XMLMessageConsumer xmlConsumer = (XMLMessageConsumer) consumer.getNativeData(NATIVE_CONSUMER);
-                    if (xmlConsumer == null) {
-                        return CommonUtils.createError("Consumer not initialized");
-                    }
-                    message = xmlConsumer.receiveNoWait();
-                }
-                if (message == null) {
-                    return null;
-                }
-                try {
-                    return MessageConverter.toBallerinaMessage(message, bTypedesc);
-                } catch (BallerinaSolaceDatabindingException e) {
-                    return CommonUtils.createError(e.getMessage());
-                } catch (Exception e) {
-                    return CommonUtils.createError("Failed to receive message", e);
-                }
-            });
-
+            Object result = pollNoWait(consumer, subscriptionType, bTypedesc);
             if (result instanceof BError bError) {
                 SolaceMetricsUtil.reportConsumerError(consumer, ERROR_TYPE_RECEIVE);
                 return bError;
@@ -346,17 +453,167 @@ public class ConsumerActions {
     }
 
     /**
-     * Records the outcome of a successful receive call.
+     * Takes a message that JCSMP has already buffered. receiveNoWait never blocks, so this runs on the caller's
+     * thread instead of being handed to the receive worker.
+     */
+    private static Object pollNoWait(BObject consumer, String subscriptionType, BTypedesc bTypedesc)
+            throws Exception {
+        BytesXMLMessage message = null;
+        if (SUBSCRIPTION_TYPE_QUEUE.equals(subscriptionType) ||
+                SUBSCRIPTION_TYPE_DURABLE_TOPIC.equals(subscriptionType)) {
+            FlowReceiver flowReceiver = (FlowReceiver) consumer.getNativeData(NATIVE_FLOW);
+            if (flowReceiver == null) {
+                return CommonUtils.createError("Consumer flow not initialized");
+            }
+            message = receiveNew(consumer, timeout -> flowReceiver.receiveNoWait());
+        } else if (SUBSCRIPTION_TYPE_DIRECT_TOPIC.equals(subscriptionType)) {
+            XMLMessageConsumer xmlConsumer = (XMLMessageConsumer) consumer.getNativeData(NATIVE_CONSUMER);
+            if (xmlConsumer == null) {
+                return CommonUtils.createError("Consumer not initialized");
+            }
+            ConflatingReceiver conflating = (ConflatingReceiver) consumer.getNativeData(NATIVE_CONFLATING_RECEIVER);
+            message = conflating != null ? receiveNew(consumer, timeout -> conflating.receiveNoWait())
+                    : receiveNew(consumer, timeout -> xmlConsumer.receiveNoWait());
+        }
+        if (message == null) {
+            return null;
+        }
+        try {
+            return MessageConverter.toBallerinaMessage(message, bTypedesc);
+        } catch (BallerinaSolaceDatabindingException e) {
+            return CommonUtils.createError(e.getMessage());
+        } catch (Exception e) {
+            return CommonUtils.createError("Failed to receive message", e);
+        }
+    }
+
+    /**
+     * Receives from {@code source}, skipping expired messages and duplicates when the consumer is configured to,
+     * until a message to return arrives or the timeout elapses.
+     *
+     * @param timeoutMs the receive timeout in milliseconds, or 0 to wait indefinitely
+     */
+    private static BytesXMLMessage receiveNew(BObject consumer, MessagePrefetcher.MessageSource<BytesXMLMessage> source,
+                                              long timeoutMs) throws Exception {
+        if (consumer.getNativeData(NATIVE_DUPLICATE_FILTER) == null
+                && consumer.getNativeData(NATIVE_EXPIRED_MESSAGE_POLICY) == null) {
+            return source.receive((int) timeoutMs);
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (true) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            BytesXMLMessage message = source.receive(timeoutMs == 0 ? 0 : (int) Math.max(1, remaining));
+            if (message == null || !skipMessage(consumer, message)) {
+                return message;
+            }
+            if (timeoutMs != 0 && deadline - System.nanoTime() <= 0) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Takes the next already-buffered message, skipping expired messages and duplicates when the consumer is
+     * configured to.
+     */
+    private static BytesXMLMessage receiveNew(BObject consumer, MessagePrefetcher.MessageSource<BytesXMLMessage> source)
+            throws Exception {
+        BytesXMLMessage message = source.receive(0);
+        while (message != null && skipMessage(consumer, message)) {
+            message = source.receive(0);
+        }
+        return message;
+    }
+
+    /**
+     * Whether a received message must be skipped instead of returned, because it expired or is a duplicate.
+     */
+    static boolean skipMessage(BObject consumer, BytesXMLMessage message) throws JCSMPException {
+        return skipExpired(consumer, message) || skipDuplicate(consumer, message);
+    }
+
+    /**
+     * Applies the consumer's expired message policy to a received message. An expired message is acknowledged or
+     * rejected on a CLIENT_ACK flow, according to the policy, and counted; on other flows it was already settled on
+     * receipt.
+     *
+     * @return true if the message has expired and must not be returned
+     */
+    private static boolean skipExpired(BObject consumer, BytesXMLMessage message) throws JCSMPException {
+        ExpiredMessagePolicy policy = (ExpiredMessagePolicy) consumer.getNativeData(NATIVE_EXPIRED_MESSAGE_POLICY);
+        if (policy == null || !ExpiredMessagePolicy.isExpired(message.getExpiration(), System.currentTimeMillis())) {
+            return false;
+        }
+        SolaceMetricsUtil.reportExpired(consumer);
+        if (consumer.getNativeData(NATIVE_ACK_MODE) == AcknowledgementMode.CLIENT_ACK
+                && message.getDeliveryMode() != DeliveryMode.DIRECT) {
+            if (policy == ExpiredMessagePolicy.DEAD_LETTER) {
+                message.settle(XMLMessage.Outcome.REJECTED);
+            } else {
+                message.ackMessage();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks a received message against the consumer's deduplication filter. A duplicate is acknowledged on a
+     * CLIENT_ACK flow and counted. A new message is recorded at once if it is already settled - on an AUTO_ACK flow
+     * or a direct subscription - and otherwise when it is acknowledged.
+     *
+     * @return true if the message is a duplicate and must not be returned
+     */
+    static boolean skipDuplicate(BObject consumer, BytesXMLMessage message) {
+        DuplicateFilter filter = (DuplicateFilter) consumer.getNativeData(NATIVE_DUPLICATE_FILTER);
+        if (filter == null) {
+            return false;
+        }
+        boolean clientAck = consumer.getNativeData(NATIVE_ACK_MODE) == AcknowledgementMode.CLIENT_ACK
+                && message.getDeliveryMode() != DeliveryMode.DIRECT;
+        String messageId = message.getApplicationMessageId();
+        if (!filter.isDuplicate(messageId)) {
+            if (!clientAck) {
+                filter.record(messageId);
+            }
+            return false;
+        }
+        SolaceMetricsUtil.reportDuplicate(consumer);
+        if (clientAck) {
+            message.ackMessage();
+        }
+        return true;
+    }
+
+    /**
+     * Records an acknowledged message with the consumer's deduplication filter, if it has one.
+     */
+    private static void recordProcessed(BObject consumer, XMLMessage message) {
+        if (consumer.getNativeData(NATIVE_DUPLICATE_FILTER) instanceof DuplicateFilter filter) {
+            filter.record(message.getApplicationMessageId());
+        }
+    }
+
+    /**
+     * Records the outcome of a successful receive call. An empty receive also ends a replay in progress, as the flow
+     * has caught up with its backlog.
      */
     @SuppressWarnings("unchecked")
-    private static void reportReceiveOutcome(BObject consumer, Object result) {
+    static void reportReceiveOutcome(BObject consumer, Object result) {
+        ConsumerFlowStateTracker tracker = (ConsumerFlowStateTracker) consumer.getNativeData(
+                NATIVE_CONSUMER_FLOW_STATE_TRACKER);
         if (result == null) {
+            if (tracker != null) {
+                tracker.replayCaughtUp();
+            }
             SolaceMetricsUtil.reportEmptyReceive(consumer);
             return;
         }
         BMap<BString, Object> receivedMessage = (BMap<BString, Object>) result;
         SolaceMetricsUtil.reportConsume(consumer, getPayloadSize(receivedMessage),
                 CommonUtils.isRedelivered(receivedMessage));
+        if (tracker != null && tracker.isReplaying()) {
+            SolaceMetricsUtil.reportReplayed(consumer);
+        }
     }
 
     /**
@@ -385,6 +642,7 @@ public class ConsumerActions {
                 return (BError) result;
             }
             SolaceMetricsUtil.reportAck(consumer);
+            recordProcessed(consumer, nativeMessage);
             return null;
         } catch (Exception e) {
             SolaceMetricsUtil.reportConsumerError(consumer, ERROR_TYPE_ACKNOWLEDGE);
@@ -397,21 +655,51 @@ public class ConsumerActions {
      *
      * @param consumer the Ballerina consumer object
      * @param message  the Ballerina message to NACK
-     * @param requeue  if true, use FAILED outcome (requeue); if false, use REJECTED outcome (DMQ)
+     * @param requeue  if true, use FAILED outcome (requeue), or dead-letter the message if this was its final
+     *                 delivery attempt; if false, use REJECTED outcome (DMQ)
+     * @param delay    optional delay in seconds before a requeued message is redelivered, doubled on each delivery
      * @return null on success, BError on failure
      */
-    public static BError nack(BObject consumer, BMap<BString, Object> message, boolean requeue) {
+    public static BError nack(BObject consumer, BMap<BString, Object> message, boolean requeue, Object delay) {
         try {
             Boolean closed = (Boolean) consumer.getNativeData(NATIVE_CLOSED);
             if (closed != null && closed) {
                 return reportConsumerFailure(consumer, ERROR_TYPE_NACK, "Consumer is closed");
             }
+            long delayMillis = DelayedRedelivery.toMillis(delay);
+            if (delayMillis < 0) {
+                return reportConsumerFailure(consumer, ERROR_TYPE_NACK, "nack() delay must not be negative");
+            }
+            if (delayMillis > 0 && !requeue) {
+                return reportConsumerFailure(consumer, ERROR_TYPE_NACK,
+                        "nack() delay only applies when requeue is true; a rejected message is not redelivered.");
+            }
 
             XMLMessage nativeMessage = MessageConverter.extractNativeMessage(message);
             if (nativeMessage == null) {
                 return reportConsumerFailure(consumer, ERROR_TYPE_NACK, "Cannot NACK: native message not found");
             }
 
+            // A message that has used up its delivery attempts is parked rather than redelivered again.
+            DeadLetterRouter deadLetters = (DeadLetterRouter) consumer.getNativeData(NATIVE_DEAD_LETTER_ROUTER);
+            if (requeue && deadLetters != null && deadLetters.isFinalAttempt(nativeMessage)) {
+                Object result = CommonUtils.executeBlocking(
+                        () -> deadLetters.deadLetter(nativeMessage, DeadLetterRouter.NACK_REASON));
+                if (result instanceof BError bError) {
+                    SolaceMetricsUtil.reportConsumerError(consumer, ERROR_TYPE_NACK);
+                    return bError;
+                }
+                SolaceMetricsUtil.reportNack(consumer, true);
+                return null;
+            }
+
+            // Hold the message and let the timing wheel requeue it once its backoff has elapsed.
+            if (delayMillis > 0) {
+                DelayedRedelivery.schedule(nativeMessage, delayMillis);
+                SolaceMetricsUtil.reportNack(consumer, true);
+                return null;
+            }
+
             // Use settle() with appropriate outcome
             Object result = CommonUtils.executeBlocking(() -> {
                 XMLMessage.Outcome outcome = requeue ? XMLMessage.Outcome.FAILED : XMLMessage.Outcome.REJECTED;
@@ -430,6 +718,133 @@ public class ConsumerActions {
         }
     }
 
+    /**
+     * Acknowledge a group of messages in one call. The messages are acknowledged together on a single blocking hop
+     * and counted once; a message that cannot be acknowledged does not stop the rest of the group.
+     *
+     * @param consumer the Ballerina consumer object
+     * @param messages the Ballerina messages to acknowledge
+     * @return null if every message was acknowledged, a SettlementError listing the failed indexes otherwise
+     */
+    public static BError ackAll(BObject consumer, BArray messages) {
+        return settleAll(consumer, messages, ERROR_TYPE_ACKNOWLEDGE, "acknowledge", message -> {
+            message.ackMessage();
+            recordProcessed(consumer, message);
+        }, settled -> SolaceMetricsUtil.reportAck(consumer, settled));
+    }
+
+    /**
+     * Negatively acknowledge a group of messages in one call, with the same grouping as {@link #ackAll}.
+     *
+     * @param consumer the Ballerina consumer object
+     * @param messages the Ballerina messages to NACK
+     * @param requeue  if true, use FAILED outcome (requeue), or dead-letter the messages on their final delivery
+     *                 attempt; if false, use REJECTED outcome (DMQ)
+     * @return null if every message was settled, a SettlementError listing the failed indexes otherwise
+     */
+    public static BError nackAll(BObject consumer, BArray messages, boolean requeue) {
+        XMLMessage.Outcome outcome = requeue ? XMLMessage.Outcome.FAILED : XMLMessage.Outcome.REJECTED;
+        DeadLetterRouter deadLetters = requeue
+                ? (DeadLetterRouter) consumer.getNativeData(NATIVE_DEAD_LETTER_ROUTER) : null;
+        return settleAll(consumer, messages, ERROR_TYPE_NACK, "NACK", message -> {
+            if (deadLetters != null && deadLetters.isFinalAttempt(message)) {
+                deadLetters.deadLetter(message, DeadLetterRouter.NACK_REASON);
+            } else {
+                message.settle(outcome);
+            }
+        }, settled -> SolaceMetricsUtil.reportNack(consumer, requeue, settled));
+    }
+
+    /**
+     * Settles every message of a group on one virtual thread, recording which ones failed by their index.
+     */
+    private static BError settleAll(BObject consumer, BArray messages, String errorType, String action,
+                                    MessageSettlement settlement, IntConsumer reportSettled) {
+        try {
+            Boolean closed = (Boolean) consumer.getNativeData(NATIVE_CLOSED);
+            if (closed != null && closed) {
+                return reportConsumerFailure(consumer, errorType, "Consumer is closed");
+            }
+            int size = messages.size();
+            if (size == 0) {
+                return null;
+            }
+            XMLMessage[] nativeMessages = new XMLMessage[size];
+            String[] failures = new String[size];
+            for (int i = 0; i < size; i++) {
+                @SuppressWarnings("unchecked")
+                BMap<BString, Object> message = (BMap<BString, Object>) messages.get(i);
+                nativeMessages[i] = MessageConverter.extractNativeMessage(message);
+                if (nativeMessages[i] == null) {
+                    failures[i] = "Cannot " + action + ": native message not found";
+                }
+            }
+
+            Object result = CommonUtils.executeBlocking(() -> {
+                for (int i = 0; i < size; i++) {
+                    if (nativeMessages[i] == null) {
+                        continue;
+                    }
+                    try {
+                        settlement.settle(nativeMessages[i]);
+                    } catch (Exception e) {
+                        failures[i] = "Failed to " + action + " message: " + e.getMessage();
+                    }
+                }
+            });
+            if (result instanceof BError) {
+                SolaceMetricsUtil.reportConsumerError(consumer, errorType);
+                return (BError) result;
+            }
+
+            int failed = 0;
+            for (String failure : failures) {
+                if (failure != null) {
+                    failed++;
+                }
+            }
+            if (failed < size) {
+                reportSettled.accept(size - failed);
+            }
+            if (failed == 0) {
+                return null;
+            }
+            SolaceMetricsUtil.reportConsumerError(consumer, errorType);
+            return settlementError("Failed to " + action + " " + failed + " of " + size + " messages", failures);
+        } catch (Exception e) {
+            SolaceMetricsUtil.reportConsumerError(consumer, errorType);
+            return CommonUtils.createError("Failed to " + action + " messages", e);
+        }
+    }
+
+    private static BError settlementError(String message, String[] failures) {
+        BMap<BString, Object> detail = ValueCreator.createRecordValue(ModuleUtils.getModule(), SETTLEMENT_ERROR_DETAIL);
+        BArray entries = null;
+        for (int i = 0; i < failures.length; i++) {
+            if (failures[i] == null) {
+                continue;
+            }
+            BMap<BString, Object> failure = ValueCreator.createRecordValue(ModuleUtils.getModule(), SETTLEMENT_FAILURE);
+            failure.put(INDEX_KEY, (long) i);
+            failure.put(MESSAGE_KEY, StringUtils.fromString(failures[i]));
+            if (entries == null) {
+                entries = ValueCreator.createArrayValue(TypeCreator.createArrayType(failure.getType()));
+            }
+            entries.append(failure);
+        }
+        detail.put(FAILURES_KEY, entries);
+        return ErrorCreator.createError(ModuleUtils.getModule(), SETTLEMENT_ERROR, StringUtils.fromString(message),
+                null, detail);
+    }
+
+    /**
+     * Settles one native message of a bulk acknowledgement.
+     */
+    @FunctionalInterface
+    private interface MessageSettlement {
+        void settle(XMLMessage message) throws Exception;
+    }
+
     /**
      * Commit the current transaction. Only valid for transacted consumers (when connectionConfig.transacted = true).
      *
@@ -526,6 +941,14 @@ public class ConsumerActions {
         TransactedSession txSession = (TransactedSession) consumer.getNativeData(NATIVE_TX_SESSION);
         JCSMPSession session = (JCSMPSession) consumer.getNativeData(NATIVE_SESSION);
 
+        // Stop an open stream's reader first, so it does not fail on the closing flow and its unclaimed messages
+        // can still be settled.
+        MessageStreamActions.OpenStream openStream =
+                (MessageStreamActions.OpenStream) consumer.getNativeData(NATIVE_MESSAGE_STREAM);
+        if (openStream != null) {
+            openStream.close();
+        }
+
         // Attempt to close every resource independently so one failure doesn't block the rest.
         Exception firstError = null;
         if (SUBSCRIPTION_TYPE_QUEUE.equals(subscriptionType) ||
@@ -553,6 +976,12 @@ public class ConsumerActions {
             firstError = firstError == null ? e : firstError;
         }
 
+        // The flow is closed, so a receive still running on the worker returns and the worker can stop.
+        ReceiveWorker worker = (ReceiveWorker) consumer.getNativeData(NATIVE_RECEIVE_WORKER);
+        if (worker != null) {
+            worker.close();
+        }
+
         // Mark as closed and clear native data regardless of partial failures above.
         consumer.addNativeData(NATIVE_CLOSED, true);
         consumer.addNativeData(NATIVE_FLOW, null);
@@ -560,6 +989,7 @@ public class ConsumerActions {
         consumer.addNativeData(NATIVE_TX_SESSION, null);
         consumer.addNativeData(NATIVE_TRANSACTED, null);
         consumer.addNativeData(NATIVE_SESSION, null);
+        consumer.addNativeData(NATIVE_RECEIVE_WORKER, null);
 
         SolaceSessionEventHandler.markDisconnected(consumer);
 
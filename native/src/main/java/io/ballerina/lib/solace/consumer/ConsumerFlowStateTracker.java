@@ -21,11 +21,16 @@ package io.ballerina.lib.solace.consumer;
 import com.solacesystems.jcsmp.FlowEvent;
 import com.solacesystems.jcsmp.FlowEventArgs;
 import com.solacesystems.jcsmp.FlowEventHandler;
+import com.solacesystems.jcsmp.JCSMPErrorResponseException;
+import com.solacesystems.jcsmp.JCSMPErrorResponseSubcodeEx;
 
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * Tracks the latest delivery state reported for a guaranteed consumer flow.
+ * Tracks the latest delivery state reported for a guaranteed consumer flow, and whether the flow is replaying. A
+ * replay starts when the flow binds with a replay start location, or when the broker starts one on the endpoint and
+ * rebinds the flow with {@code REPLAY_STARTED}. It is considered over once the flow has nothing left to deliver.
  */
 final class ConsumerFlowStateTracker implements FlowEventHandler {
 
@@ -37,14 +42,29 @@ final class ConsumerFlowStateTracker implements FlowEventHandler {
     }
 
     private final AtomicReference<State> state;
+    private final AtomicBoolean replaying = new AtomicBoolean();
+    private final Runnable onReplayStarted;
 
     ConsumerFlowStateTracker() {
-        state = new AtomicReference<>(State.UNKNOWN);
+        this(() -> { });
+    }
+
+    /**
+     * Creates a tracker that reports every replay started on the flow.
+     *
+     * @param onReplayStarted called each time a replay starts on the flow
+     */
+    ConsumerFlowStateTracker(Runnable onReplayStarted) {
+        this.state = new AtomicReference<>(State.UNKNOWN);
+        this.onReplayStarted = onReplayStarted;
     }
 
     @Override
     public void handleEvent(Object source, FlowEventArgs eventArgs) {
         FlowEvent event = eventArgs.getEvent();
+        if (isReplayStarted(eventArgs)) {
+            replayStarted();
+        }
         if (event == FlowEvent.FLOW_ACTIVE) {
             state.set(State.ACTIVE);
         } else if (event == FlowEvent.FLOW_INACTIVE) {
@@ -61,8 +81,39 @@ final class ConsumerFlowStateTracker implements FlowEventHandler {
     }
 
     void flowStarted(boolean activeFlowIndicationEnabled) {
+        flowStarted(activeFlowIndicationEnabled, false);
+    }
+
+    void flowStarted(boolean activeFlowIndicationEnabled, boolean replayRequested) {
         if (activeFlowIndicationEnabled) {
             state.compareAndSet(State.UNKNOWN, State.INACTIVE);
         }
+        if (replayRequested) {
+            replayStarted();
+        }
+    }
+
+    /**
+     * Whether messages received now are being replayed rather than delivered from the live backlog.
+     */
+    boolean isReplaying() {
+        return replaying.get();
+    }
+
+    /**
+     * Ends the current replay, once a receive found the flow empty.
+     */
+    void replayCaughtUp() {
+        replaying.set(false);
+    }
+
+    private void replayStarted() {
+        replaying.set(true);
+        onReplayStarted.run();
+    }
+
+    private static boolean isReplayStarted(FlowEventArgs eventArgs) {
+        return eventArgs.getException() instanceof JCSMPErrorResponseException responseException
+                && responseException.getSubcodeEx() == JCSMPErrorResponseSubcodeEx.REPLAY_STARTED;
     }
 }
@@ -33,8 +33,12 @@ import com.solacesystems.jcsmp.XMLMessageConsumer;
 import io.ballerina.lib.solace.config.ConsumerSubscriptionConfig;
 import io.ballerina.lib.solace.config.QueueConsumerConfig;
 import io.ballerina.lib.solace.config.TopicConsumerConfig;
+import io.ballerina.lib.solace.observability.SolaceMetricsUtil;
 import io.ballerina.runtime.api.values.BObject;
 
+import java.util.List;
+
+import static io.ballerina.lib.solace.common.Constants.NATIVE_CONFLATING_RECEIVER;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_CONSUMER;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_DESTINATION;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_DESTINATION_KIND;
@@ -66,8 +70,7 @@ public class ConsumerUtils {
             String name = queueConfig.queueName();
             return name != null ? name : UNKNOWN;
         } else if (subscriptionConfig instanceof TopicConsumerConfig topicConfig) {
-            String name = topicConfig.topicName();
-            return name != null ? name : UNKNOWN;
+            return topicConfig.destinationName();
         }
         return UNKNOWN;
     }
@@ -78,9 +81,10 @@ public class ConsumerUtils {
      *
      * @param flowProps the flow properties to configure
      * @param config    the consumer subscription configuration containing common fields
+     * @throws JCSMPException if the replay start location cannot be created
      */
     public static void configureFlowProperties(ConsumerFlowProperties flowProps,
-                                               ConsumerSubscriptionConfig config) {
+                                               ConsumerSubscriptionConfig config) throws JCSMPException {
         flowProps.setAckMode(config.ackMode().getJcsmpMode());
 
         if (config.selector() != null) {
@@ -100,6 +104,9 @@ public class ConsumerUtils {
             flowProps.setReconnectTries(config.reconnectTries());
         }
         flowProps.setReconnectRetryIntervalInMsecs(config.reconnectRetryIntervalInMsecs());
+        if (config.replayFrom() != null) {
+            flowProps.setReplayStartLocation(config.replayFrom().toStartLocation());
+        }
     }
 
     static void configureActiveFlowIndication(JCSMPSession session, ConsumerFlowProperties flowProps) {
@@ -150,16 +157,18 @@ public class ConsumerUtils {
         }
 
         // Create flow using the factory function
-        ConsumerFlowStateTracker flowStateTracker = new ConsumerFlowStateTracker();
+        ConsumerFlowStateTracker flowStateTracker =
+                new ConsumerFlowStateTracker(() -> SolaceMetricsUtil.reportReplayStarted(consumer));
         FlowReceiver flowReceiver = flowFactory.createFlow(flowProps, flowStateTracker);
         flowReceiver.start();
-        flowStateTracker.flowStarted(flowProps.isActiveFlowIndication());
 
         consumer.addNativeData(NATIVE_FLOW, flowReceiver);
         consumer.addNativeData(NATIVE_CONSUMER_FLOW_STATE_TRACKER, flowStateTracker);
         consumer.addNativeData(NATIVE_SUBSCRIPTION_TYPE, SUBSCRIPTION_TYPE_QUEUE);
         consumer.addNativeData(NATIVE_DESTINATION, queue.getName());
         consumer.addNativeData(NATIVE_DESTINATION_KIND, DESTINATION_KIND_QUEUE);
+        // Recorded after the destination so that a replay requested by replayFrom is reported against it.
+        flowStateTracker.flowStarted(flowProps.isActiveFlowIndication(), config.replayFrom() != null);
     }
 
     /**
@@ -179,8 +188,8 @@ public class ConsumerUtils {
         // Create durable topic endpoint
         DurableTopicEndpoint endpoint = JCSMPFactory.onlyInstance().createDurableTopicEndpoint(config.endpointName());
 
-        // Create topic subscription
-        Topic topic = JCSMPFactory.onlyInstance().createTopic(config.topicName());
+        // Create topic subscription; validation guarantees a durable endpoint has a single topic
+        Topic topic = JCSMPFactory.onlyInstance().createTopic(config.topicNames().get(0));
 
         // Provision the endpoint (ignore if already exists)
         EndpointProperties endpointProps = new EndpointProperties();
@@ -198,37 +207,58 @@ public class ConsumerUtils {
         }
 
         // Create flow using the factory function
-        ConsumerFlowStateTracker flowStateTracker = new ConsumerFlowStateTracker();
+        ConsumerFlowStateTracker flowStateTracker =
+                new ConsumerFlowStateTracker(() -> SolaceMetricsUtil.reportReplayStarted(consumer));
         FlowReceiver flowReceiver = flowFactory.createFlow(flowProps, flowStateTracker);
         flowReceiver.start();
-        flowStateTracker.flowStarted(flowProps.isActiveFlowIndication());
 
         consumer.addNativeData(NATIVE_FLOW, flowReceiver);
         consumer.addNativeData(NATIVE_CONSUMER_FLOW_STATE_TRACKER, flowStateTracker);
         consumer.addNativeData(NATIVE_SUBSCRIPTION_TYPE, SUBSCRIPTION_TYPE_DURABLE_TOPIC);
-        consumer.addNativeData(NATIVE_DESTINATION, config.topicName());
+        consumer.addNativeData(NATIVE_DESTINATION, config.destinationName());
         consumer.addNativeData(NATIVE_DESTINATION_KIND, DESTINATION_KIND_TOPIC);
+        // Recorded after the destination so that a replay requested by replayFrom is reported against it.
+        flowStateTracker.flowStarted(flowProps.isActiveFlowIndication(), config.replayFrom() != null);
     }
 
     /**
-     * Creates an XMLMessageConsumer for direct topic subscription.
+     * Creates an XMLMessageConsumer for direct topic subscription. Every topic of the subscription is added to the
+     * session, so one consumer receives them all. A conflating subscription also gets a {@link ConflatingReceiver}
+     * to receive through.
      */
     public static void createDirectTopicConsumer(BObject consumer, JCSMPSession session, TopicConsumerConfig config)
             throws Exception {
-        Topic topic = JCSMPFactory.onlyInstance().createTopic(config.topicName());
-
         // Create consumer without listener (for sync receive)
         XMLMessageConsumer xmlConsumer = session.getMessageConsumer((com.solacesystems.jcsmp.XMLMessageListener) null);
 
-        // Add subscription
-        session.addSubscription(topic);
+        addSubscriptions(session, config.topicNames());
 
         // Start consumer
         xmlConsumer.start();
 
         consumer.addNativeData(NATIVE_CONSUMER, xmlConsumer);
+        if (config.conflate()) {
+            consumer.addNativeData(NATIVE_CONFLATING_RECEIVER,
+                    new ConflatingReceiver(xmlConsumer, () -> SolaceMetricsUtil.reportConflated(consumer)));
+        }
         consumer.addNativeData(NATIVE_SUBSCRIPTION_TYPE, SUBSCRIPTION_TYPE_DIRECT_TOPIC);
-        consumer.addNativeData(NATIVE_DESTINATION, config.topicName());
+        consumer.addNativeData(NATIVE_DESTINATION, config.destinationName());
         consumer.addNativeData(NATIVE_DESTINATION_KIND, DESTINATION_KIND_TOPIC);
     }
+
+    /**
+     * Adds topic subscriptions to a session in one batch. Only the last one waits for the broker's confirmation;
+     * the broker handles a session's subscription requests in order, so once it is confirmed the earlier ones have
+     * been processed too, and any that were refused are reported to the session's event handler.
+     *
+     * @param session    the session to subscribe
+     * @param topicNames the topics to subscribe to
+     * @throws JCSMPException if a subscription cannot be sent, or the last one is refused
+     */
+    public static void addSubscriptions(JCSMPSession session, List<String> topicNames) throws JCSMPException {
+        for (int i = 0; i < topicNames.size(); i++) {
+            session.addSubscription(JCSMPFactory.onlyInstance().createTopic(topicNames.get(i)),
+                    i == topicNames.size() - 1);
+        }
+    }
 }
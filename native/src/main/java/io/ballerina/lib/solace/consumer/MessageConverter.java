@@ -21,6 +21,7 @@ package io.ballerina.lib.solace.consumer;
 import com.solacesystems.jcsmp.BytesMessage;
 import com.solacesystems.jcsmp.Destination;
 import com.solacesystems.jcsmp.MapMessage;
+import com.solacesystems.jcsmp.ReplicationGroupMessageId;
 import com.solacesystems.jcsmp.SDTMap;
 import com.solacesystems.jcsmp.TextMessage;
 import com.solacesystems.jcsmp.XMLMessage;
@@ -49,6 +50,8 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 import static io.ballerina.lib.solace.common.Constants.NATIVE_MESSAGE;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_MESSAGE_ABANDONED;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_MESSAGE_SETTLED;
 import static io.ballerina.lib.solace.common.MessageFieldConstants.CORRELATION_ID_KEY;
 import static io.ballerina.lib.solace.common.MessageFieldConstants.DELIVERY_COUNT_KEY;
 import static io.ballerina.lib.solace.common.MessageFieldConstants.DELIVERY_MODE_KEY;
@@ -61,6 +64,7 @@ import static io.ballerina.lib.solace.common.MessageFieldConstants.PRIORITY_KEY;
 import static io.ballerina.lib.solace.common.MessageFieldConstants.PROPERTIES_KEY;
 import static io.ballerina.lib.solace.common.MessageFieldConstants.RECEIVE_TIMESTAMP_KEY;
 import static io.ballerina.lib.solace.common.MessageFieldConstants.REDELIVERED_KEY;
+import static io.ballerina.lib.solace.common.MessageFieldConstants.REPLICATION_GROUP_MESSAGE_ID_KEY;
 import static io.ballerina.lib.solace.common.MessageFieldConstants.REPLY_TO_KEY;
 import static io.ballerina.lib.solace.common.MessageFieldConstants.SENDER_ID_KEY;
 import static io.ballerina.lib.solace.common.MessageFieldConstants.SENDER_TIMESTAMP_KEY;
@@ -174,6 +178,12 @@ public class MessageConverter {
             message.put(EXPIRATION_KEY, expiration);
         }
 
+        // Set the replication group message ID, which a replay can start after
+        ReplicationGroupMessageId replicationGroupMessageId = xmlMessage.getReplicationGroupMessageId();
+        if (replicationGroupMessageId != null) {
+            message.put(REPLICATION_GROUP_MESSAGE_ID_KEY, StringUtils.fromString(replicationGroupMessageId.toString()));
+        }
+
         // Set destination this message was published to, if present
         Destination destination = xmlMessage.getDestination();
         if (destination != null) {
@@ -229,6 +239,48 @@ public class MessageConverter {
         return null;
     }
 
+    /**
+     * Marks a delivered message as abandoned by the listener, for example after its {@code onMessage} invocation
+     * timed out. The listener has settled the message, or deliberately left it unsettled, so any later settlement by
+     * the abandoned invocation must be refused.
+     *
+     * @param message the Ballerina Message record
+     */
+    public static void markAbandoned(BMap<BString, Object> message) {
+        message.addNativeData(NATIVE_MESSAGE_ABANDONED, Boolean.TRUE);
+    }
+
+    /**
+     * Whether the listener abandoned the message, see {@link #markAbandoned(BMap)}.
+     *
+     * @param message the Ballerina Message record
+     * @return true if the message was abandoned
+     */
+    public static boolean isAbandoned(BMap<BString, Object> message) {
+        return Boolean.TRUE.equals(message.getNativeData(NATIVE_MESSAGE_ABANDONED));
+    }
+
+    /**
+     * Marks a delivered message as settled by the service through its caller. The settlement may still be pending,
+     * such as a delayed NACK or a dead-letter copy awaiting the broker's confirmation, so the listener must not
+     * settle the message itself once {@code onMessage} returns.
+     *
+     * @param message the Ballerina Message record
+     */
+    public static void markSettled(BMap<BString, Object> message) {
+        message.addNativeData(NATIVE_MESSAGE_SETTLED, Boolean.TRUE);
+    }
+
+    /**
+     * Whether the service settled the message through its caller, see {@link #markSettled(BMap)}.
+     *
+     * @param message the Ballerina Message record
+     * @return true if the message was settled by the caller
+     */
+    public static boolean isSettled(BMap<BString, Object> message) {
+        return Boolean.TRUE.equals(message.getNativeData(NATIVE_MESSAGE_SETTLED));
+    }
+
     private static Object getPayloadWithIntendedType(XMLMessage xmlMessage, Type payloadType) throws Exception {
         int typeTag = payloadType.getTag();
         try {
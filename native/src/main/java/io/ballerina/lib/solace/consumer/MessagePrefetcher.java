@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.consumer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Reads messages ahead of a consumer's stream into a bounded buffer.
+ * <p>
+ * A single background reader pulls from the flow or direct consumer, converts each message and queues it in a
+ * fixed-size ring buffer, so {@link #next(long)} is a plain dequeue whenever a message has already arrived. When the
+ * buffer is full the reader stops pulling, which leaves the backlog in JCSMP's transport window and on the broker.
+ * The reader never blocks indefinitely: it receives and enqueues in short slices, so {@link #close(Consumer)} stops it
+ * within one slice and the conversion in progress, without interrupting a JCSMP call.
+ *
+ * @param <M> the native message type
+ */
+final class MessagePrefetcher<M> {
+
+    static final int POLL_INTERVAL_MILLIS = 100;
+
+    /**
+     * Pulls the next message, waiting up to a timeout.
+     */
+    @FunctionalInterface
+    interface MessageSource<M> {
+        M receive(int timeoutMillis) throws Exception;
+    }
+
+    /**
+     * Converts a native message into the value handed to the stream.
+     */
+    @FunctionalInterface
+    interface MessageMapper<M> {
+        Object map(M message) throws Exception;
+    }
+
+    private final MessageSource<M> source;
+    private final MessageMapper<M> mapper;
+    private final BlockingQueue<Prefetched<M>> buffer;
+    private final Thread reader;
+    private volatile boolean closed;
+    private volatile boolean done;
+    private volatile Exception failure;
+    private boolean failureReported;
+    // A message the reader had converted but could not queue before the prefetcher was closed; read after the join.
+    private Prefetched<M> stranded;
+
+    MessagePrefetcher(MessageSource<M> source, MessageMapper<M> mapper, int capacity, ThreadFactory readerFactory) {
+        this.source = source;
+        this.mapper = mapper;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.reader = readerFactory.newThread(this::read);
+    }
+
+    void start() {
+        reader.start();
+    }
+
+    private void read() {
+        try {
+            while (!closed) {
+                M message = source.receive(POLL_INTERVAL_MILLIS);
+                if (message == null) {
+                    continue;
+                }
+                Prefetched<M> item = convert(message);
+                while (!buffer.offer(item, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (closed) {
+                        stranded = item;
+                        return;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Closing the consumer under the reader fails its receive; that is the end of the stream, not an error.
+            if (!closed) {
+                failure = e;
+            }
+        } finally {
+            done = true;
+        }
+    }
+
+    private Prefetched<M> convert(M message) {
+        try {
+            return new Prefetched<>(message, mapper.map(message), null);
+        } catch (Exception e) {
+            return new Prefetched<>(message, null, e);
+        }
+    }
+
+    /**
+     * Takes the next prefetched message, waiting for one only if the buffer is empty.
+     *
+     * @param timeoutMillis how long to wait for a message, or a negative value to wait until the stream ends
+     * @return the converted message, or null if the stream has ended or the timeout elapsed
+     * @throws Exception if the message could not be converted or the reader failed; a reader failure is reported
+     *                   once, after the messages read before it
+     */
+    Object next(long timeoutMillis) throws Exception {
+        Prefetched<M> item = buffer.poll();
+        if (item == null) {
+            item = await(timeoutMillis);
+        }
+        if (item != null) {
+            if (item.error() != null) {
+                throw item.error();
+            }
+            return item.value();
+        }
+        Exception readerFailure = failure;
+        if (readerFailure != null && !closed && !failureReported) {
+            failureReported = true;
+            throw readerFailure;
+        }
+        return null;
+    }
+
+    private Prefetched<M> await(long timeoutMillis) throws InterruptedException {
+        long deadline = timeoutMillis < 0 ? Long.MAX_VALUE : System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (!closed) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return null;
+            }
+            Prefetched<M> item = buffer.poll(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(POLL_INTERVAL_MILLIS)),
+                    TimeUnit.NANOSECONDS);
+            if (item != null) {
+                return item;
+            }
+            if (done) {
+                // The reader has stopped; anything it queued before stopping is still returned.
+                return buffer.poll();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stops the reader, waits for it to finish the message it holds, and hands the messages that were prefetched but
+     * never returned to {@code unclaimed}. The reader leaves within one receive slice and one conversion, so the wait
+     * is not bounded further: a message queued after the buffer was drained would never be settled.
+     */
+    void close(Consumer<M> unclaimed) throws InterruptedException {
+        closed = true;
+        reader.join();
+        List<Prefetched<M>> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        if (stranded != null) {
+            remaining.add(stranded);
+        }
+        for (Prefetched<M> item : remaining) {
+            unclaimed.accept(item.message());
+        }
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    int buffered() {
+        return buffer.size();
+    }
+
+    private record Prefetched<M>(M message, Object value, Exception error) {
+    }
+}
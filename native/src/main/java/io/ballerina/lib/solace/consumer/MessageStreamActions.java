@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.consumer;
+
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.DeliveryMode;
+import com.solacesystems.jcsmp.FlowReceiver;
+import com.solacesystems.jcsmp.XMLMessage;
+import com.solacesystems.jcsmp.XMLMessageConsumer;
+import io.ballerina.lib.solace.common.BallerinaSolaceDatabindingException;
+import io.ballerina.lib.solace.common.CommonUtils;
+import io.ballerina.lib.solace.observability.SolaceMetricsUtil;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.math.BigDecimal;
+
+import static io.ballerina.lib.solace.common.Constants.NATIVE_ACK_MODE;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_CLOSED;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_CONFLATING_RECEIVER;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_CONSUMER;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_FLOW;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_MESSAGE_STREAM;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_SUBSCRIPTION_TYPE;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_TRANSACTED;
+import static io.ballerina.lib.solace.consumer.ConsumerUtils.SUBSCRIPTION_TYPE_DIRECT_TOPIC;
+import static io.ballerina.lib.solace.observability.SolaceMetricsUtil.reportConsumerFailure;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_RECEIVE;
+
+/**
+ * Message stream actions - entry point for the Ballerina {@code MessageStream} interop, the iterator behind
+ * {@code MessageConsumer->'stream()}. Each open stream owns a {@link MessagePrefetcher} reading from the consumer's
+ * flow or direct consumer; a consumer has at most one open stream at a time.
+ */
+public class MessageStreamActions {
+
+    private static final long NO_IDLE_TIMEOUT = -1;
+
+    /**
+     * Open a stream on a consumer and start its prefetch reader.
+     *
+     * @param stream      the Ballerina stream iterator object
+     * @param consumer    the Ballerina consumer object
+     * @param prefetch    the number of messages read ahead into the buffer
+     * @param idleTimeout seconds to wait for a message before the stream ends, or {@code null} to wait until closed
+     * @param messageType the message type each message is converted to
+     * @return null on success, BError on failure
+     */
+    public static BError init(BObject stream, BObject consumer, long prefetch, Object idleTimeout,
+                              BTypedesc messageType) {
+        Boolean closed = (Boolean) consumer.getNativeData(NATIVE_CLOSED);
+        if (closed != null && closed) {
+            return reportConsumerFailure(consumer, ERROR_TYPE_RECEIVE, "Consumer is closed");
+        }
+        if (prefetch < 1 || prefetch > Integer.MAX_VALUE) {
+            return CommonUtils.createError("prefetch must be at least 1");
+        }
+        long idleTimeoutMillis = idleTimeout instanceof BDecimal timeout
+                ? timeout.decimalValue().multiply(BigDecimal.valueOf(1000)).longValue() : NO_IDLE_TIMEOUT;
+        if (idleTimeout instanceof BDecimal timeout && timeout.decimalValue().signum() < 0) {
+            return CommonUtils.createError("idleTimeout must not be negative");
+        }
+        synchronized (consumer) {
+            OpenStream current = (OpenStream) consumer.getNativeData(NATIVE_MESSAGE_STREAM);
+            if (current != null) {
+                return CommonUtils.createError("A stream is already open on this consumer; close it first");
+            }
+            MessagePrefetcher.MessageSource<BytesXMLMessage> source;
+            if (SUBSCRIPTION_TYPE_DIRECT_TOPIC.equals(consumer.getNativeData(NATIVE_SUBSCRIPTION_TYPE))) {
+                XMLMessageConsumer xmlConsumer = (XMLMessageConsumer) consumer.getNativeData(NATIVE_CONSUMER);
+                if (xmlConsumer == null) {
+                    return CommonUtils.createError("Consumer not initialized");
+                }
+                // A conflating reader still fills the prefetch buffer first; only the backlog behind it conflates.
+                ConflatingReceiver conflating =
+                        (ConflatingReceiver) consumer.getNativeData(NATIVE_CONFLATING_RECEIVER);
+                source = conflating != null ? conflating : xmlConsumer::receive;
+            } else {
+                FlowReceiver flowReceiver = (FlowReceiver) consumer.getNativeData(NATIVE_FLOW);
+                if (flowReceiver == null) {
+                    return CommonUtils.createError("Consumer flow not initialized");
+                }
+                source = flowReceiver::receive;
+            }
+            MessagePrefetcher.MessageSource<BytesXMLMessage> receiver = source;
+            MessagePrefetcher.MessageSource<BytesXMLMessage> newMessages = timeoutMillis -> {
+                BytesXMLMessage message = receiver.receive(timeoutMillis);
+                // A skipped expired or duplicate message reads as an empty poll; the reader simply polls again.
+                return message != null && ConsumerActions.skipMessage(consumer, message) ? null : message;
+            };
+            // Unclaimed messages can only be handed back one by one on a non-transacted CLIENT_ACK flow; on an
+            // AUTO_ACK flow they were acknowledged when the reader received them.
+            boolean requeueUnclaimed = consumer.getNativeData(NATIVE_ACK_MODE) == AcknowledgementMode.CLIENT_ACK
+                    && !Boolean.TRUE.equals(consumer.getNativeData(NATIVE_TRANSACTED));
+            MessagePrefetcher<BytesXMLMessage> prefetcher = new MessagePrefetcher<>(newMessages,
+                    message -> MessageConverter.toBallerinaMessage(message, messageType), (int) prefetch,
+                    Thread.ofVirtual().name("solace-consumer-prefetch-", 0).factory());
+            OpenStream openStream = new OpenStream(consumer, prefetcher, idleTimeoutMillis, requeueUnclaimed);
+            stream.addNativeData(NATIVE_MESSAGE_STREAM, openStream);
+            consumer.addNativeData(NATIVE_MESSAGE_STREAM, openStream);
+            prefetcher.start();
+        }
+        return null;
+    }
+
+    /**
+     * Return the next message of the stream. A message that has already been prefetched is returned without
+     * blocking; otherwise this waits for the reader, up to the stream's idle timeout.
+     *
+     * @param stream the Ballerina stream iterator object
+     * @return the next message, null once the stream has ended, or BError on failure
+     */
+    public static Object next(BObject stream) {
+        OpenStream openStream = (OpenStream) stream.getNativeData(NATIVE_MESSAGE_STREAM);
+        if (openStream == null) {
+            return null;
+        }
+        MessagePrefetcher<BytesXMLMessage> prefetcher = openStream.prefetcher();
+        Object result;
+        try {
+            result = prefetcher.buffered() > 0
+                    ? nextValue(prefetcher, 0)
+                    : CommonUtils.executeBlocking(() -> nextValue(prefetcher, openStream.idleTimeoutMillis()));
+        } catch (Exception e) {
+            result = CommonUtils.createError("Failed to receive message", e);
+        }
+        if (result instanceof BError) {
+            SolaceMetricsUtil.reportConsumerError(openStream.consumer(), ERROR_TYPE_RECEIVE);
+            return result;
+        }
+        if (result != null) {
+            ConsumerActions.reportReceiveOutcome(openStream.consumer(), result);
+        }
+        return result;
+    }
+
+    private static Object nextValue(MessagePrefetcher<BytesXMLMessage> prefetcher, long timeoutMillis)
+            throws InterruptedException {
+        try {
+            return prefetcher.next(timeoutMillis);
+        } catch (BallerinaSolaceDatabindingException e) {
+            return CommonUtils.createError(e.getMessage());
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            return CommonUtils.createError("Failed to receive message", e);
+        }
+    }
+
+    /**
+     * Close the stream: stop its reader and hand back the messages it prefetched but never returned. The consumer
+     * stays open.
+     *
+     * @param stream the Ballerina stream iterator object
+     * @return null on success, BError on failure
+     */
+    public static BError close(BObject stream) {
+        OpenStream openStream = (OpenStream) stream.getNativeData(NATIVE_MESSAGE_STREAM);
+        if (openStream != null) {
+            openStream.close();
+        }
+        return null;
+    }
+
+    /**
+     * A consumer's open stream and the prefetcher behind it.
+     */
+    record OpenStream(BObject consumer, MessagePrefetcher<BytesXMLMessage> prefetcher, long idleTimeoutMillis,
+                      boolean requeueUnclaimed) {
+
+        /**
+         * Stops the reader and settles what it left behind. Unclaimed guaranteed messages are settled as failed so
+         * the broker redelivers them now rather than when the consumer closes; direct messages are dropped.
+         */
+        void close() {
+            synchronized (consumer) {
+                if (consumer.getNativeData(NATIVE_MESSAGE_STREAM) == this) {
+                    consumer.addNativeData(NATIVE_MESSAGE_STREAM, null);
+                }
+            }
+            if (prefetcher.isClosed()) {
+                return;
+            }
+            try {
+                prefetcher.close(message -> {
+                    if (requeueUnclaimed && message.getDeliveryMode() != DeliveryMode.DIRECT) {
+                        CommonUtils.closeQuietly(() -> message.settle(XMLMessage.Outcome.FAILED));
+                    }
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.consumer;
+
+import io.ballerina.lib.solace.common.CommonUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs a consumer's blocking receive calls on one long-lived thread.
+ * <p>
+ * A receive request is handed to the worker through a queue and the caller waits on its completion, so a call costs
+ * an enqueue and a wake-up instead of starting a virtual thread. Requests run one at a time in arrival order, which
+ * matches how a single flow delivers messages: concurrent receive calls on one consumer are served in turn rather
+ * than racing for the same flow.
+ * <p>
+ * Each request carries its own deadline, so waiting behind another receive does not extend it: a request runs with
+ * only the time it has left, and one still queued when its deadline passes is withdrawn by its caller and never
+ * runs.
+ */
+final class ReceiveWorker {
+
+    private static final Request SHUTDOWN = new Request(timeoutMillis -> null, 0, 0, new CompletableFuture<>());
+
+    private final BlockingQueue<Request> requests = new LinkedBlockingQueue<>();
+    private final Thread thread;
+    private volatile boolean closed;
+
+    ReceiveWorker(ThreadFactory threadFactory) {
+        this.thread = threadFactory.newThread(this::run);
+        this.thread.start();
+    }
+
+    /**
+     * A receive call, given the time it has left.
+     */
+    @FunctionalInterface
+    interface ReceiveTask {
+        Object run(int timeoutMillis) throws Exception;
+    }
+
+    /**
+     * Runs a task on the worker and waits for its result, at most until the request's deadline unless the task has
+     * already started.
+     *
+     * @param task          the receive call to run
+     * @param timeoutMillis how long the request may take, or 0 to wait indefinitely
+     * @return the task's result
+     * @throws TimeoutException if the deadline passed before the worker could start the task, which then never runs
+     * @throws Exception        the exception thrown by the task, or an {@link IllegalStateException} if the worker
+     *                          has been closed before the task could run
+     */
+    Object submit(ReceiveTask task, long timeoutMillis) throws Exception {
+        if (closed) {
+            throw new IllegalStateException("Consumer is closed");
+        }
+        Request request = new Request(task, timeoutMillis,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis), new CompletableFuture<>());
+        requests.add(request);
+        // close() may have drained the queue just before the request was added; nothing would run it then.
+        if (closed && requests.remove(request)) {
+            throw new IllegalStateException("Consumer is closed");
+        }
+        if (timeoutMillis == 0) {
+            return await(request);
+        }
+        try {
+            return unwrap(() -> request.result().get(timeoutMillis, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            if (request.claim()) {
+                requests.remove(request);
+                throw new TimeoutException("Receive timed out waiting for an earlier receive on the consumer");
+            }
+            // The worker started the request first; the task itself returns within the time it was given.
+            return await(request);
+        }
+    }
+
+    private static Object await(Request request) throws Exception {
+        return unwrap(() -> request.result().get());
+    }
+
+    private static Object unwrap(CommonUtils.CompletableWithException result) throws Exception {
+        try {
+            return result.run();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    private void run() {
+        while (true) {
+            Request request;
+            try {
+                request = requests.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (request == SHUTDOWN) {
+                return;
+            }
+            if (!request.claim()) {
+                // The caller gave up on the request when its deadline passed.
+                continue;
+            }
+            int remainingMillis = request.remainingMillis();
+            if (remainingMillis < 0) {
+                request.result().completeExceptionally(new TimeoutException(
+                        "Receive timed out waiting for an earlier receive on the consumer"));
+                continue;
+            }
+            try {
+                request.result().complete(request.task().run(remainingMillis));
+            } catch (Exception e) {
+                request.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Stops the worker once the request it is running, if any, completes. Requests still waiting are failed; close
+     * the flow first so a pending blocking receive returns promptly.
+     */
+    void close() {
+        closed = true;
+        List<Request> pending = new ArrayList<>();
+        requests.drainTo(pending);
+        for (Request request : pending) {
+            request.result().completeExceptionally(new IllegalStateException("Consumer is closed"));
+        }
+        requests.add(SHUTDOWN);
+    }
+
+    boolean isAlive() {
+        return thread.isAlive();
+    }
+
+    /**
+     * A queued receive call. Whoever claims it first - the worker to run it, or its caller to withdraw it after the
+     * deadline - decides its fate.
+     */
+    private record Request(ReceiveTask task, long timeoutMillis, long deadlineNanos, CompletableFuture<Object> result,
+                           AtomicBoolean claimed) {
+
+        Request(ReceiveTask task, long timeoutMillis, long deadlineNanos, CompletableFuture<Object> result) {
+            this(task, timeoutMillis, deadlineNanos, result, new AtomicBoolean());
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        /**
+         * The time left until the deadline, 0 if the request waits indefinitely, or -1 if the deadline has passed.
+         */
+        int remainingMillis() {
+            if (timeoutMillis == 0) {
+                return 0;
+            }
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+            return remaining <= 0 ? -1 : (int) Math.min(remaining, Integer.MAX_VALUE);
+        }
+    }
+}
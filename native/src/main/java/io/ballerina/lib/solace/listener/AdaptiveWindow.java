@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import com.solacesystems.jcsmp.JCSMPException;
+import io.ballerina.lib.solace.config.AdaptiveWindowConfig;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Latency-driven flow control for one flow of a listener service.
+ * <p>
+ * A flow's lane runs one message at a time, so a message that arrives behind {@code n} others waits roughly
+ * {@code n} times the service's processing time. The window is therefore sized as the latency target divided by a
+ * moving average of {@code onMessage} processing time, clamped to the configured bounds: a slow service gets a small
+ * window and is not flooded, a fast one gets a large window and is not starved. Whenever the messages the service
+ * holds (queued in the lane or running) reach the window, the flow is paused; it resumes once they fall to half of
+ * it, so the broker keeps the excess instead of the connector.
+ */
+final class AdaptiveWindow {
+
+    private static final double SMOOTHING = 0.2;
+    private static final long THROUGHPUT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long targetLatencyNanos;
+    private final int minWindow;
+    private final int maxWindow;
+    private final LongSupplier clock;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private volatile int window;
+    private volatile FlowGate gate;
+    private double averageNanos = -1;
+    private long completed;
+    private long intervalStartNanos;
+    private double throughput;
+
+    AdaptiveWindow(AdaptiveWindowConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    AdaptiveWindow(AdaptiveWindowConfig config, LongSupplier clock) {
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(config.targetLatencyInMsecs());
+        this.minWindow = config.minWindow();
+        this.maxWindow = config.maxWindow();
+        this.clock = clock;
+        // Start small until the first processing times are known.
+        this.window = minWindow;
+        this.intervalStartNanos = clock.getAsLong();
+    }
+
+    /**
+     * Binds the window to the flow it controls, once the flow has been created.
+     */
+    void bind(FlowGate gate) {
+        this.gate = gate;
+    }
+
+    /**
+     * Records a message handed to the service, pausing the flow if the window is now full.
+     */
+    void enqueued() throws JCSMPException {
+        outstanding.incrementAndGet();
+        reevaluate();
+    }
+
+    /**
+     * Records a message the service is done with, whether processed or skipped, resuming the flow once enough room
+     * has been freed.
+     */
+    void dequeued() throws JCSMPException {
+        outstanding.decrementAndGet();
+        reevaluate();
+    }
+
+    /**
+     * Feeds one {@code onMessage} processing time into the window.
+     *
+     * @return true if a new throughput sample was taken, so the gauges are due to be reported
+     */
+    synchronized boolean recordProcessing(long durationNanos) {
+        averageNanos = averageNanos < 0 ? durationNanos : averageNanos + SMOOTHING * (durationNanos - averageNanos);
+        long fit = (long) (targetLatencyNanos / Math.max(averageNanos, 1));
+        window = (int) Math.max(minWindow, Math.min(maxWindow, fit));
+
+        completed++;
+        long now = clock.getAsLong();
+        long elapsed = now - intervalStartNanos;
+        if (elapsed < THROUGHPUT_INTERVAL_NANOS) {
+            return false;
+        }
+        throughput = completed * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+        completed = 0;
+        intervalStartNanos = now;
+        return true;
+    }
+
+    /**
+     * Whether the flow should be paused, given whether it currently is. The gap between the pause and resume marks
+     * keeps the flow from toggling on every message.
+     */
+    boolean shouldPause(boolean paused) {
+        int held = outstanding.get();
+        int current = window;
+        return paused ? held > current / 2 : held >= current;
+    }
+
+    int window() {
+        return window;
+    }
+
+    synchronized double throughput() {
+        return throughput;
+    }
+
+    private void reevaluate() throws JCSMPException {
+        FlowGate current = gate;
+        if (current != null) {
+            current.evaluate(FlowGate.PAUSE_BACKPRESSURE, this::shouldPause);
+        }
+    }
+}
@@ -20,46 +20,72 @@ package io.ballerina.lib.solace.listener;
 
 import com.solacesystems.jcsmp.FlowReceiver;
 import com.solacesystems.jcsmp.JCSMPException;
-import com.solacesystems.jcsmp.JCSMPSession;
-import com.solacesystems.jcsmp.Topic;
-import com.solacesystems.jcsmp.XMLMessageConsumer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static io.ballerina.lib.solace.consumer.ConsumerUtils.SUBSCRIPTION_TYPE_DIRECT_TOPIC;
 
 /**
- * Holds the native JCSMP receiver and lifecycle state for a single service attached to a {@link ListenerActions}
- * listener. A service is backed either by a {@link FlowReceiver} (queue / durable topic endpoint) or an
- * {@link XMLMessageConsumer} (direct topic).
+ * Holds the native JCSMP receivers and lifecycle state for a single service attached to a {@link ListenerActions}
+ * listener. A service is backed either by one or more {@link FlowReceiver}s (queue / durable topic endpoint) or a
+ * topic subscription routed by the listener's {@link DirectTopicRouter} (direct topic). Each receiver pushes into its
+ * own {@link SolaceMessageListener}, so a queue service bound with several flows dispatches them on independent
+ * lanes.
  */
 final class AttachedService {
 
     private final String subscriptionType;
-    private final FlowReceiver flow;
-    private final XMLMessageConsumer consumer;
-    private final Topic directTopic;
-    private final JCSMPSession session;
-    private final SolaceMessageListener messageListener;
+    private final List<FlowGate> flows;
+    private final DirectTopicRouter router;
+    private final List<String> directTopics;
+    private final List<SolaceMessageListener> messageListeners;
+    private final TransactionBatcher batcher;
+    private final CircuitBreaker breaker;
+    private final RateLimiter limiter;
     private boolean started;
+    private boolean released;
 
-    private AttachedService(String subscriptionType, FlowReceiver flow, XMLMessageConsumer consumer,
-                            Topic directTopic, JCSMPSession session, SolaceMessageListener messageListener) {
+    private AttachedService(String subscriptionType, List<FlowGate> flows, DirectTopicRouter router,
+                            List<String> directTopics, List<SolaceMessageListener> messageListeners,
+                            TransactionBatcher batcher, CircuitBreaker breaker, RateLimiter limiter) {
         this.subscriptionType = subscriptionType;
-        this.flow = flow;
-        this.consumer = consumer;
-        this.directTopic = directTopic;
-        this.session = session;
-        this.messageListener = messageListener;
+        this.flows = flows;
+        this.router = router;
+        this.directTopics = directTopics;
+        this.messageListeners = messageListeners;
+        this.batcher = batcher;
+        this.breaker = breaker;
+        this.limiter = limiter;
     }
 
-    static AttachedService forFlow(String subscriptionType, FlowReceiver flow,
-                                   SolaceMessageListener messageListener) {
-        return new AttachedService(subscriptionType, flow, null, null, null, messageListener);
+    static AttachedService forFlows(String subscriptionType, List<FlowReceiver> flows,
+                                    List<SolaceMessageListener> messageListeners, TransactionBatcher batcher,
+                                    CircuitBreaker breaker, RateLimiter limiter) {
+        List<FlowGate> gates = flows.stream().map(FlowGate::new).toList();
+        for (int i = 0; i < gates.size(); i++) {
+            messageListeners.get(i).bindFlow(gates.get(i));
+        }
+        if (batcher != null) {
+            batcher.bind(gates, messageListeners);
+        }
+        if (breaker != null) {
+            breaker.bind(gates, messageListeners);
+        }
+        if (limiter != null) {
+            limiter.bind(gates, messageListeners);
+        }
+        return new AttachedService(subscriptionType, gates, null, null, List.copyOf(messageListeners), batcher,
+                breaker, limiter);
     }
 
-    static AttachedService forDirectTopic(XMLMessageConsumer consumer, Topic directTopic, JCSMPSession session,
+    /**
+     * Creates a direct topic service whose subscriptions are already held by the router.
+     */
+    static AttachedService forDirectTopic(DirectTopicRouter router, List<String> directTopics,
                                           SolaceMessageListener messageListener) {
-        return new AttachedService(SUBSCRIPTION_TYPE_DIRECT_TOPIC, null, consumer, directTopic, session,
-                messageListener);
+        return new AttachedService(SUBSCRIPTION_TYPE_DIRECT_TOPIC, List.of(), router, directTopics,
+                List.of(messageListener), null, null, null);
     }
 
     String subscriptionType() {
@@ -73,10 +99,11 @@ final class AttachedService {
         if (started) {
             return;
         }
-        if (flow != null) {
+        for (FlowGate flow : flows) {
             flow.start();
-        } else if (consumer != null) {
-            consumer.start();
+        }
+        if (router != null) {
+            router.enable(directTopics, messageListeners.get(0));
         }
         started = true;
     }
@@ -84,36 +111,93 @@ final class AttachedService {
     /**
      * Pauses message delivery without releasing resources. After {@code stop()} the receiver can be started again.
      */
-    synchronized void stop() {
+    synchronized void stop() throws JCSMPException {
         if (!started) {
             return;
         }
-        if (flow != null) {
+        for (FlowGate flow : flows) {
             flow.stop();
-        } else if (consumer != null) {
-            consumer.stop();
+        }
+        if (router != null) {
+            router.disable(messageListeners.get(0));
         }
         started = false;
     }
 
     /**
-     * Stops delivery and releases the receiver and any direct-topic subscription. Does not close the shared session.
+     * Closes the service's dispatch lanes to new work. Messages already queued keep running; pair with
+     * {@link #awaitDrained(long)} and {@link #release(boolean)}.
      */
-    synchronized void close() throws JCSMPException {
-        stop();
-        // Drain any in-flight service invocation / settlement before releasing the receiver and session, since those
-        // tasks may still call ack / commit / rollback on this flow.
-        if (messageListener != null) {
+    void shutdownLanes() {
+        for (SolaceMessageListener messageListener : messageListeners) {
             messageListener.shutdown();
         }
-        if (flow != null) {
-            flow.close();
+    }
+
+    /**
+     * Waits for every lane of the service to finish its queued messages, up to a shared deadline, so several services
+     * can be drained concurrently within one time budget.
+     *
+     * @param deadlineNanos the {@link System#nanoTime()} value to give up at
+     * @return true if every lane drained in time
+     */
+    boolean awaitDrained(long deadlineNanos) throws InterruptedException {
+        boolean drained = true;
+        for (SolaceMessageListener messageListener : messageListeners) {
+            drained &= messageListener.awaitDrained(Math.max(0, deadlineNanos - System.nanoTime()));
         }
-        if (consumer != null) {
-            if (directTopic != null && session != null) {
-                session.removeSubscription(directTopic);
+        return drained;
+    }
+
+    /**
+     * Releases the receivers and any direct-topic subscription once the lanes have been shut down. Does not close the
+     * shared session or the direct topic consumer.
+     *
+     * @param drained whether the lanes finished their queued messages; if not, what is left is abandoned
+     */
+    synchronized void release(boolean drained) throws JCSMPException {
+        if (released) {
+            return;
+        }
+        released = true;
+        if (!drained) {
+            for (SolaceMessageListener messageListener : messageListeners) {
+                messageListener.shutdownNow();
             }
-            consumer.close();
         }
+        // With auto-commit, settle the open batch while the flows are still bound to the transacted session.
+        if (batcher != null) {
+            batcher.close(drained);
+        }
+        if (breaker != null) {
+            breaker.shutdown();
+        }
+        if (limiter != null) {
+            limiter.shutdown();
+        }
+        for (FlowGate flow : flows) {
+            flow.close();
+        }
+        if (router != null) {
+            router.disable(messageListeners.get(0));
+            router.unsubscribe(directTopics);
+        }
+    }
+
+    /**
+     * Stops delivery, waits up to {@code timeoutMillis} for in-flight service invocations / settlements to finish
+     * (they may still call ack / commit / rollback on these flows), then releases the receivers.
+     */
+    void close(long timeoutMillis) throws JCSMPException {
+        stop();
+        shutdownLanes();
+        boolean drained;
+        try {
+            drained = awaitDrained(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            drained = false;
+        }
+        release(drained);
     }
 }
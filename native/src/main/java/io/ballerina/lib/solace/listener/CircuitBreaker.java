@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import io.ballerina.lib.solace.common.CommonUtils;
+import io.ballerina.lib.solace.config.CircuitBreakerConfig;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_DISPATCH;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_RECEIVE;
+
+/**
+ * Pauses a service's flows while its handler keeps failing, so failing messages are not redelivered in a hot loop.
+ * <p>
+ * While closed, the breaker records the outcome of each dispatched message in a sliding window of the last
+ * {@code windowSize} outcomes. Only handler failures count against it, using the error type the dispatch already
+ * reports; broker-side errors such as failed acknowledgements do not. Once the window holds at least
+ * {@code minimumMessages} outcomes and the failure rate reaches the threshold, the breaker opens and pauses the flows.
+ * After the open duration it turns half-open and resumes them for {@code halfOpenMessages} probe messages, pausing
+ * again as soon as that many have been delivered. If every probe succeeds the breaker closes; if one fails it opens
+ * again for twice as long, up to the maximum open duration.
+ */
+final class CircuitBreaker {
+
+    /**
+     * Breaker states, with the value reported on the state gauge.
+     */
+    enum State {
+        CLOSED(0), OPEN(1), HALF_OPEN(2);
+
+        private final int gaugeValue;
+
+        State(int gaugeValue) {
+            this.gaugeValue = gaugeValue;
+        }
+
+        int gaugeValue() {
+            return gaugeValue;
+        }
+    }
+
+    /**
+     * Runs a task after a delay.
+     */
+    @FunctionalInterface
+    interface Scheduler {
+        void schedule(Runnable task, long delayMillis);
+    }
+
+    /**
+     * Observes state transitions, for metrics.
+     */
+    @FunctionalInterface
+    interface TransitionListener {
+        void onTransition(State to);
+    }
+
+    private final CircuitBreakerConfig config;
+    private final Scheduler scheduler;
+    private final TransitionListener transitionListener;
+    private final boolean[] failures;
+    private List<FlowGate> gates = List.of();
+    private List<SolaceMessageListener> lanes = List.of();
+    private State state = State.CLOSED;
+    private int next;
+    private int recorded;
+    private int failed;
+    private long openDurationInMsecs;
+    private int probesAdmitted;
+    private int probesSucceeded;
+    private long generation;
+    private boolean closed;
+
+    CircuitBreaker(CircuitBreakerConfig config, TransitionListener transitionListener) {
+        this(config, (task, delayMillis) ->
+                CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS).execute(task),
+                transitionListener);
+    }
+
+    CircuitBreaker(CircuitBreakerConfig config, Scheduler scheduler, TransitionListener transitionListener) {
+        this.config = config;
+        this.scheduler = scheduler;
+        this.transitionListener = transitionListener;
+        this.failures = new boolean[config.windowSize()];
+        this.openDurationInMsecs = config.openDurationInMsecs();
+    }
+
+    /**
+     * Binds the breaker to the flows it pauses and the lanes it reports errors on, once they have been created.
+     */
+    synchronized void bind(List<FlowGate> gates, List<SolaceMessageListener> lanes) {
+        this.gates = List.copyOf(gates);
+        this.lanes = List.copyOf(lanes);
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    /**
+     * Records a message handed over by a flow. While half-open, the flows are paused again once the probe budget has
+     * been delivered.
+     */
+    synchronized void onDelivered() {
+        if (state == State.HALF_OPEN && ++probesAdmitted == config.halfOpenMessages()) {
+            pauseGates();
+        }
+    }
+
+    /**
+     * Records a message the service processed successfully.
+     */
+    synchronized void onSuccess() {
+        switch (state) {
+            case CLOSED -> record(false);
+            case HALF_OPEN -> {
+                if (++probesSucceeded >= config.halfOpenMessages()) {
+                    close();
+                }
+            }
+            default -> {
+                // Outcomes of messages dispatched before the breaker opened do not change an open breaker.
+            }
+        }
+    }
+
+    /**
+     * Records a failed message. Only handler failures count; other error types are ignored.
+     *
+     * @param errorType the error type the failure was reported with
+     */
+    synchronized void onError(String errorType) {
+        if (!ERROR_TYPE_DISPATCH.equals(errorType)) {
+            return;
+        }
+        switch (state) {
+            case CLOSED -> {
+                record(true);
+                if (recorded >= config.minimumMessages()
+                        && failed >= config.failureRateThreshold() * recorded) {
+                    open();
+                }
+            }
+            case HALF_OPEN -> {
+                openDurationInMsecs = Math.min(openDurationInMsecs * 2, config.maxOpenDurationInMsecs());
+                open();
+            }
+            default -> {
+                // Already open.
+            }
+        }
+    }
+
+    /**
+     * Stops the breaker when the service is released, so a pending half-open timer does not resume closed flows.
+     */
+    synchronized void shutdown() {
+        closed = true;
+        generation++;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == failures.length) {
+            if (failures[next]) {
+                failed--;
+            }
+        } else {
+            recorded++;
+        }
+        failures[next] = failure;
+        if (failure) {
+            failed++;
+        }
+        next = (next + 1) % failures.length;
+    }
+
+    private void open() {
+        transition(State.OPEN);
+        pauseGates();
+        long current = ++generation;
+        scheduler.schedule(() -> halfOpen(current), openDurationInMsecs);
+    }
+
+    private synchronized void halfOpen(long timerGeneration) {
+        if (closed || timerGeneration != generation) {
+            return;
+        }
+        transition(State.HALF_OPEN);
+        probesAdmitted = 0;
+        probesSucceeded = 0;
+        resumeGates();
+    }
+
+    private void close() {
+        transition(State.CLOSED);
+        openDurationInMsecs = config.openDurationInMsecs();
+        next = 0;
+        recorded = 0;
+        failed = 0;
+        resumeGates();
+    }
+
+    private void transition(State to) {
+        state = to;
+        transitionListener.onTransition(to);
+    }
+
+    private void pauseGates() {
+        for (FlowGate gate : gates) {
+            // Pausing only stops the flow, which does not fail in practice.
+            CommonUtils.closeQuietly(() -> gate.pause(FlowGate.PAUSE_CIRCUIT));
+        }
+    }
+
+    private void resumeGates() {
+        if (closed) {
+            return;
+        }
+        for (FlowGate gate : gates) {
+            try {
+                gate.resume(FlowGate.PAUSE_CIRCUIT);
+            } catch (Exception e) {
+                if (!lanes.isEmpty()) {
+                    lanes.get(0).reportError(CommonUtils.createError("Failed to resume flow after circuit breaker "
+                            + "pause", e), ERROR_TYPE_RECEIVE);
+                }
+            }
+        }
+    }
+}
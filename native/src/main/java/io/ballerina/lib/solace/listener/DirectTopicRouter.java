@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.Destination;
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.JCSMPSession;
+import com.solacesystems.jcsmp.XMLMessageConsumer;
+import com.solacesystems.jcsmp.XMLMessageListener;
+import io.ballerina.lib.solace.common.CommonUtils;
+import io.ballerina.lib.solace.consumer.ConsumerUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes the direct topic messages of a listener's session to its direct topic services.
+ * <p>
+ * A JCSMP session has a single {@link XMLMessageConsumer}, so every direct topic service on a listener shares it. The
+ * router owns that consumer and the session's topic subscriptions, reference counted so services subscribing to the
+ * same topic do not remove it from under each other. A service may subscribe to several topics, which are added and
+ * removed as one batch that only waits for the broker to confirm its last request. Each received message is matched
+ * against the subscriptions of the started services in a {@link TopicTrie} and handed to the
+ * {@link SolaceMessageListener} of every service that matches. The trie is rebuilt when a service starts or stops and
+ * read without locking on delivery.
+ */
+final class DirectTopicRouter implements XMLMessageListener {
+
+    private final JCSMPSession session;
+    private final Map<String, Integer> subscriptions = new HashMap<>();
+    private final Map<SolaceMessageListener, List<String>> routes = new LinkedHashMap<>();
+    private volatile TopicTrie<SolaceMessageListener> trie = new TopicTrie<>();
+    private volatile List<SolaceMessageListener> listeners = List.of();
+    private XMLMessageConsumer consumer;
+
+    DirectTopicRouter(JCSMPSession session) {
+        this.session = session;
+    }
+
+    /**
+     * Adds a service's topic subscriptions to the session, except those another service already holds. If the batch
+     * fails, the subscriptions it added are removed again.
+     */
+    synchronized void subscribe(List<String> topicNames) throws JCSMPException {
+        if (consumer == null) {
+            consumer = session.getMessageConsumer(this);
+        }
+        List<String> added = topicNames.stream().distinct().filter(topic -> !subscriptions.containsKey(topic))
+                .toList();
+        try {
+            ConsumerUtils.addSubscriptions(session, added);
+        } catch (JCSMPException e) {
+            for (String topicName : added) {
+                CommonUtils.closeQuietly(
+                        () -> session.removeSubscription(JCSMPFactory.onlyInstance().createTopic(topicName)));
+            }
+            throw e;
+        }
+        for (String topicName : topicNames) {
+            subscriptions.merge(topicName, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Releases a service's topic subscriptions, removing each from the session once no service holds it.
+     */
+    synchronized void unsubscribe(List<String> topicNames) throws JCSMPException {
+        List<String> removed = new ArrayList<>();
+        for (String topicName : topicNames) {
+            Integer count = subscriptions.get(topicName);
+            if (count == null) {
+                continue;
+            }
+            if (count > 1) {
+                subscriptions.put(topicName, count - 1);
+            } else {
+                subscriptions.remove(topicName);
+                removed.add(topicName);
+            }
+        }
+        for (int i = 0; i < removed.size(); i++) {
+            session.removeSubscription(JCSMPFactory.onlyInstance().createTopic(removed.get(i)),
+                    i == removed.size() - 1);
+        }
+    }
+
+    /**
+     * Starts routing messages matching any of the service's subscriptions to its listener.
+     */
+    synchronized void enable(List<String> topicNames, SolaceMessageListener messageListener)
+            throws JCSMPException {
+        routes.put(messageListener, topicNames);
+        rebuild();
+        if (routes.size() == 1) {
+            consumer.start();
+        }
+    }
+
+    /**
+     * Stops routing messages to the service's listener.
+     */
+    synchronized void disable(SolaceMessageListener messageListener) {
+        if (routes.remove(messageListener) == null) {
+            return;
+        }
+        rebuild();
+        if (routes.isEmpty()) {
+            consumer.stop();
+        }
+    }
+
+    /**
+     * Closes the shared consumer. Called when the listener stops, after every service has been released.
+     */
+    synchronized void close() {
+        routes.clear();
+        rebuild();
+        if (consumer != null) {
+            consumer.close();
+            consumer = null;
+        }
+    }
+
+    private void rebuild() {
+        TopicTrie<SolaceMessageListener> rebuilt = new TopicTrie<>();
+        routes.forEach((messageListener, topicNames) ->
+                topicNames.forEach(topicName -> rebuilt.add(topicName, messageListener)));
+        trie = rebuilt;
+        listeners = List.copyOf(routes.keySet());
+    }
+
+    @Override
+    public void onReceive(BytesXMLMessage message) {
+        Destination destination = message.getDestination();
+        if (destination == null) {
+            return;
+        }
+        for (SolaceMessageListener messageListener : trie.match(destination.getName())) {
+            messageListener.onReceive(message);
+        }
+    }
+
+    @Override
+    public void onException(JCSMPException exception) {
+        // The consumer is shared, so a failure concerns every direct topic service.
+        for (SolaceMessageListener messageListener : listeners) {
+            messageListener.onException(exception);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import io.ballerina.lib.solace.observability.SolaceObserverContext;
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.observability.ObservabilityConstants;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.CONTEXT_CONSUMER;
+
+/**
+ * The {@link StrandMetadata} a service's {@code onMessage} and {@code onError} methods are invoked with, computed once
+ * when the service is attached.
+ * <p>
+ * Without tracing the metadata only depends on whether each method is isolated, so one instance per method is shared
+ * by every message. With tracing, each invocation needs an observer context of its own, since the runtime records the
+ * invocation's span on it, carrying the message's trace context. Only that context, its properties map and the
+ * metadata holding them are allocated per message.
+ */
+final class DispatchMetadata {
+
+    private final StrandMetadata onMessage;
+    private final StrandMetadata onError;
+    private final boolean tracing;
+    private final String url;
+    private final String vpn;
+    private final String destination;
+    private final String destinationKind;
+
+    DispatchMetadata(boolean onMessageIsolated, boolean onErrorIsolated, boolean tracing, String url, String vpn,
+                     String destination, String destinationKind) {
+        this.onMessage = new StrandMetadata(onMessageIsolated, null);
+        this.onError = new StrandMetadata(onErrorIsolated, null);
+        this.tracing = tracing;
+        this.url = url;
+        this.vpn = vpn;
+        this.destination = destination;
+        this.destinationKind = destinationKind;
+    }
+
+    /**
+     * Whether invocations are traced, and so whether a message's trace context is worth extracting.
+     */
+    boolean isTracing() {
+        return tracing;
+    }
+
+    /**
+     * Returns the metadata for invoking {@code onMessage} with a message's trace context.
+     *
+     * @param traceContext the trace headers extracted from the message, or null
+     */
+    StrandMetadata onMessage(Map<String, String> traceContext) {
+        return tracing ? traced(onMessage, traceContext) : onMessage;
+    }
+
+    /**
+     * Returns the metadata for invoking {@code onError}, with the trace context of the failed message if there is one.
+     *
+     * @param traceContext the trace headers of the message being processed, or null
+     */
+    StrandMetadata onError(Map<String, String> traceContext) {
+        return tracing ? traced(onError, traceContext) : onError;
+    }
+
+    private StrandMetadata traced(StrandMetadata untraced, Map<String, String> traceContext) {
+        SolaceObserverContext ctx = new SolaceObserverContext(CONTEXT_CONSUMER, url, destination)
+                .withVpn(vpn)
+                .withDestinationKind(destinationKind);
+        if (traceContext != null && !traceContext.isEmpty()) {
+            ctx.addProperty(ObservabilityConstants.PROPERTY_TRACE_PROPERTIES, traceContext);
+        }
+        Map<String, Object> properties = new HashMap<>(2);
+        properties.put(ObservabilityConstants.KEY_OBSERVER_CONTEXT, ctx);
+        return new StrandMetadata(untraced.isConcurrentSafe(), properties);
+    }
+}
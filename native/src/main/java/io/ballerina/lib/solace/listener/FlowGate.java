@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import com.solacesystems.jcsmp.FlowReceiver;
+import com.solacesystems.jcsmp.JCSMPException;
+
+/**
+ * Controls whether a service's {@link FlowReceiver} is delivering. The flow runs only while the service is started
+ * and no internal reason is holding it paused, so independent mechanisms (for example a transaction batch waiting to
+ * commit) can pause and resume delivery without undoing each other or a listener-level stop.
+ */
+final class FlowGate {
+
+    /**
+     * Paused while a transaction batch drains and settles.
+     */
+    static final int PAUSE_SETTLEMENT = 1;
+
+    /**
+     * Paused while the service holds as many messages as its adaptive window allows.
+     */
+    static final int PAUSE_BACKPRESSURE = 2;
+
+    /**
+     * Paused while the service's circuit breaker is open, or half-open with its probes delivered.
+     */
+    static final int PAUSE_CIRCUIT = 4;
+
+    /**
+     * Paused while the service's priority dispatch queue is full.
+     */
+    static final int PAUSE_PRIORITY_QUEUE = 8;
+
+    /**
+     * Paused while the service's rate limit bucket is empty.
+     */
+    static final int PAUSE_RATE_LIMIT = 16;
+
+    private final FlowReceiver flow;
+    private boolean started;
+    private int pauseReasons;
+    private boolean running;
+
+    FlowGate(FlowReceiver flow) {
+        this.flow = flow;
+    }
+
+    synchronized void start() throws JCSMPException {
+        started = true;
+        apply();
+    }
+
+    synchronized void stop() throws JCSMPException {
+        started = false;
+        apply();
+    }
+
+    synchronized void pause(int reason) throws JCSMPException {
+        pauseReasons |= reason;
+        apply();
+    }
+
+    synchronized void resume(int reason) throws JCSMPException {
+        pauseReasons &= ~reason;
+        apply();
+    }
+
+    /**
+     * Re-evaluates one pause reason against the caller's current state. The condition is tested under the gate's
+     * lock, so when several threads race to pause and resume for the same reason, the last evaluation sees the latest
+     * state and wins instead of a stale decision.
+     *
+     * @param reason    the pause reason to update
+     * @param condition decides, given whether the reason currently holds, whether it should hold
+     */
+    synchronized void evaluate(int reason, PauseCondition condition) throws JCSMPException {
+        boolean paused = (pauseReasons & reason) != 0;
+        if (condition.shouldPause(paused) != paused) {
+            pauseReasons ^= reason;
+            apply();
+        }
+    }
+
+    synchronized boolean isPaused(int reason) {
+        return (pauseReasons & reason) != 0;
+    }
+
+    void close() {
+        flow.close();
+    }
+
+    /**
+     * Decides whether a pause reason should hold, given whether it currently does.
+     */
+    @FunctionalInterface
+    interface PauseCondition {
+        boolean shouldPause(boolean paused);
+    }
+
+    private void apply() throws JCSMPException {
+        boolean shouldRun = started && pauseReasons == 0;
+        if (shouldRun && !running) {
+            flow.start();
+            running = true;
+        } else if (!shouldRun && running) {
+            flow.stop();
+            running = false;
+        }
+    }
+}
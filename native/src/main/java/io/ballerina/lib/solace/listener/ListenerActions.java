@@ -32,10 +32,15 @@ import com.solacesystems.jcsmp.XMLMessageConsumer;
 import com.solacesystems.jcsmp.transaction.TransactedSession;
 import io.ballerina.lib.solace.ModuleUtils;
 import io.ballerina.lib.solace.common.CommonUtils;
+import io.ballerina.lib.solace.common.DeadLetterRouter;
+import io.ballerina.lib.solace.common.DuplicateFilter;
 import io.ballerina.lib.solace.config.ConfigurationUtils;
 import io.ballerina.lib.solace.config.ConsumerSubscriptionConfig;
+import io.ballerina.lib.solace.config.ExpiredMessagePolicy;
 import io.ballerina.lib.solace.config.ListenerConfiguration;
+import io.ballerina.lib.solace.config.ProcessingTimeoutAction;
 import io.ballerina.lib.solace.config.QueueConsumerConfig;
+import io.ballerina.lib.solace.config.ServiceConfiguration;
 import io.ballerina.lib.solace.config.TopicConsumerConfig;
 import io.ballerina.lib.solace.consumer.AcknowledgementMode;
 import io.ballerina.lib.solace.consumer.ConsumerUtils;
@@ -49,14 +54,32 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static io.ballerina.lib.solace.common.Constants.NATIVE_ATTACH_LOCK;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_AUTO_COMMIT;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_AUTO_COMMIT_SERVICE;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_CALCULATE_EXPIRATION;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_CLOSED;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_DEAD_LETTER_ROUTER;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_DESTINATION;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_DESTINATION_KIND;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_DIRECT_TOPIC_ROUTER;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_DISPATCH_EXECUTOR;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_EVENT_HANDLER;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_GRACEFUL_STOP_TIMEOUT;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_PENDING_SERVICES;
+import static io.ballerina.lib.solace.common.Constants.NATIVE_REPLY_PUBLISHER;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_RUNTIME;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_SERVICES;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_SESSION;
@@ -65,7 +88,6 @@ import static io.ballerina.lib.solace.common.Constants.NATIVE_TRANSACTED;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_TX_SESSION;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_URL;
 import static io.ballerina.lib.solace.common.Constants.NATIVE_VPN;
-import static io.ballerina.lib.solace.consumer.ConsumerUtils.SUBSCRIPTION_TYPE_DIRECT_TOPIC;
 import static io.ballerina.lib.solace.consumer.ConsumerUtils.SUBSCRIPTION_TYPE_DURABLE_TOPIC;
 import static io.ballerina.lib.solace.consumer.ConsumerUtils.SUBSCRIPTION_TYPE_QUEUE;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.CONTEXT_LISTENER;
@@ -75,11 +97,18 @@ import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants
 
 /**
  * Listener actions - entry point for the Ballerina Solace {@code Listener} interop. Manages a JCSMP session and a set
- * of attached services, each backed by an asynchronous {@link FlowReceiver} (queue / durable topic endpoint) or an
- * {@link XMLMessageConsumer} (direct topic) that pushes messages into the service via {@link SolaceMessageListener}.
+ * of attached services, each backed by an asynchronous {@link FlowReceiver} (queue / durable topic endpoint) or a
+ * subscription on the session's shared {@link XMLMessageConsumer} (direct topic) that pushes messages into the service
+ * via {@link SolaceMessageListener}. Direct topic messages are routed to the matching services by a
+ * {@link DirectTopicRouter}.
  */
 public class ListenerActions {
 
+    /**
+     * The most services whose flows are bound, or started, at the same time during {@code start()}.
+     */
+    private static final int STARTUP_PARALLELISM = 16;
+
     /**
      * Initialize the listener: create and connect the JCSMP session (and a transacted session if requested).
      *
@@ -118,13 +147,29 @@ public class ListenerActions {
             listener.addNativeData(NATIVE_VPN, messageVpn);
             listener.addNativeData(NATIVE_EVENT_HANDLER, eventHandler);
             listener.addNativeData(NATIVE_RUNTIME, env.getRuntime());
+            listener.addNativeData(NATIVE_CALCULATE_EXPIRATION, listenerConfig.calculateMessageExpiration());
+            listener.addNativeData(NATIVE_GRACEFUL_STOP_TIMEOUT,
+                    Math.max(0, listenerConfig.gracefulStopTimeoutInMsecs()));
             // Concurrent map: attach()/detach() run concurrently with start()/gracefulStop()/immediateStop()
             // iterating this map (dynamic attach after start is supported), so a plain HashMap/LinkedHashMap
             // would risk a ConcurrentModificationException or corrupting the map.
             listener.addNativeData(NATIVE_SERVICES, new ConcurrentHashMap<BObject, AttachedService>());
+            // Services attached before start(), validated but not yet bound to the broker; start() binds them all
+            // concurrently. Only accessed under the attach lock.
+            listener.addNativeData(NATIVE_PENDING_SERVICES, new LinkedHashMap<BObject, Callable<AttachedService>>());
             // Serializes attach()/detach() so the duplicate-attach check, receiver creation, and map update
             // happen atomically.
             listener.addNativeData(NATIVE_ATTACH_LOCK, new Object());
+            // One executor shared by every attached service. Each service dispatches through its own serial lane on
+            // top of it, and the lanes run on virtual threads, so attaching more services does not add platform
+            // threads.
+            listener.addNativeData(NATIVE_DISPATCH_EXECUTOR, Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("solace-listener-dispatch-", 0).factory()));
+            // The session has a single message consumer, shared by every direct topic service via the router.
+            listener.addNativeData(NATIVE_DIRECT_TOPIC_ROUTER, new DirectTopicRouter(session));
+            // Replies returned from onMessage go out on this session; its producer is created on the first reply.
+            listener.addNativeData(NATIVE_REPLY_PUBLISHER,
+                    new ReplyPublisher(session, txSession, url.getValue(), messageVpn));
             return null;
         } catch (Exception e) {
             if (txSession != null) {
@@ -139,9 +184,9 @@ public class ListenerActions {
     }
 
     /**
-     * Attach a service to the listener. Reads the {@code @solace:ServiceConfig} annotation, validates the service's
-     * {@code onMessage} method, and creates the backing receiver. If the listener is already started, delivery to the
-     * newly attached service begins immediately.
+     * Attach a service to the listener. Reads the {@code @solace:ServiceConfig} annotation and validates it. If the
+     * listener is already started, the backing receiver is created and delivery to the service begins immediately;
+     * otherwise creating the receiver is left to {@code start()}, which binds every attached service concurrently.
      *
      * @param listener the Ballerina listener object
      * @param service  the Ballerina service object
@@ -154,82 +199,27 @@ public class ListenerActions {
                 if (isClosed(listener)) {
                     return CommonUtils.createError("Listener is closed");
                 }
-                if (servicesMap(listener).containsKey(service)) {
+                if (isAttached(listener, service)) {
                     return CommonUtils.createError("Service is already attached to this listener");
                 }
 
-                Runtime runtime = (Runtime) listener.getNativeData(NATIVE_RUNTIME);
-                Service nativeService = new Service(service);
-
-                BMap<BString, Object> serviceConfig = Service.getServiceConfigAnnotation(service);
-                ConsumerSubscriptionConfig subscriptionConfig = ConsumerSubscriptionConfig.fromBMap(serviceConfig);
-                subscriptionConfig.validate();
-                boolean isTransacted = (Boolean) listener.getNativeData(NATIVE_TRANSACTED);
-
-                // On a transacted listener, settlement only happens via caller->commit()/rollback() on the shared
-                // transacted session; AUTO_ACK would call message.ackMessage(), which is a no-op on a transacted
-                // flow, so messages would never actually be committed and would redeliver indefinitely.
-                if (isTransacted && subscriptionConfig.ackMode() == AcknowledgementMode.AUTO_ACK) {
-                    return CommonUtils.createError(
-                            "AUTO_ACK is not supported on a transacted listener; message settlement must be driven "
-                                    + "explicitly via caller->commit()/caller->rollback(). Set ackMode: "
-                                    + "solace:CLIENT_ACK on the service configuration.");
-                }
-
-                if (subscriptionConfig instanceof TopicConsumerConfig topicConfig) {
-                    if (isTransacted && !topicConfig.isDurable()) {
-                        return CommonUtils.createError(
-                                "Transacted mode is not supported for direct topic subscriptions. "
-                                + "Use DURABLE endpoint type for guaranteed delivery with transactions.");
-                    }
-                    if (!topicConfig.isDurable() && hasDirectTopicService(listener)) {
-                        return CommonUtils.createError("Only one direct topic service can be attached per listener. "
-                                + "Use a separate listener or a durable topic endpoint.");
-                    }
-                }
+                ServiceConfiguration serviceConfig =
+                        new ServiceConfiguration(Service.getServiceConfigAnnotation(service));
+                serviceConfig.validate();
+                Callable<AttachedService> binding = prepareBinding(listener, service, serviceConfig);
 
-                // Direct topic messages are not guaranteed and carry no acknowledgement, so auto-settle only
-                // applies to flow-based subscriptions (queues and durable topic endpoints).
-                boolean directTopic = subscriptionConfig instanceof TopicConsumerConfig topicConfig
-                        && !topicConfig.isDurable();
-                boolean autoAck = subscriptionConfig.ackMode() == AcknowledgementMode.AUTO_ACK && !directTopic;
-
-                JCSMPSession session = (JCSMPSession) listener.getNativeData(NATIVE_SESSION);
-                TransactedSession txSession = (TransactedSession) listener.getNativeData(NATIVE_TX_SESSION);
-
-                String url = (String) listener.getNativeData(NATIVE_URL);
-                String vpn = (String) listener.getNativeData(NATIVE_VPN);
-                String destinationName = ConsumerUtils.extractDestinationName(subscriptionConfig);
-                String destinationKind = subscriptionConfig instanceof TopicConsumerConfig
-                        ? DESTINATION_KIND_TOPIC : DESTINATION_KIND_QUEUE;
-
-                // Create the Caller supplied to onMessage for explicit ack/nack and transaction control.
-                BObject caller = ValueCreator.createObjectValue(ModuleUtils.getModule(), "Caller");
-                caller.addNativeData(NATIVE_TX_SESSION, txSession);
-                caller.addNativeData(NATIVE_CLOSED, false);
-                caller.addNativeData(NATIVE_URL, url);
-                caller.addNativeData(NATIVE_VPN, vpn);
-                caller.addNativeData(NATIVE_DESTINATION, destinationName);
-                caller.addNativeData(NATIVE_DESTINATION_KIND, destinationKind);
-
-                SolaceMessageListener messageListener = new SolaceMessageListener(runtime, nativeService, caller,
-                        autoAck, url, vpn, destinationName, destinationKind);
-
-                AttachedService attached = createReceiver(session, txSession, isTransacted, subscriptionConfig,
-                        messageListener);
-
-                // Start before registering, so a failed start() closes the receiver instead of leaking it.
+                // Before start(), defer binding so that start() can bind every attached service concurrently.
                 boolean started = (Boolean) listener.getNativeData(NATIVE_STARTED);
-                if (started) {
-                    try {
-                        attached.start();
-                    } catch (Exception e) {
-                        CommonUtils.closeQuietly(attached::close);
-                        throw e;
-                    }
+                if (!started) {
+                    pendingServices(listener).put(service, binding);
+                    trackAutoCommit(listener, service, serviceConfig);
+                    return null;
                 }
-                servicesMap(listener).put(service, attached);
-                return null;
+                Object result = bindAndStart(listener, service, binding, "Failed to attach service");
+                if (result == null) {
+                    trackAutoCommit(listener, service, serviceConfig);
+                }
+                return result;
             }
         } catch (BError e) {
             return e;
@@ -239,7 +229,8 @@ public class ListenerActions {
     }
 
     /**
-     * Detach a service: stop and close its receiver and drop it from the listener.
+     * Detach a service: stop its receiver, let already dispatched messages finish within the listener's
+     * {@code gracefulStopTimeout}, then close the receiver and drop it from the listener.
      *
      * @param listener the Ballerina listener object
      * @param service  the Ballerina service object
@@ -248,9 +239,13 @@ public class ListenerActions {
     public static Object detach(BObject listener, BObject service) {
         try {
             synchronized (attachLock(listener)) {
+                if (pendingServices(listener).remove(service) != null) {
+                    // Never bound, so there is nothing to release.
+                    return null;
+                }
                 AttachedService attached = servicesMap(listener).remove(service);
                 if (attached != null) {
-                    attached.close();
+                    attached.close(gracefulStopTimeout(listener));
                 }
                 return null;
             }
@@ -260,7 +255,106 @@ public class ListenerActions {
     }
 
     /**
-     * Start the listener: begin delivery for all attached services.
+     * Reconfigure an attached service in place. The new receivers are bound next to the running ones, delivery is
+     * switched over to them in one step under the attach lock, and the old lanes then drain within the listener's
+     * {@code gracefulStopTimeout} before the old receivers are closed, so the service is never without a receiver.
+     * <p>
+     * A durable topic endpoint accepts a single flow, so if the new flow cannot be bound next to the old one, the old
+     * flow is closed first and the new one bound in its place. If that fails too, the service is left detached.
+     * Before {@code start()}, only the pending binding is replaced.
+     *
+     * @param listener the Ballerina listener object
+     * @param service  the Ballerina service object
+     * @param config   the new service configuration
+     * @return null on success, BError on failure
+     */
+    public static Object reconfigure(BObject listener, BObject service, BMap<BString, Object> config) {
+        try {
+            synchronized (attachLock(listener)) {
+                if (isClosed(listener)) {
+                    return CommonUtils.createError("Listener is closed");
+                }
+                Map<BObject, Callable<AttachedService>> pending = pendingServices(listener);
+                AttachedService current = servicesMap(listener).get(service);
+                if (current == null && !pending.containsKey(service)) {
+                    return CommonUtils.createError("Service is not attached to this listener");
+                }
+
+                ServiceConfiguration serviceConfig = new ServiceConfiguration(config);
+                serviceConfig.validate();
+                Callable<AttachedService> binding = prepareBinding(listener, service, serviceConfig);
+                if (current == null) {
+                    pending.put(service, binding);
+                    trackAutoCommit(listener, service, serviceConfig);
+                    return null;
+                }
+
+                AttachedService replacement;
+                try {
+                    replacement = binding.call();
+                } catch (Exception e) {
+                    if (!(serviceConfig.subscriptionConfig() instanceof TopicConsumerConfig topicConfig
+                            && topicConfig.isDurable())) {
+                        throw e;
+                    }
+                    servicesMap(listener).remove(service);
+                    current.close(gracefulStopTimeout(listener));
+                    Object result = bindAndStart(listener, service, binding, "Failed to rebind durable topic "
+                            + "endpoint; the service has been detached");
+                    if (result == null) {
+                        trackAutoCommit(listener, service, serviceConfig);
+                    }
+                    return result;
+                }
+                try {
+                    current.stop();
+                    replacement.start();
+                } catch (Exception e) {
+                    CommonUtils.closeQuietly(() -> replacement.close(0));
+                    CommonUtils.closeQuietly(current::start);
+                    throw e;
+                }
+                servicesMap(listener).put(service, replacement);
+                trackAutoCommit(listener, service, serviceConfig);
+                // Delivery has moved to the new receivers; the old lanes finish what they already hold.
+                current.close(gracefulStopTimeout(listener));
+                return null;
+            }
+        } catch (BError e) {
+            return e;
+        } catch (Exception e) {
+            return CommonUtils.createError("Failed to reconfigure service", e);
+        }
+    }
+
+    /**
+     * Binds a service's receivers and starts delivery, registering the service only once it has started so a failed
+     * start closes the receivers instead of leaking them.
+     *
+     * @return null on success, BError carrying {@code failureMessage} on failure
+     */
+    private static Object bindAndStart(BObject listener, BObject service, Callable<AttachedService> binding,
+                                       String failureMessage) {
+        AttachedService attached;
+        try {
+            attached = binding.call();
+        } catch (Exception e) {
+            return CommonUtils.createError(failureMessage, e);
+        }
+        try {
+            attached.start();
+        } catch (Exception e) {
+            CommonUtils.closeQuietly(() -> attached.close(0));
+            return CommonUtils.createError(failureMessage, e);
+        }
+        servicesMap(listener).put(service, attached);
+        return null;
+    }
+
+    /**
+     * Start the listener: bind the receivers of the services attached since the last start, then begin delivery for
+     * them. Both steps run for up to {@link #STARTUP_PARALLELISM} services at a time, and either every one of those
+     * services starts or none does; services that were already running are left untouched.
      *
      * @param listener the Ballerina listener object
      * @return null on success, BError on failure
@@ -271,10 +365,41 @@ public class ListenerActions {
                 if (isClosed(listener)) {
                     return CommonUtils.createError("Listener is closed");
                 }
-                for (AttachedService attached : servicesMap(listener).values()) {
-                    attached.start();
+                long startNanos = System.nanoTime();
+                ExecutorService executor = dispatchExecutor(listener);
+                Map<BObject, Callable<AttachedService>> pending = pendingServices(listener);
+                List<BObject> pendingServices = new ArrayList<>(pending.keySet());
+                List<AttachedService> bound = ParallelStartup.runAll(executor, STARTUP_PARALLELISM,
+                        new ArrayList<>(pending.values()),
+                        attached -> CommonUtils.closeQuietly(() -> attached.close(0)));
+
+                // Services registered by an earlier start() are already delivering; only the new ones are started,
+                // so rolling back a failed start never stops them.
+                List<Callable<AttachedService>> starts = new ArrayList<>(bound.size());
+                for (AttachedService attached : bound) {
+                    starts.add(() -> {
+                        attached.start();
+                        return attached;
+                    });
                 }
+                try {
+                    ParallelStartup.runAll(executor, STARTUP_PARALLELISM, starts,
+                            attached -> CommonUtils.closeQuietly(attached::stop));
+                } catch (Exception e) {
+                    // All-or-nothing: the services stay pending, so a later start() binds them afresh.
+                    for (AttachedService attached : bound) {
+                        CommonUtils.closeQuietly(() -> attached.close(0));
+                    }
+                    throw e;
+                }
+
+                for (int i = 0; i < pendingServices.size(); i++) {
+                    servicesMap(listener).put(pendingServices.get(i), bound.get(i));
+                }
+                pending.clear();
                 listener.addNativeData(NATIVE_STARTED, true);
+                SolaceMetricsUtil.reportListenerStartup(CONTEXT_LISTENER, (String) listener.getNativeData(NATIVE_URL),
+                        (String) listener.getNativeData(NATIVE_VPN), System.nanoTime() - startNanos);
                 return null;
             }
         } catch (Exception e) {
@@ -283,7 +408,8 @@ public class ListenerActions {
     }
 
     /**
-     * Gracefully stop the listener: pause delivery (letting in-flight processing finish) and release all resources.
+     * Gracefully stop the listener: stop delivery to every service, let the messages already dispatched to them finish
+     * within {@code gracefulStopTimeout}, and release all resources.
      *
      * @param listener the Ballerina listener object
      * @return null on success, BError on failure
@@ -305,16 +431,40 @@ public class ListenerActions {
     private static Object stop(BObject listener, boolean graceful) {
         synchronized (attachLock(listener)) {
             Map<BObject, AttachedService> services = servicesMap(listener);
+            List<AttachedService> attachedServices = new ArrayList<>(services.values());
             Exception firstError = null;
-            for (AttachedService attached : services.values()) {
-                if (graceful) {
-                    Exception e = CommonUtils.attemptClose(attached::stop);
-                    firstError = firstError == null ? e : firstError;
-                }
-                Exception e = CommonUtils.attemptClose(attached::close);
+            // Stop every flow first so no service keeps receiving while the others drain.
+            for (AttachedService attached : attachedServices) {
+                Exception e = CommonUtils.attemptClose(attached::stop);
+                firstError = firstError == null ? e : firstError;
+            }
+            for (AttachedService attached : attachedServices) {
+                attached.shutdownLanes();
+            }
+            // The lanes drain concurrently on the shared executor; waiting on each against one deadline bounds the
+            // whole stop by gracefulStopTimeout rather than by the sum of per-service waits.
+            boolean drained = graceful && awaitDrained(attachedServices,
+                    System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(gracefulStopTimeout(listener)));
+            for (AttachedService attached : attachedServices) {
+                Exception e = CommonUtils.attemptClose(() -> attached.release(drained));
                 firstError = firstError == null ? e : firstError;
             }
             services.clear();
+            pendingServices(listener).clear();
+            DirectTopicRouter router = directTopicRouter(listener);
+            if (router != null) {
+                Exception e = CommonUtils.attemptClose(router::close);
+                firstError = firstError == null ? e : firstError;
+            }
+            ReplyPublisher replyPublisher = replyPublisher(listener);
+            if (replyPublisher != null) {
+                replyPublisher.close();
+            }
+            // Every lane has been drained (or abandoned) by close() above, so nothing is left to wait for.
+            ExecutorService dispatchExecutor = dispatchExecutor(listener);
+            if (dispatchExecutor != null) {
+                dispatchExecutor.shutdown();
+            }
 
             TransactedSession txSession = (TransactedSession) listener.getNativeData(NATIVE_TX_SESSION);
             if (txSession != null) {
@@ -338,10 +488,162 @@ public class ListenerActions {
         }
     }
 
+    private static boolean awaitDrained(List<AttachedService> attachedServices, long deadlineNanos) {
+        boolean drained = true;
+        try {
+            for (AttachedService attached : attachedServices) {
+                drained &= attached.awaitDrained(deadlineNanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return drained;
+    }
+
+    /**
+     * Checks a validated service configuration against the listener and prepares everything the service needs to
+     * receive messages, except the receivers themselves.
+     *
+     * @return the step that creates the service's receivers, unstarted
+     * @throws BError if the configuration cannot be used on this listener
+     */
+    private static Callable<AttachedService> prepareBinding(BObject listener, BObject service,
+                                                            ServiceConfiguration serviceConfig) {
+        Runtime runtime = (Runtime) listener.getNativeData(NATIVE_RUNTIME);
+        Service nativeService = new Service(service);
+
+        ConsumerSubscriptionConfig subscriptionConfig = serviceConfig.subscriptionConfig();
+        boolean isTransacted = (Boolean) listener.getNativeData(NATIVE_TRANSACTED);
+
+        // On a transacted listener, settlement only happens through commit/rollback on the shared
+        // transacted session; AUTO_ACK would call message.ackMessage(), which is a no-op on a transacted
+        // flow, so messages would never actually be committed and would redeliver indefinitely - unless the
+        // listener commits on the service's behalf via autoCommit.
+        if (isTransacted && subscriptionConfig.ackMode() == AcknowledgementMode.AUTO_ACK
+                && serviceConfig.autoCommit() == null) {
+            throw CommonUtils.createError(
+                    "AUTO_ACK is not supported on a transacted listener; message settlement must be driven "
+                    + "explicitly via caller->commit()/caller->rollback(), or automatically via "
+                    + "autoCommit. Set ackMode: solace:CLIENT_ACK or configure autoCommit on the "
+                    + "service configuration.");
+        }
+        if (!isTransacted && serviceConfig.autoCommit() != null) {
+            throw CommonUtils.createError("autoCommit is only supported on a transacted listener. "
+                    + "Set transacted = true on the listener configuration.");
+        }
+        // An autoCommit batch commits the listener-wide transacted session, which would also commit whatever the
+        // other services on the listener have received but not yet processed.
+        if (isTransacted) {
+            checkTransactionNotShared(listener, service, serviceConfig.autoCommit() != null);
+        }
+
+        // A skipped duplicate must be acknowledged on its own, which a transacted flow cannot do.
+        if (isTransacted && serviceConfig.deduplication() != null) {
+            throw CommonUtils.createError("deduplication is not supported on a transacted listener");
+        }
+
+        // Expiry is only known when the client calculates it, and an expired message must be settled on its own.
+        ExpiredMessagePolicy expiredPolicy = serviceConfig.expiredMessagePolicy();
+        if (expiredPolicy != ExpiredMessagePolicy.DELIVER) {
+            if (!Boolean.TRUE.equals(listener.getNativeData(NATIVE_CALCULATE_EXPIRATION))) {
+                throw CommonUtils.createError(
+                        "expiredMessagePolicy requires calculateMessageExpiration to be enabled on the listener");
+            }
+            if (isTransacted) {
+                throw CommonUtils.createError("expiredMessagePolicy is not supported on a transacted listener");
+            }
+        }
+
+        // A dead-lettered message is acknowledged on its own once its copy is published.
+        if (isTransacted && serviceConfig.deadLetter() != null) {
+            throw CommonUtils.createError("maxDeliveryAttempts is not supported on a transacted listener");
+        }
+
+        if (subscriptionConfig instanceof TopicConsumerConfig topicConfig && isTransacted
+                && !topicConfig.isDurable()) {
+            throw CommonUtils.createError(
+                    "Transacted mode is not supported for direct topic subscriptions. "
+                    + "Use DURABLE endpoint type for guaranteed delivery with transactions.");
+        }
+
+        // Direct topic messages are not guaranteed and carry no acknowledgement, so auto-settle only
+        // applies to flow-based subscriptions (queues and durable topic endpoints).
+        boolean directTopic = subscriptionConfig instanceof TopicConsumerConfig topicConfig
+                && !topicConfig.isDurable();
+        // On a transacted flow, settlement is the batch commit rather than a per-message ack.
+        boolean autoAck = subscriptionConfig.ackMode() == AcknowledgementMode.AUTO_ACK && !directTopic
+                && !isTransacted;
+        // Neither direct messages nor messages in a transaction can be settled one by one, so a timed-out
+        // direct message is dropped and a transacted one stays in the open transaction.
+        ProcessingTimeoutAction timeoutAction = directTopic || isTransacted
+                ? ProcessingTimeoutAction.LEAVE_UNSETTLED : serviceConfig.processingTimeoutAction();
+
+        JCSMPSession session = (JCSMPSession) listener.getNativeData(NATIVE_SESSION);
+        TransactedSession txSession = (TransactedSession) listener.getNativeData(NATIVE_TX_SESSION);
+
+        String url = (String) listener.getNativeData(NATIVE_URL);
+        String vpn = (String) listener.getNativeData(NATIVE_VPN);
+        String destinationName = ConsumerUtils.extractDestinationName(subscriptionConfig);
+        String destinationKind = subscriptionConfig instanceof TopicConsumerConfig
+                ? DESTINATION_KIND_TOPIC : DESTINATION_KIND_QUEUE;
+
+        // Create the Caller supplied to onMessage for explicit ack/nack and transaction control.
+        BObject caller = ValueCreator.createObjectValue(ModuleUtils.getModule(), "Caller");
+        caller.addNativeData(NATIVE_TX_SESSION, txSession);
+        // Under autoCommit the listener owns the transaction, so the caller may not commit or roll it back.
+        caller.addNativeData(NATIVE_AUTO_COMMIT, serviceConfig.autoCommit() != null);
+        caller.addNativeData(NATIVE_CLOSED, false);
+        caller.addNativeData(NATIVE_URL, url);
+        caller.addNativeData(NATIVE_VPN, vpn);
+        caller.addNativeData(NATIVE_DESTINATION, destinationName);
+        caller.addNativeData(NATIVE_DESTINATION_KIND, destinationKind);
+        DeadLetterRouter deadLetters = serviceConfig.deadLetter() != null
+                ? new DeadLetterRouter(serviceConfig.deadLetter(), replyPublisher(listener)::producer, url, vpn,
+                        destinationName, destinationKind)
+                : null;
+        caller.addNativeData(NATIVE_DEAD_LETTER_ROUTER, deadLetters);
+
+        ExecutorService dispatchExecutor = dispatchExecutor(listener);
+        DuplicateFilter deduplicator = serviceConfig.deduplication() != null
+                ? new DuplicateFilter(serviceConfig.deduplication()) : null;
+        if (deduplicator != null) {
+            SolaceMetricsUtil.reportDeduplicationFootprint(url, vpn, destinationName, destinationKind,
+                    deduplicator.footprintBytes());
+        }
+        boolean conflate = serviceConfig.subscriptionConfig() instanceof TopicConsumerConfig topicConfig
+                && topicConfig.conflate();
+        DirectTopicRouter router = directTopicRouter(listener);
+        // The batcher, breaker and limiter are shut down with the receivers they are bound to, so every binding
+        // attempt gets its own; a service whose start was rolled back is then bound afresh by the next start().
+        return () -> {
+            DispatchCounters counters = new DispatchCounters();
+            TransactionBatcher batcher = serviceConfig.autoCommit() != null
+                    ? new TransactionBatcher(txSession, serviceConfig.autoCommit()) : null;
+            CircuitBreaker breaker = serviceConfig.circuitBreaker() != null
+                    ? new CircuitBreaker(serviceConfig.circuitBreaker(), state ->
+                            SolaceMetricsUtil.reportCircuitBreakerState(url, vpn, destinationName,
+                                    destinationKind, state.name(), state.gaugeValue()))
+                    : null;
+            RateLimiter limiter = serviceConfig.hasMaxRate() ? new RateLimiter(serviceConfig.maxRate()) : null;
+            // One message listener (and so one dispatch lane) per receiver.
+            Supplier<SolaceMessageListener> messageListeners = () -> new SolaceMessageListener(runtime::callMethod,
+                    nativeService, caller, autoAck, url, vpn, destinationName, destinationKind, dispatchExecutor,
+                    counters, batcher, serviceConfig.adaptiveWindow(), serviceConfig.priorityDispatch(), conflate,
+                    breaker, limiter, deduplicator, expiredPolicy, deadLetters,
+                    serviceConfig.processingTimeoutInMsecs(), timeoutAction, replyPublisher(listener));
+            return createReceiver(session, txSession, isTransacted, serviceConfig, messageListeners, batcher,
+                    breaker, limiter, router);
+        };
+    }
+
     private static AttachedService createReceiver(JCSMPSession session, TransactedSession txSession,
-                                                  boolean isTransacted, ConsumerSubscriptionConfig subscriptionConfig,
-                                                  SolaceMessageListener messageListener)
+                                                  boolean isTransacted, ServiceConfiguration serviceConfig,
+                                                  Supplier<SolaceMessageListener> messageListeners,
+                                                  TransactionBatcher batcher, CircuitBreaker breaker,
+                                                  RateLimiter limiter, DirectTopicRouter router)
             throws Exception {
+        ConsumerSubscriptionConfig subscriptionConfig = serviceConfig.subscriptionConfig();
         if (subscriptionConfig instanceof QueueConsumerConfig queueConfig) {
             Queue queue = JCSMPFactory.onlyInstance().createQueue(queueConfig.queueName());
             ConsumerFlowProperties flowProps = new ConsumerFlowProperties();
@@ -350,17 +652,33 @@ public class ListenerActions {
             if (!isTransacted) {
                 flowProps.addRequiredSettlementOutcomes(XMLMessage.Outcome.FAILED, XMLMessage.Outcome.REJECTED);
             }
-            FlowReceiver flow = isTransacted
-                    ? txSession.createFlow(messageListener, flowProps, null)
-                    : session.createFlow(messageListener, flowProps, null);
-            return AttachedService.forFlow(SUBSCRIPTION_TYPE_QUEUE, flow, messageListener);
+            // Each flow gets its own message listener, so with flowCount > 1 the broker spreads a non-exclusive
+            // queue across independent lanes (an exclusive queue keeps the extra flows as hot standbys).
+            List<FlowReceiver> flows = new ArrayList<>(serviceConfig.flowCount());
+            List<SolaceMessageListener> listeners = new ArrayList<>(serviceConfig.flowCount());
+            try {
+                for (int i = 0; i < serviceConfig.flowCount(); i++) {
+                    SolaceMessageListener messageListener = messageListeners.get();
+                    listeners.add(messageListener);
+                    flows.add(isTransacted
+                            ? txSession.createFlow(messageListener, flowProps, null)
+                            : session.createFlow(messageListener, flowProps, null));
+                }
+            } catch (Exception e) {
+                for (FlowReceiver flow : flows) {
+                    CommonUtils.closeQuietly(flow::close);
+                }
+                listeners.forEach(SolaceMessageListener::shutdown);
+                throw e;
+            }
+            return AttachedService.forFlows(SUBSCRIPTION_TYPE_QUEUE, flows, listeners, batcher, breaker, limiter);
         }
 
         TopicConsumerConfig topicConfig = (TopicConsumerConfig) subscriptionConfig;
         if (topicConfig.isDurable()) {
             DurableTopicEndpoint endpoint =
                     JCSMPFactory.onlyInstance().createDurableTopicEndpoint(topicConfig.endpointName());
-            Topic topic = JCSMPFactory.onlyInstance().createTopic(topicConfig.topicName());
+            Topic topic = JCSMPFactory.onlyInstance().createTopic(topicConfig.topicNames().get(0));
             session.provision(endpoint, new EndpointProperties(), JCSMPSession.FLAG_IGNORE_ALREADY_EXISTS);
 
             ConsumerFlowProperties flowProps = new ConsumerFlowProperties();
@@ -370,31 +688,59 @@ public class ListenerActions {
             if (!isTransacted) {
                 flowProps.addRequiredSettlementOutcomes(XMLMessage.Outcome.FAILED, XMLMessage.Outcome.REJECTED);
             }
+            SolaceMessageListener messageListener = messageListeners.get();
             FlowReceiver flow = isTransacted
                     ? txSession.createFlow(messageListener, flowProps, null)
                     : session.createFlow(messageListener, flowProps, null);
-            return AttachedService.forFlow(SUBSCRIPTION_TYPE_DURABLE_TOPIC, flow, messageListener);
+            return AttachedService.forFlows(SUBSCRIPTION_TYPE_DURABLE_TOPIC, List.of(flow), List.of(messageListener),
+                    batcher, breaker, limiter);
         }
 
-        // Direct topic: asynchronous XMLMessageConsumer bound to the session.
-        Topic topic = JCSMPFactory.onlyInstance().createTopic(topicConfig.topicName());
-        XMLMessageConsumer consumer = session.getMessageConsumer(messageListener);
-        try {
-            session.addSubscription(topic);
-        } catch (Exception e) {
-            CommonUtils.closeQuietly(consumer::close);
-            throw e;
+        // Direct topic: subscriptions on the session's shared consumer, routed to this service by topic.
+        SolaceMessageListener messageListener = messageListeners.get();
+        router.subscribe(topicConfig.topicNames());
+        return AttachedService.forDirectTopic(router, topicConfig.topicNames(), messageListener);
+    }
+
+    /**
+     * Rejects a service that would share the listener's transacted session with an autoCommit service, since an
+     * automatic commit settles every service's messages at once. {@code service} itself is excluded so that it can be
+     * reconfigured.
+     *
+     * @throws BError if the transaction would be shared with an autoCommit service
+     */
+    private static void checkTransactionNotShared(BObject listener, BObject service, boolean autoCommit) {
+        Object owner = listener.getNativeData(NATIVE_AUTO_COMMIT_SERVICE);
+        if (owner != null && owner != service && isAttached(listener, (BObject) owner)) {
+            throw CommonUtils.createError("Another service on this transacted listener uses autoCommit, which "
+                    + "commits the listener's transaction for every service. Attach this service to a listener "
+                    + "of its own.");
+        }
+        if (autoCommit && (hasOtherService(servicesMap(listener).keySet(), service)
+                || hasOtherService(pendingServices(listener).keySet(), service))) {
+            throw CommonUtils.createError("autoCommit commits the listener's transaction for every service, so it "
+                    + "requires a transacted listener of its own. Attach this service to a separate listener.");
         }
-        return AttachedService.forDirectTopic(consumer, topic, session, messageListener);
     }
 
-    private static boolean hasDirectTopicService(BObject listener) {
-        for (AttachedService attached : servicesMap(listener).values()) {
-            if (SUBSCRIPTION_TYPE_DIRECT_TOPIC.equals(attached.subscriptionType())) {
-                return true;
-            }
+    private static boolean hasOtherService(Set<BObject> services, BObject service) {
+        return services.size() > (services.contains(service) ? 1 : 0);
+    }
+
+    private static boolean isAttached(BObject listener, BObject service) {
+        return servicesMap(listener).containsKey(service) || pendingServices(listener).containsKey(service);
+    }
+
+    /**
+     * Records which service, if any, commits the listener's transaction through autoCommit. Called once the service
+     * is attached with {@code serviceConfig}; a stale record for a service that is no longer attached is ignored.
+     */
+    private static void trackAutoCommit(BObject listener, BObject service, ServiceConfiguration serviceConfig) {
+        if (serviceConfig.autoCommit() != null) {
+            listener.addNativeData(NATIVE_AUTO_COMMIT_SERVICE, service);
+        } else if (listener.getNativeData(NATIVE_AUTO_COMMIT_SERVICE) == service) {
+            listener.addNativeData(NATIVE_AUTO_COMMIT_SERVICE, null);
         }
-        return false;
     }
 
     @SuppressWarnings("unchecked")
@@ -402,6 +748,27 @@ public class ListenerActions {
         return (Map<BObject, AttachedService>) listener.getNativeData(NATIVE_SERVICES);
     }
 
+    @SuppressWarnings("unchecked")
+    private static Map<BObject, Callable<AttachedService>> pendingServices(BObject listener) {
+        return (Map<BObject, Callable<AttachedService>>) listener.getNativeData(NATIVE_PENDING_SERVICES);
+    }
+
+    private static DirectTopicRouter directTopicRouter(BObject listener) {
+        return (DirectTopicRouter) listener.getNativeData(NATIVE_DIRECT_TOPIC_ROUTER);
+    }
+
+    private static ReplyPublisher replyPublisher(BObject listener) {
+        return (ReplyPublisher) listener.getNativeData(NATIVE_REPLY_PUBLISHER);
+    }
+
+    private static long gracefulStopTimeout(BObject listener) {
+        return (Long) listener.getNativeData(NATIVE_GRACEFUL_STOP_TIMEOUT);
+    }
+
+    private static ExecutorService dispatchExecutor(BObject listener) {
+        return (ExecutorService) listener.getNativeData(NATIVE_DISPATCH_EXECUTOR);
+    }
+
     private static Object attachLock(BObject listener) {
         return listener.getNativeData(NATIVE_ATTACH_LOCK);
     }
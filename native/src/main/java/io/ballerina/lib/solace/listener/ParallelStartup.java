@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Runs the per-service steps of a listener's startup, such as binding flows and starting them, for many services at
+ * once. Each step is dominated by a broker round trip, so running them concurrently turns startup time from the sum
+ * of the round trips into roughly their maximum.
+ * <p>
+ * At most {@code parallelism} steps run at a time, so a listener with many services does not flood the broker with
+ * flow binds. A batch is all-or-nothing: once a step fails no further steps are begun, the steps that succeeded are
+ * undone, and the first failure is thrown.
+ */
+final class ParallelStartup {
+
+    private ParallelStartup() {
+    }
+
+    /**
+     * Runs every task and returns their results in task order.
+     *
+     * @param executor    runs the tasks; its threads may block on the broker
+     * @param parallelism the most tasks to run at a time
+     * @param tasks       the steps to run
+     * @param undo        reverts the result of a step that succeeded, when another step failed
+     * @return the result of every task, in the order of {@code tasks}
+     * @throws Exception the first failure, after the successful steps have been undone
+     */
+    static <T> List<T> runAll(Executor executor, int parallelism, List<Callable<T>> tasks, Consumer<T> undo)
+            throws Exception {
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<T>> steps = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<T> task : tasks) {
+                permits.acquire();
+                if (failed.get()) {
+                    permits.release();
+                    break;
+                }
+                CompletableFuture<T> step = new CompletableFuture<>();
+                steps.add(step);
+                try {
+                    executor.execute(() -> {
+                        try {
+                            step.complete(task.call());
+                        } catch (Throwable t) {
+                            failed.set(true);
+                            step.completeExceptionally(t);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    permits.release();
+                    failed.set(true);
+                    step.completeExceptionally(e);
+                }
+            }
+        } catch (InterruptedException e) {
+            // Stop submitting; the steps already begun are collected and undone below.
+            Thread.currentThread().interrupt();
+            failed.set(true);
+        }
+
+        List<T> results = new ArrayList<>(steps.size());
+        Throwable failure = null;
+        for (CompletableFuture<T> step : steps) {
+            try {
+                results.add(step.join());
+            } catch (CompletionException e) {
+                failure = failure == null ? e.getCause() : failure;
+            }
+        }
+        if (failure == null && failed.get()) {
+            failure = new InterruptedException("Interrupted while starting services");
+        }
+        if (failure != null) {
+            results.forEach(undo);
+            throw failure instanceof Exception exception ? exception : new Exception(failure);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import com.solacesystems.jcsmp.JCSMPException;
+import io.ballerina.lib.solace.config.PriorityDispatchConfig;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Orders the messages waiting for one flow's lane by priority instead of arrival.
+ * <p>
+ * Messages wait in one FIFO bucket per priority level, indexed by the level, with a bitmap of the non-empty levels,
+ * so the highest waiting priority is found by scanning four words rather than by maintaining a heap. A message
+ * without a priority waits at the broker's default level. To keep a steady stream of urgent messages from starving
+ * the rest, every message is also linked in arrival order; once the oldest one has waited {@code maxWait}, it is
+ * dispatched next regardless of its priority.
+ * <p>
+ * Whenever the queue holds {@code capacity} messages, the flow is paused; it resumes once the queue drains to half of
+ * that, leaving the excess with the broker.
+ */
+final class PriorityDispatchQueue {
+
+    static final int LEVELS = 256;
+    static final int DEFAULT_PRIORITY = 4;
+
+    private final int capacity;
+    private final long maxWaitNanos;
+    private final LongSupplier clock;
+    private final ArrayDeque<Entry>[] buckets;
+    private final long[] occupied = new long[LEVELS / Long.SIZE];
+    private final ArrayDeque<Entry> arrivals = new ArrayDeque<>();
+    private int size;
+    private volatile FlowGate gate;
+
+    PriorityDispatchQueue(PriorityDispatchConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    PriorityDispatchQueue(PriorityDispatchConfig config, LongSupplier clock) {
+        this.capacity = config.capacity();
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(config.maxWaitInMsecs());
+        this.clock = clock;
+        // A generic array cannot be created directly; the buckets only ever hold entries.
+        @SuppressWarnings("unchecked")
+        ArrayDeque<Entry>[] levels = (ArrayDeque<Entry>[]) new ArrayDeque<?>[LEVELS];
+        this.buckets = levels;
+    }
+
+    /**
+     * Binds the queue to the flow it holds messages for, once the flow has been created.
+     */
+    void bind(FlowGate gate) {
+        this.gate = gate;
+    }
+
+    /**
+     * Queues a message task at its priority.
+     *
+     * @param priority the message priority, or a negative value if the message has none
+     */
+    synchronized void offer(Runnable task, int priority) {
+        int level = priority < 0 ? DEFAULT_PRIORITY : Math.min(priority, LEVELS - 1);
+        Entry entry = new Entry(task, level, clock.getAsLong());
+        ArrayDeque<Entry> bucket = buckets[level];
+        if (bucket == null) {
+            bucket = new ArrayDeque<>();
+            buckets[level] = bucket;
+        }
+        bucket.addLast(entry);
+        occupied[level >>> 6] |= 1L << (level & 63);
+        arrivals.addLast(entry);
+        size++;
+    }
+
+    /**
+     * Takes the next message task: the oldest one if it has waited {@code maxWait}, else the oldest one of the
+     * highest waiting priority.
+     *
+     * @return the task, or null if the queue is empty
+     */
+    synchronized Runnable poll() {
+        if (size == 0) {
+            return null;
+        }
+        Entry oldest = oldestWaiting();
+        // The oldest message of all is also the head of its own bucket.
+        Entry entry = clock.getAsLong() - oldest.enqueuedNanos >= maxWaitNanos
+                ? oldest : buckets[highestLevel()].peekFirst();
+        take(entry);
+        return entry.task;
+    }
+
+    /**
+     * Pauses the flow if the queue is full, or resumes it once enough room has been freed. Called after every
+     * {@link #offer} and {@link #poll}.
+     */
+    void reevaluate() throws JCSMPException {
+        FlowGate current = gate;
+        if (current != null) {
+            current.evaluate(FlowGate.PAUSE_PRIORITY_QUEUE, this::shouldPause);
+        }
+    }
+
+    /**
+     * Drops every waiting message, for a lane that is being shut down. The flow stays as it is, since it is about to
+     * be closed.
+     */
+    synchronized void clear() {
+        for (int level = 0; level < LEVELS; level++) {
+            if (buckets[level] != null) {
+                buckets[level].clear();
+            }
+        }
+        Arrays.fill(occupied, 0);
+        arrivals.clear();
+        size = 0;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Whether the flow should be paused, given whether it currently is.
+     */
+    synchronized boolean shouldPause(boolean paused) {
+        return paused ? size > capacity / 2 : size >= capacity;
+    }
+
+    private Entry oldestWaiting() {
+        // Entries taken by priority stay in the arrival list until they reach its head.
+        Entry head = arrivals.peekFirst();
+        while (head.taken) {
+            arrivals.pollFirst();
+            head = arrivals.peekFirst();
+        }
+        return head;
+    }
+
+    private int highestLevel() {
+        for (int word = occupied.length - 1; word >= 0; word--) {
+            if (occupied[word] != 0) {
+                return word * Long.SIZE + (Long.SIZE - 1 - Long.numberOfLeadingZeros(occupied[word]));
+            }
+        }
+        throw new IllegalStateException("No priority level is occupied");
+    }
+
+    private void take(Entry entry) {
+        ArrayDeque<Entry> bucket = buckets[entry.level];
+        bucket.pollFirst();
+        if (bucket.isEmpty()) {
+            occupied[entry.level >>> 6] &= ~(1L << (entry.level & 63));
+        }
+        entry.taken = true;
+        size--;
+    }
+
+    private static final class Entry {
+        private final Runnable task;
+        private final int level;
+        private final long enqueuedNanos;
+        private boolean taken;
+
+        private Entry(Runnable task, int level, long enqueuedNanos) {
+            this.task = task;
+            this.level = level;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import io.ballerina.lib.solace.common.CommonUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_RECEIVE;
+
+/**
+ * Token bucket that holds a service's intake to {@code maxRate} messages per second.
+ * <p>
+ * The bucket refills continuously at the rate and holds at most one second's worth of tokens (and at least one), so
+ * an idle service may take a short burst. Every lane takes a token before dispatching a message. When the bucket is
+ * dry, the message waits for the token it was granted, and the service's flows are paused until the bucket has
+ * refilled, so the backlog stays with the broker instead of piling up in the lanes; only the messages already handed
+ * over when the flows were paused wait in memory.
+ */
+final class RateLimiter {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double tokensPerNano;
+    private final double burst;
+    private final LongSupplier clock;
+    private final CircuitBreaker.Scheduler scheduler;
+    private List<FlowGate> gates = List.of();
+    private List<SolaceMessageListener> lanes = List.of();
+    private double tokens;
+    private long refilledAt;
+    private boolean paused;
+    private boolean closed;
+
+    RateLimiter(double maxRate) {
+        this(maxRate, System::nanoTime, (task, delayMillis) ->
+                CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS).execute(task));
+    }
+
+    RateLimiter(double maxRate, LongSupplier clock, CircuitBreaker.Scheduler scheduler) {
+        this.tokensPerNano = maxRate / NANOS_PER_SECOND;
+        this.burst = Math.max(1, maxRate);
+        this.clock = clock;
+        this.scheduler = scheduler;
+        this.tokens = burst;
+        this.refilledAt = clock.getAsLong();
+    }
+
+    /**
+     * Binds the limiter to the flows it pauses and the lanes it reports errors on, once they have been created.
+     */
+    synchronized void bind(List<FlowGate> gates, List<SolaceMessageListener> lanes) {
+        this.gates = List.copyOf(gates);
+        this.lanes = List.copyOf(lanes);
+    }
+
+    /**
+     * Takes a token for one message. If none is left the token is borrowed from the refill, so callers are served in
+     * the order they asked, and the flows are paused until the bucket has a token again.
+     *
+     * @return how long, in nanoseconds, the caller must wait before dispatching the message
+     */
+    synchronized long acquire() {
+        refill();
+        tokens--;
+        if (tokens >= 1) {
+            return 0;
+        }
+        if (!paused && !closed) {
+            paused = true;
+            for (FlowGate gate : gates) {
+                // Pausing only stops the flow, which does not fail in practice.
+                CommonUtils.closeQuietly(() -> gate.pause(FlowGate.PAUSE_RATE_LIMIT));
+            }
+            scheduleResume();
+        }
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+
+    /**
+     * Stops the limiter when the service is released, so a pending resume does not restart closed flows.
+     */
+    synchronized void shutdown() {
+        closed = true;
+    }
+
+    synchronized boolean isPaused() {
+        return paused;
+    }
+
+    private void refill() {
+        long now = clock.getAsLong();
+        tokens = Math.min(burst, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+    }
+
+    private void scheduleResume() {
+        long delayNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+        scheduler.schedule(this::resume, Math.max(1, TimeUnit.NANOSECONDS.toMillis(delayNanos)));
+    }
+
+    private synchronized void resume() {
+        if (closed) {
+            return;
+        }
+        refill();
+        if (tokens < 1) {
+            // Messages that were already waiting took the refill; give the bucket more time.
+            scheduleResume();
+            return;
+        }
+        paused = false;
+        for (FlowGate gate : gates) {
+            try {
+                gate.resume(FlowGate.PAUSE_RATE_LIMIT);
+            } catch (Exception e) {
+                if (!lanes.isEmpty()) {
+                    lanes.get(0).reportError(CommonUtils.createError("Failed to resume flow after rate limit pause",
+                            e), ERROR_TYPE_RECEIVE);
+                }
+            }
+        }
+    }
+}
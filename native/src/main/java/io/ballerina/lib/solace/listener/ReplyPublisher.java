@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.JCSMPSession;
+import com.solacesystems.jcsmp.ProducerFlowProperties;
+import com.solacesystems.jcsmp.XMLMessage;
+import com.solacesystems.jcsmp.XMLMessageProducer;
+import com.solacesystems.jcsmp.transaction.TransactedSession;
+import io.ballerina.lib.solace.ModuleUtils;
+import io.ballerina.lib.solace.common.CommonUtils;
+import io.ballerina.lib.solace.producer.MessageConverter;
+import io.ballerina.lib.solace.producer.PublishEventHandler;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
+
+import static io.ballerina.lib.solace.common.MessageFieldConstants.PAYLOAD_KEY;
+
+/**
+ * Publishes the value returned by a service's {@code onMessage} as the reply to the request it received.
+ * <p>
+ * Replies go out on the listener's own session, so a request-reply service needs no producer connection of its own.
+ * The session's producer is created on the first reply and shared by every service on the listener. On a transacted
+ * listener the reply is sent within the transacted session, so it is committed or rolled back together with the
+ * request. JCSMP's {@code sendReply} addresses the reply to the request's {@code replyTo} and copies its correlation
+ * ID. The same producer publishes the messages the listener's services dead-letter.
+ * <p>
+ * A returned {@code solace:Message} is sent as given. Any other value becomes the payload of a reply sent with the
+ * request's delivery mode: strings, byte arrays and maps map to text, bytes and map messages as they do when
+ * publishing, and any other value is sent as its JSON text.
+ */
+final class ReplyPublisher {
+
+    private final JCSMPSession session;
+    private final TransactedSession txSession;
+    private final String url;
+    private final String vpn;
+    private XMLMessageProducer sessionProducer;
+    private XMLMessageProducer producer;
+    private boolean closed;
+
+    ReplyPublisher(JCSMPSession session, TransactedSession txSession, String url, String vpn) {
+        this.session = session;
+        this.txSession = txSession;
+        this.url = url;
+        this.vpn = vpn;
+    }
+
+    /**
+     * Sends a service's return value as the reply to a request.
+     *
+     * @param request the request message received by the service
+     * @param result  the non-nil, non-error value returned by {@code onMessage}
+     * @throws IllegalArgumentException if the request has no {@code replyTo} destination
+     */
+    void reply(XMLMessage request, Object result) throws Exception {
+        if (request.getReplyTo() == null) {
+            throw new IllegalArgumentException(
+                    "onMessage returned a reply, but the request has no replyTo destination");
+        }
+        XMLMessageProducer replyProducer = producer();
+        XMLMessage reply;
+        if (isMessage(result)) {
+            @SuppressWarnings("unchecked")
+            BMap<BString, Object> message = (BMap<BString, Object>) result;
+            reply = MessageConverter.toJCSMPMessage(replyProducer, message);
+        } else {
+            BMap<BString, Object> message = ValueCreator.createRecordValue(ModuleUtils.getModule(), "Message");
+            message.put(PAYLOAD_KEY, toPayload(result));
+            reply = MessageConverter.toJCSMPMessage(replyProducer, message);
+            reply.setDeliveryMode(request.getDeliveryMode());
+        }
+        replyProducer.sendReply(request, reply);
+    }
+
+    synchronized XMLMessageProducer producer() throws JCSMPException {
+        if (closed) {
+            throw new IllegalStateException("Listener is stopped");
+        }
+        if (producer == null) {
+            PublishEventHandler handler = new PublishEventHandler(url, vpn);
+            // A transacted producer needs the base session's producer to exist first.
+            sessionProducer = session.getMessageProducer(handler);
+            producer = txSession != null
+                    ? txSession.createProducer(new ProducerFlowProperties(), handler) : sessionProducer;
+        }
+        return producer;
+    }
+
+    /**
+     * A record with a {@code payload} field is a {@code solace:Message}, or a subtype of it, rather than a payload.
+     */
+    private static boolean isMessage(Object result) {
+        return result instanceof BMap<?, ?> map
+                && TypeUtils.getImpliedType(map.getType()) instanceof RecordType recordType
+                && recordType.getFields().containsKey(PAYLOAD_KEY.getValue());
+    }
+
+    private static Object toPayload(Object result) {
+        if (result instanceof BString || result instanceof BMap<?, ?>) {
+            return result;
+        }
+        if (result instanceof BArray array
+                && TypeUtils.getImpliedType(array.getElementType()).getTag() == TypeTags.BYTE_TAG) {
+            return result;
+        }
+        if (result instanceof BXml xml) {
+            return StringUtils.fromString(xml.toString());
+        }
+        return StringUtils.fromString(StringUtils.getJsonString(result));
+    }
+
+    /**
+     * Closes the reply producer, if one was created. Called when the listener stops.
+     */
+    synchronized void close() {
+        closed = true;
+        if (producer != null && producer != sessionProducer) {
+            CommonUtils.closeQuietly(producer::close);
+        }
+        if (sessionProducer != null) {
+            CommonUtils.closeQuietly(sessionProducer::close);
+        }
+        producer = null;
+        sessionProducer = null;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import java.io.PrintStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A per-service serial lane layered over an executor shared by every service on a listener.
+ * <p>
+ * Tasks run one at a time in submission order, preserving per-flow message ordering, but no thread is owned by the
+ * lane: while it has work, a single drain task runs on the shared executor and returns once the queue is empty, so
+ * the listener's thread count does not grow with the number of attached services. A drain yields back to the shared
+ * executor after {@link #MAX_BATCH} tasks so a busy service cannot monopolise a bounded pool.
+ * <p>
+ * Queue depth and running tasks are tracked both per lane and in the {@link DispatchCounters} shared by the lanes of
+ * one service.
+ */
+final class SerialDispatcher implements Executor {
+
+    static final int MAX_BATCH = 64;
+
+    private static final PrintStream ERR_OUT = System.err;
+
+    private final Executor executor;
+    private final DispatchCounters counters;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private volatile boolean shutdown;
+    private volatile Thread runner;
+
+    SerialDispatcher(Executor executor, DispatchCounters counters) {
+        this.executor = executor;
+        this.counters = counters;
+    }
+
+    /**
+     * Queues a task on this lane.
+     *
+     * @throws RejectedExecutionException if the lane has been shut down or the shared executor rejects the drain
+     */
+    @Override
+    public void execute(Runnable task) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Dispatcher is shut down");
+        }
+        pending.incrementAndGet();
+        counters.enqueued();
+        tasks.add(task);
+        schedule();
+    }
+
+    private void schedule() {
+        if (!scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+            discardQueued();
+            signalIfIdle();
+            throw e;
+        }
+    }
+
+    private void drain() {
+        runner = Thread.currentThread();
+        try {
+            for (int i = 0; i < MAX_BATCH; i++) {
+                Runnable task = tasks.poll();
+                if (task == null) {
+                    break;
+                }
+                pending.decrementAndGet();
+                counters.started();
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    // Tasks report their own failures; never let one take down the lane.
+                    ERR_OUT.println("Unexpected error in Solace listener dispatch: " + t);
+                } finally {
+                    counters.finished();
+                }
+            }
+        } finally {
+            runner = null;
+            scheduled.set(false);
+        }
+        if (!tasks.isEmpty()) {
+            try {
+                schedule();
+            } catch (RejectedExecutionException ignored) {
+                // The shared executor is shutting down; the remaining tasks were dropped by schedule().
+            }
+            return;
+        }
+        signalIfIdle();
+    }
+
+    private void signalIfIdle() {
+        if (shutdown && !scheduled.get() && tasks.isEmpty()) {
+            terminated.countDown();
+        }
+    }
+
+    /**
+     * Stops accepting new tasks. Already queued tasks still run.
+     */
+    void shutdown() {
+        shutdown = true;
+        signalIfIdle();
+    }
+
+    /**
+     * Stops accepting new tasks, discards queued ones and interrupts the running task, if any.
+     *
+     * @return the number of queued tasks that were discarded
+     */
+    int shutdownNow() {
+        shutdown = true;
+        int dropped = discardQueued();
+        Thread current = runner;
+        if (current != null) {
+            current.interrupt();
+        }
+        signalIfIdle();
+        return dropped;
+    }
+
+    /**
+     * Waits for a shut-down lane to finish its queued tasks.
+     *
+     * @return true if the lane terminated, false if the timeout elapsed first
+     */
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    private int discardQueued() {
+        int dropped = 0;
+        while (tasks.poll() != null) {
+            dropped++;
+        }
+        pending.addAndGet(-dropped);
+        counters.discarded(dropped);
+        return dropped;
+    }
+
+    /**
+     * Returns the number of tasks waiting in this lane, excluding the one running.
+     */
+    int size() {
+        return pending.get();
+    }
+
+    boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+}
@@ -19,35 +19,45 @@
 package io.ballerina.lib.solace.listener;
 
 import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.DeliveryMode;
 import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.XMLMessage;
 import com.solacesystems.jcsmp.XMLMessageListener;
 import io.ballerina.lib.solace.common.BallerinaSolaceDatabindingException;
 import io.ballerina.lib.solace.common.CommonUtils;
+import io.ballerina.lib.solace.common.DeadLetterRouter;
+import io.ballerina.lib.solace.common.DuplicateFilter;
+import io.ballerina.lib.solace.common.TopicConflator;
+import io.ballerina.lib.solace.config.AdaptiveWindowConfig;
+import io.ballerina.lib.solace.config.ExpiredMessagePolicy;
+import io.ballerina.lib.solace.config.PriorityDispatchConfig;
+import io.ballerina.lib.solace.config.ProcessingTimeoutAction;
+import io.ballerina.lib.solace.config.ServiceConfiguration;
 import io.ballerina.lib.solace.consumer.MessageConverter;
 import io.ballerina.lib.solace.observability.SolaceMetricsUtil;
-import io.ballerina.lib.solace.observability.SolaceObserverContext;
 import io.ballerina.lib.solace.observability.SolaceTracingUtil;
-import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
-import io.ballerina.runtime.observability.ObservabilityConstants;
 import io.ballerina.runtime.observability.ObserveUtils;
 
 import java.io.PrintStream;
-import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
-import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.CONTEXT_CONSUMER;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_ACKNOWLEDGE;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_DISPATCH;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_NACK;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_PUBLISH;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_RECEIVE;
 
 /**
@@ -57,8 +67,34 @@ import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants
  * blocking that thread - which JCSMP also uses to process control responses such as transacted commits and to drive
  * redelivery - the message is converted to a Ballerina record on the delivery thread (so its payload is copied before
  * the buffer can be reused) and the service invocation plus any settlement (ack / nack / commit / rollback) are handed
- * off to a dedicated single-threaded executor. The single thread preserves per-flow message ordering while keeping the
- * delivery thread free.
+ * off to this service's {@link SerialDispatcher} lane. The lane runs on the executor shared by every service on the
+ * listener and executes one task at a time, preserving per-flow message ordering while keeping the delivery thread
+ * free. With an {@link AdaptiveWindow}, the flow is paused whenever the lane holds as many messages as the window
+ * allows.
+ * <p>
+ * With priority dispatch, delivered messages wait in a {@link PriorityDispatchQueue} instead, and each lane task
+ * takes whichever message is due next, so the lane keeps its ordering with respect to other tasks (such as
+ * transaction barriers) while messages overtake each other by priority.
+ * <p>
+ * With conflation, delivered messages wait in a {@link TopicConflator} keyed by topic instead. A message arriving
+ * while an older one of its topic still waits replaces it without queueing another lane task, so when the lane gets to
+ * a topic it delivers only that topic's newest message.
+ * <p>
+ * With a {@link RateLimiter}, the lane takes a token before each message and waits for it when the service is over
+ * its rate, while the limiter pauses the service's flows.
+ * <p>
+ * With a processing timeout, {@code onMessage} runs on a virtual thread of its own while the lane waits for it. A
+ * Ballerina strand cannot be interrupted, so an invocation that overruns is abandoned rather than cancelled: the lane
+ * settles the message according to the service's {@link ProcessingTimeoutAction}, treats the invocation as failed and
+ * moves on. The abandoned invocation keeps running, but its result is ignored and its attempts to settle the message
+ * through the caller are refused.
+ * <p>
+ * A value returned by {@code onMessage} other than nil or an error is published as the reply to the message by the
+ * listener's {@link ReplyPublisher}.
+ * <p>
+ * With a {@link DeadLetterRouter} in AUTO_ACK mode, a message whose {@code onMessage} fails is settled as FAILED so
+ * the broker redelivers it, until its final delivery attempt fails and it is dead-lettered instead. In CLIENT_ACK
+ * mode the same happens when the service NACKs the message for redelivery through its caller.
  */
 final class SolaceMessageListener implements XMLMessageListener {
 
@@ -66,7 +102,16 @@ final class SolaceMessageListener implements XMLMessageListener {
     private static final String ON_ERROR = "onError";
     private static final PrintStream ERR_OUT = System.err;
 
-    private final Runtime runtime;
+    /**
+     * Calls a method of the attached service. The listener is given the runtime's {@code callMethod}, so the dispatch
+     * path does not otherwise depend on a running Ballerina runtime.
+     */
+    @FunctionalInterface
+    interface MethodCaller {
+        Object call(BObject service, String method, StrandMetadata metadata, Object... args);
+    }
+
+    private final MethodCaller methodCaller;
     private final Service nativeService;
     private final BObject caller;
     private final boolean autoAck;
@@ -74,11 +119,32 @@ final class SolaceMessageListener implements XMLMessageListener {
     private final String vpn;
     private final String destination;
     private final String destinationKind;
-    private final ExecutorService dispatcher;
+    private final SerialDispatcher dispatcher;
+    private final DispatchCounters counters;
+    private final TransactionBatcher batcher;
+    private final AdaptiveWindow window;
+    private final PriorityDispatchQueue priorityQueue;
+    private final TopicConflator<Runnable> conflator;
+    private final CircuitBreaker breaker;
+    private final RateLimiter limiter;
+    private final DuplicateFilter deduplicator;
+    private final ExpiredMessagePolicy expiredPolicy;
+    private final DeadLetterRouter deadLetters;
+    private final long processingTimeoutInMsecs;
+    private final boolean hasProcessingTimeout;
+    private final ProcessingTimeoutAction timeoutAction;
+    private final ReplyPublisher replies;
+    private final DispatchMetadata dispatchMetadata;
 
-    SolaceMessageListener(Runtime runtime, Service nativeService, BObject caller, boolean autoAck, String url,
-                          String vpn, String destination, String destinationKind) {
-        this.runtime = runtime;
+    SolaceMessageListener(MethodCaller methodCaller, Service nativeService, BObject caller, boolean autoAck, String url,
+                          String vpn, String destination, String destinationKind, Executor dispatchExecutor,
+                          DispatchCounters counters, TransactionBatcher batcher,
+                          AdaptiveWindowConfig adaptiveWindow, PriorityDispatchConfig priorityDispatch,
+                          boolean conflate, CircuitBreaker breaker, RateLimiter limiter, DuplicateFilter deduplicator,
+                          ExpiredMessagePolicy expiredPolicy, DeadLetterRouter deadLetters,
+                          long processingTimeoutInMsecs, ProcessingTimeoutAction timeoutAction,
+                          ReplyPublisher replies) {
+        this.methodCaller = methodCaller;
         this.nativeService = nativeService;
         this.caller = caller;
         this.autoAck = autoAck;
@@ -86,15 +152,49 @@ final class SolaceMessageListener implements XMLMessageListener {
         this.vpn = vpn;
         this.destination = destination;
         this.destinationKind = destinationKind;
-        this.dispatcher = Executors.newSingleThreadExecutor(runnable -> {
-            Thread thread = new Thread(runnable, "solace-listener-dispatch");
-            thread.setDaemon(true);
-            return thread;
-        });
+        this.dispatcher = new SerialDispatcher(dispatchExecutor, counters);
+        this.counters = counters;
+        this.batcher = batcher;
+        this.window = adaptiveWindow != null ? new AdaptiveWindow(adaptiveWindow) : null;
+        this.priorityQueue = priorityDispatch != null ? new PriorityDispatchQueue(priorityDispatch) : null;
+        this.conflator = conflate ? new TopicConflator<>() : null;
+        this.breaker = breaker;
+        this.limiter = limiter;
+        this.deduplicator = deduplicator;
+        this.expiredPolicy = expiredPolicy;
+        this.deadLetters = deadLetters;
+        this.processingTimeoutInMsecs = processingTimeoutInMsecs;
+        this.hasProcessingTimeout = processingTimeoutInMsecs != ServiceConfiguration.NO_PROCESSING_TIMEOUT;
+        this.timeoutAction = timeoutAction;
+        this.replies = replies;
+        this.dispatchMetadata = new DispatchMetadata(nativeService.isOnMessageMethodIsolated(),
+                nativeService.isOnErrorMethodIsolated(), ObserveUtils.isTracingEnabled(), url, vpn, destination,
+                destinationKind);
+    }
+
+    /**
+     * Binds this listener's adaptive window and priority queue, if any, to the flow that delivers to it.
+     */
+    void bindFlow(FlowGate gate) {
+        if (window != null) {
+            window.bind(gate);
+        }
+        if (priorityQueue != null) {
+            priorityQueue.bind(gate);
+        }
     }
 
     @Override
     public void onReceive(BytesXMLMessage message) {
+        if (expiredPolicy != ExpiredMessagePolicy.DELIVER
+                && ExpiredMessagePolicy.isExpired(message.getExpiration(), System.currentTimeMillis())) {
+            skipExpired(message);
+            return;
+        }
+        if (deduplicator != null && deduplicator.isDuplicate(message.getApplicationMessageId())) {
+            skipDuplicate(message);
+            return;
+        }
         // Convert on the JCSMP delivery thread (copies the payload, safe for direct messages), then hand off so the
         // delivery thread is never blocked by the service call or a blocking settlement.
         BMap<BString, Object> ballerinaMessage;
@@ -103,44 +203,312 @@ final class SolaceMessageListener implements XMLMessageListener {
                     ValueCreator.createTypedescValue(nativeService.getMessagePayloadType()));
         } catch (BallerinaSolaceDatabindingException e) {
             // The message could not be bound to the service's declared type - a receive-side failure.
-            submit(() -> dispatchError(CommonUtils.createError(e.getMessage()), null, ERROR_TYPE_RECEIVE));
+            submitMessage(() -> rejectUndeliverable(CommonUtils.createError(e.getMessage())));
             return;
         } catch (Throwable t) {
             // The broker delivered a message the connector could not decode - a receive-side failure.
-            submit(() -> dispatchError(CommonUtils.createError("Failed to convert message",
-                    t instanceof Exception e ? e : new Exception(t)), null, ERROR_TYPE_RECEIVE));
+            submitMessage(() -> rejectUndeliverable(CommonUtils.createError("Failed to convert message",
+                    t instanceof Exception e ? e : new Exception(t))));
             return;
         }
         SolaceMetricsUtil.reportConsume(url, vpn, destination, destinationKind,
                 CommonUtils.getPayloadSize(ballerinaMessage), CommonUtils.isRedelivered(ballerinaMessage));
-        Map<String, String> traceContext = SolaceTracingUtil.extractTraceContextHeaders(ballerinaMessage);
-        submit(() -> deliver(message, ballerinaMessage, traceContext));
+        // Trace headers are only read when tracing is on; otherwise nothing would consume them.
+        Map<String, String> traceContext = dispatchMetadata.isTracing()
+                ? SolaceTracingUtil.extractTraceContextHeaders(ballerinaMessage) : null;
+        Runnable delivery = () -> deliver(message, ballerinaMessage, traceContext);
+        if (conflator != null) {
+            if (conflator.offer(message.getDestination().getName(), delivery)) {
+                submitMessage(this::deliverLatest);
+            } else {
+                // The replaced message is direct, so dropping it needs no settlement.
+                SolaceMetricsUtil.reportConflated(url, vpn, destination, destinationKind);
+            }
+            return;
+        }
+        if (priorityQueue == null) {
+            submitMessage(delivery);
+            return;
+        }
+        priorityQueue.offer(delivery, message.getPriority());
+        updatePriorityGate();
+        submitMessage(this::deliverNextByPriority);
+    }
+
+    /**
+     * Settles an expired message according to the service's expired message policy without converting it or handing
+     * it to the service. Direct messages carry no acknowledgement and are simply dropped.
+     */
+    private void skipExpired(BytesXMLMessage message) {
+        SolaceMetricsUtil.reportExpired(url, vpn, destination, destinationKind);
+        if (message.getDeliveryMode() == DeliveryMode.DIRECT) {
+            return;
+        }
+        try {
+            if (expiredPolicy == ExpiredMessagePolicy.DEAD_LETTER) {
+                message.settle(XMLMessage.Outcome.REJECTED);
+            } else {
+                message.ackMessage();
+            }
+        } catch (Exception e) {
+            // The message stays unsettled and is redelivered, and skipped again, once its flow reconnects.
+            SolaceMetricsUtil.reportConsumerError(url, vpn, destination, destinationKind, ERROR_TYPE_ACKNOWLEDGE);
+            ERR_OUT.println("Failed to settle expired Solace message: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Acknowledges a copy of an already processed message without handing it to the service.
+     */
+    private void skipDuplicate(BytesXMLMessage message) {
+        SolaceMetricsUtil.reportDuplicate(url, vpn, destination, destinationKind);
+        if (message.getDeliveryMode() == DeliveryMode.DIRECT) {
+            return;
+        }
+        try {
+            message.ackMessage();
+        } catch (Exception e) {
+            // The copy stays unsettled and is redelivered, and skipped again, once its flow reconnects.
+            SolaceMetricsUtil.reportConsumerError(url, vpn, destination, destinationKind, ERROR_TYPE_ACKNOWLEDGE);
+            ERR_OUT.println("Failed to acknowledge duplicate Solace message: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Runs the message due next from the priority queue. Every queued message has exactly one such task on the lane,
+     * so the queue is only empty here once the lane has been shut down.
+     */
+    private void deliverNextByPriority() {
+        Runnable delivery = priorityQueue.poll();
+        updatePriorityGate();
+        if (delivery != null) {
+            delivery.run();
+        }
+    }
+
+    /**
+     * Runs the newest message of the topic whose turn is next. Every waiting topic has exactly one such task on the
+     * lane, so the conflator is only empty here once the lane has been shut down.
+     */
+    private void deliverLatest() {
+        Runnable delivery = conflator.poll();
+        if (delivery != null) {
+            delivery.run();
+        }
+    }
+
+    private void updatePriorityGate() {
+        try {
+            priorityQueue.reevaluate();
+        } catch (Exception e) {
+            // Pausing or resuming the flow failed; the flow keeps its previous state until the next message.
+            SolaceMetricsUtil.reportConsumerError(url, vpn, destination, destinationKind, ERROR_TYPE_RECEIVE);
+            ERR_OUT.println("Failed to apply priority dispatch capacity to Solace flow: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Queues a delivered message on the lane, counting it against the adaptive window until it has been handled.
+     */
+    private void submitMessage(Runnable task) {
+        if (breaker != null) {
+            breaker.onDelivered();
+        }
+        if (window == null) {
+            submitTask(task);
+            return;
+        }
+        updateWindow(true);
+        boolean queued = submitTask(() -> {
+            try {
+                task.run();
+            } finally {
+                updateWindow(false);
+            }
+        });
+        if (!queued) {
+            updateWindow(false);
+        }
+    }
+
+    private void updateWindow(boolean enqueued) {
+        try {
+            if (enqueued) {
+                window.enqueued();
+            } else {
+                window.dequeued();
+            }
+        } catch (Exception e) {
+            // Pausing or resuming the flow failed; the flow keeps its previous state until the next message.
+            SolaceMetricsUtil.reportConsumerError(url, vpn, destination, destinationKind, ERROR_TYPE_RECEIVE);
+            ERR_OUT.println("Failed to apply adaptive window to Solace flow: " + e.getMessage());
+        }
     }
 
     private void deliver(BytesXMLMessage message, BMap<BString, Object> ballerinaMessage,
                          Map<String, String> traceContext) {
+        if (batcher != null && batcher.isDiscarding()) {
+            // The batch this message belongs to is being rolled back; the broker redelivers it.
+            return;
+        }
+        if (limiter != null && !throttle()) {
+            // The lane is shutting down now; the unsettled message is redelivered once its flow is closed.
+            return;
+        }
         long startNanos = System.nanoTime();
+        reportBacklog();
         try {
-            Object result = invokeOnMessage(ballerinaMessage, traceContext);
+            Object result;
+            try {
+                result = invokeWithTimeout(ballerinaMessage, traceContext);
+            } catch (TimeoutException e) {
+                abandon(message, ballerinaMessage, traceContext);
+                return;
+            } catch (InterruptedException e) {
+                // The lane is shutting down now; the unsettled message is redelivered once its flow is closed.
+                MessageConverter.markAbandoned(ballerinaMessage);
+                Thread.currentThread().interrupt();
+                return;
+            }
             if (result instanceof BError bError) {
-                dispatchError(bError, traceContext, ERROR_TYPE_DISPATCH);
+                deliveryFailure(message, ballerinaMessage, bError, traceContext);
+                return;
+            }
+            if (result != null && !sendReply(message, result, traceContext)) {
                 return;
             }
-            // In AUTO_ACK mode the flow is created with client acknowledgement, so settle on success here.
+            if (breaker != null) {
+                breaker.onSuccess();
+            }
+            if (deduplicator != null) {
+                deduplicator.record(message.getApplicationMessageId());
+            }
+            // In AUTO_ACK mode the flow is created with client acknowledgement, so settle on success here, unless
+            // the service already settled the message through its caller.
             if (autoAck) {
-                settleAutoAck(message, traceContext);
+                if (!MessageConverter.isSettled(ballerinaMessage)) {
+                    settleAutoAck(message, traceContext);
+                }
+            } else if (batcher != null) {
+                batcher.onSuccess();
             }
         } catch (BError bError) {
-            dispatchError(bError, traceContext, ERROR_TYPE_DISPATCH);
+            deliveryFailure(message, ballerinaMessage, bError, traceContext);
         } catch (Throwable t) {
-            dispatchError(CommonUtils.createError("Failed to dispatch message to service",
-                    t instanceof Exception e ? e : new Exception(t)), traceContext, ERROR_TYPE_DISPATCH);
+            deliveryFailure(message, ballerinaMessage, CommonUtils.createError(
+                    "Failed to dispatch message to service", t instanceof Exception e ? e : new Exception(t)),
+                    traceContext);
         } finally {
-            SolaceMetricsUtil.reportProcessDuration(url, vpn, destination, destinationKind,
-                    System.nanoTime() - startNanos);
+            long durationNanos = System.nanoTime() - startNanos;
+            SolaceMetricsUtil.reportProcessDuration(url, vpn, destination, destinationKind, durationNanos);
+            if (window != null && window.recordProcessing(durationNanos)) {
+                SolaceMetricsUtil.reportFlowWindow(url, vpn, destination, destinationKind, window.window(),
+                        window.throughput());
+            }
+        }
+    }
+
+    /**
+     * Waits for the rate limiter's token for the next message.
+     *
+     * @return false if the wait was interrupted
+     */
+    private boolean throttle() {
+        long waitNanos = limiter.acquire();
+        if (waitNanos == 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            SolaceMetricsUtil.reportThrottle(url, vpn, destination, destinationKind, waitNanos);
+        }
+    }
+
+    /**
+     * Publishes the value returned by {@code onMessage} as the reply to the message. A reply that cannot be built, or
+     * a request without a {@code replyTo}, will not succeed on redelivery either, so it is reported and the request
+     * still counts as processed. A failed send fails the request like an error from {@code onMessage}.
+     *
+     * @return false if the request must be treated as failed
+     */
+    private boolean sendReply(BytesXMLMessage request, Object result, Map<String, String> traceContext) {
+        try {
+            replies.reply(request, result);
+            return true;
+        } catch (IllegalArgumentException e) {
+            dispatchError(CommonUtils.createError(e.getMessage()), traceContext, ERROR_TYPE_PUBLISH);
+            return true;
+        } catch (Throwable t) {
+            dispatchError(CommonUtils.createError("Failed to send reply",
+                    t instanceof Exception e ? e : new Exception(t)), traceContext, ERROR_TYPE_PUBLISH);
+            if (batcher != null) {
+                batcher.onFailure();
+            }
+            return false;
+        }
+    }
+
+    private void reportBacklog() {
+        SolaceMetricsUtil.reportDispatchBacklog(url, vpn, destination, destinationKind, counters.queued(),
+                counters.inFlight());
+    }
+
+    private void dispatchFailure(BError error, Map<String, String> traceContext) {
+        dispatchError(error, traceContext, ERROR_TYPE_DISPATCH);
+        if (batcher != null) {
+            batcher.onFailure();
+        }
+    }
+
+    /**
+     * Handles a message whose {@code onMessage} failed. In AUTO_ACK mode with dead-letter routing, the message is
+     * requeued for another attempt, or dead-lettered if this was its last one, unless the service already settled it
+     * through its caller.
+     */
+    private void deliveryFailure(BytesXMLMessage message, BMap<BString, Object> ballerinaMessage, BError error,
+                                 Map<String, String> traceContext) {
+        dispatchFailure(error, traceContext);
+        if (!autoAck || deadLetters == null || MessageConverter.isSettled(ballerinaMessage)) {
+            return;
+        }
+        try {
+            if (deadLetters.isFinalAttempt(message)) {
+                deadLetters.deadLetter(message, error.getMessage());
+            } else {
+                message.settle(XMLMessage.Outcome.FAILED);
+                SolaceMetricsUtil.reportNack(caller, true);
+            }
+        } catch (Throwable t) {
+            // Left unsettled, the message is redelivered once its flow reconnects.
+            dispatchError(CommonUtils.createError("Failed to settle message after onMessage failed",
+                    t instanceof Exception e ? e : new Exception(t)), traceContext, ERROR_TYPE_NACK);
+        }
+    }
+
+    /**
+     * Reports a message that could not be converted for the service. Under auto-commit the open batch is rolled back
+     * rather than committing a message the service never saw.
+     */
+    private void rejectUndeliverable(BError error) {
+        dispatchError(error, null, ERROR_TYPE_RECEIVE);
+        if (batcher != null) {
+            batcher.onFailure();
         }
     }
 
+    /**
+     * Reports a failure raised on this lane's behalf outside a message dispatch, such as settling an auto-commit batch
+     * or resuming a paused flow.
+     */
+    void reportError(BError error, String errorType) {
+        dispatchError(error, null, errorType);
+    }
+
     /**
      * Settles a successfully processed message in AUTO_ACK mode.
      * <p>
@@ -162,31 +530,86 @@ final class SolaceMessageListener implements XMLMessageListener {
     @Override
     public void onException(JCSMPException exception) {
         // A flow-level failure raised by JCSMP itself - a genuine receive-side error.
-        submit(() -> dispatchError(CommonUtils.createError("Solace consumer flow error", exception),
+        submitTask(() -> dispatchError(CommonUtils.createError("Solace consumer flow error", exception),
                 null, ERROR_TYPE_RECEIVE));
     }
 
     private Object invokeOnMessage(BMap<BString, Object> ballerinaMessage, Map<String, String> traceContext) {
-        StrandMetadata metadata =
-                new StrandMetadata(nativeService.isOnMessageMethodIsolated(), tracingProperties(traceContext));
+        StrandMetadata metadata = dispatchMetadata.onMessage(traceContext);
         if (nativeService.hasCaller()) {
-            return runtime.callMethod(nativeService.getConsumerService(), ON_MESSAGE, metadata, ballerinaMessage,
+            return methodCaller.call(nativeService.getConsumerService(), ON_MESSAGE, metadata, ballerinaMessage,
                     caller);
         }
-        return runtime.callMethod(nativeService.getConsumerService(), ON_MESSAGE, metadata, ballerinaMessage);
+        return methodCaller.call(nativeService.getConsumerService(), ON_MESSAGE, metadata, ballerinaMessage);
+    }
+
+    /**
+     * Invokes {@code onMessage}, bounded by the processing timeout if the service has one.
+     *
+     * @throws TimeoutException if the invocation did not complete within the processing timeout
+     */
+    private Object invokeWithTimeout(BMap<BString, Object> ballerinaMessage, Map<String, String> traceContext)
+            throws Exception {
+        if (!hasProcessingTimeout) {
+            return invokeOnMessage(ballerinaMessage, traceContext);
+        }
+        CompletableFuture<Object> invocation = new CompletableFuture<>();
+        Thread.startVirtualThread(() -> {
+            try {
+                invocation.complete(invokeOnMessage(ballerinaMessage, traceContext));
+            } catch (Throwable t) {
+                invocation.completeExceptionally(t);
+            }
+        });
+        try {
+            return invocation.get(processingTimeoutInMsecs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof BError bError) {
+                throw bError;
+            }
+            throw cause instanceof Exception exception ? exception : new Exception(cause);
+        }
+    }
+
+    /**
+     * Gives up on a message whose {@code onMessage} invocation overran the processing timeout. The message is marked
+     * abandoned before it is settled, so a late {@code caller->ack()} or {@code caller->nack()} from the invocation is
+     * refused instead of settling it a second time.
+     */
+    private void abandon(BytesXMLMessage message, BMap<BString, Object> ballerinaMessage,
+                         Map<String, String> traceContext) {
+        MessageConverter.markAbandoned(ballerinaMessage);
+        SolaceMetricsUtil.reportProcessingTimeout(url, vpn, destination, destinationKind,
+                timeoutAction.name().toLowerCase(Locale.ROOT));
+        if (timeoutAction != ProcessingTimeoutAction.LEAVE_UNSETTLED) {
+            boolean requeue = timeoutAction == ProcessingTimeoutAction.REQUEUE;
+            try {
+                message.settle(requeue ? XMLMessage.Outcome.FAILED : XMLMessage.Outcome.REJECTED);
+                SolaceMetricsUtil.reportNack(caller, requeue);
+            } catch (Throwable t) {
+                dispatchError(CommonUtils.createError("Failed to NACK message after processing timeout",
+                        t instanceof Exception e ? e : new Exception(t)), traceContext, ERROR_TYPE_NACK);
+            }
+        }
+        dispatchFailure(CommonUtils.createError(String.format(
+                "onMessage did not complete within the processing timeout of %d ms", processingTimeoutInMsecs)),
+                traceContext);
     }
 
     private void dispatchError(BError error, Map<String, String> traceContext, String errorType) {
         SolaceMetricsUtil.reportConsumerError(url, vpn, destination, destinationKind, errorType);
+        if (breaker != null) {
+            breaker.onError(errorType);
+        }
         if (nativeService.getOnError().isEmpty()) {
             ERR_OUT.println("Unexpected error occurred while message processing: " + error.getMessage());
             error.printStackTrace();
             return;
         }
         try {
-            StrandMetadata metadata =
-                    new StrandMetadata(nativeService.isOnErrorMethodIsolated(), tracingProperties(traceContext));
-            runtime.callMethod(nativeService.getConsumerService(), ON_ERROR, metadata, error);
+            methodCaller.call(nativeService.getConsumerService(), ON_ERROR, dispatchMetadata.onError(traceContext),
+                    error);
         } catch (Throwable t) {
             // Surface secondary failures from the error handler instead of dropping them silently.
             ERR_OUT.println("Unexpected error occurred while invoking the 'onError' method: "
@@ -194,41 +617,50 @@ final class SolaceMessageListener implements XMLMessageListener {
         }
     }
 
-    private Map<String, Object> tracingProperties(Map<String, String> traceContext) {
-        if (!ObserveUtils.isTracingEnabled()) {
-            return null;
-        }
-        SolaceObserverContext ctx = new SolaceObserverContext(CONTEXT_CONSUMER, url, destination)
-                .withVpn(vpn)
-                .withDestinationKind(destinationKind);
-        if (traceContext != null && !traceContext.isEmpty()) {
-            ctx.addProperty(ObservabilityConstants.PROPERTY_TRACE_PROPERTIES, traceContext);
-        }
-        Map<String, Object> properties = new HashMap<>();
-        properties.put(ObservabilityConstants.KEY_OBSERVER_CONTEXT, ctx);
-        return properties;
-    }
-
-    private void submit(Runnable task) {
+    /**
+     * Queues a task on this listener's lane, behind any messages already waiting.
+     *
+     * @return false if the lane is shutting down and the task was dropped
+     */
+    boolean submitTask(Runnable task) {
         try {
             dispatcher.execute(task);
+            return true;
         } catch (RejectedExecutionException ignored) {
             // The listener is stopping; drop late deliveries (unsettled guaranteed messages are redelivered).
+            return false;
         }
     }
 
     /**
-     * Stops the dispatch executor. Called when the service is detached or the listener is stopped.
+     * Stops this service's dispatch lane from accepting new work; queued messages still run. Called when the service
+     * is detached or the listener is stopped; the shared executor itself is owned and shut down by the listener.
      */
     void shutdown() {
         dispatcher.shutdown();
-        try {
-            if (!dispatcher.awaitTermination(5, TimeUnit.SECONDS)) {
-                dispatcher.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            dispatcher.shutdownNow();
-            Thread.currentThread().interrupt();
+    }
+
+    /**
+     * Waits until the lane has finished its queued messages.
+     *
+     * @param timeoutNanos how long to wait
+     * @return true if the lane drained in time
+     */
+    boolean awaitDrained(long timeoutNanos) throws InterruptedException {
+        return dispatcher.awaitTermination(timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Abandons the queued messages and interrupts the running one. Unsettled guaranteed messages are redelivered.
+     */
+    void shutdownNow() {
+        dispatcher.shutdownNow();
+        if (priorityQueue != null) {
+            priorityQueue.clear();
+        }
+        if (conflator != null) {
+            conflator.clear();
         }
+        reportBacklog();
     }
 }
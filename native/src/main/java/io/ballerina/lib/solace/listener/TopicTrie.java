@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Topic subscriptions indexed level by level, for routing a received topic to every subscriber whose subscription
+ * matches it.
+ * <p>
+ * Subscriptions follow Solace wildcard rules: a level that ends in {@code *} matches any level starting with what
+ * precedes the {@code *} (so a lone {@code *} matches any single level), and a final level of {@code >} matches one or
+ * more remaining levels. A {@code *} elsewhere in a level, or a {@code >} that is not the last level, is literal.
+ * Matching walks the topic's levels once, so its cost depends on the depth of the topic rather than on the number of
+ * subscriptions.
+ * <p>
+ * Instances are not thread-safe; build one, then share it read-only.
+ *
+ * @param <T> the subscriber type
+ */
+final class TopicTrie<T> {
+
+    private static final String LEVEL_SEPARATOR = "/";
+    private static final String SINGLE_LEVEL_WILDCARD = "*";
+    private static final String MULTI_LEVEL_WILDCARD = ">";
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * Adds a subscriber under a topic subscription.
+     */
+    void add(String subscription, T subscriber) {
+        String[] levels = subscription.split(LEVEL_SEPARATOR, -1);
+        Node<T> node = root;
+        for (int i = 0; i < levels.length; i++) {
+            String level = levels[i];
+            if (i == levels.length - 1 && MULTI_LEVEL_WILDCARD.equals(level)) {
+                node.remainder.add(subscriber);
+                return;
+            }
+            if (level.endsWith(SINGLE_LEVEL_WILDCARD)) {
+                String prefix = level.substring(0, level.length() - 1);
+                node.longestPrefix = Math.max(node.longestPrefix, prefix.length());
+                node = node.prefixes.computeIfAbsent(prefix, key -> new Node<>());
+            } else {
+                node = node.literals.computeIfAbsent(level, key -> new Node<>());
+            }
+        }
+        node.exact.add(subscriber);
+    }
+
+    /**
+     * Returns every subscriber with a subscription matching the topic, each once, in no particular order.
+     */
+    List<T> match(String topic) {
+        String[] levels = topic.split(LEVEL_SEPARATOR, -1);
+        Set<T> matches = new LinkedHashSet<>();
+        List<Node<T>> current = List.of(root);
+        for (String level : levels) {
+            List<Node<T>> next = new ArrayList<>();
+            for (Node<T> node : current) {
+                // '>' at this node covers this level and everything after it.
+                matches.addAll(node.remainder);
+                Node<T> literal = node.literals.get(level);
+                if (literal != null) {
+                    next.add(literal);
+                }
+                int longest = Math.min(node.longestPrefix, level.length());
+                for (int length = 0; length <= longest; length++) {
+                    Node<T> prefixed = node.prefixes.get(level.substring(0, length));
+                    if (prefixed != null) {
+                        next.add(prefixed);
+                    }
+                }
+            }
+            if (next.isEmpty()) {
+                return new ArrayList<>(matches);
+            }
+            current = next;
+        }
+        for (Node<T> node : current) {
+            matches.addAll(node.exact);
+        }
+        return new ArrayList<>(matches);
+    }
+
+    private static final class Node<T> {
+        private final Map<String, Node<T>> literals = new HashMap<>();
+        private final Map<String, Node<T>> prefixes = new HashMap<>();
+        private final List<T> exact = new ArrayList<>();
+        private final List<T> remainder = new ArrayList<>();
+        private int longestPrefix = -1;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import com.solacesystems.jcsmp.transaction.TransactedSession;
+import io.ballerina.lib.solace.common.CommonUtils;
+import io.ballerina.lib.solace.config.AutoCommitConfig;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_COMMIT;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_RECEIVE;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_ROLLBACK;
+
+/**
+ * Commits a transacted service's work in batches instead of per message.
+ * <p>
+ * Every message delivered on a transacted flow joins the open transaction as soon as JCSMP hands it over, including
+ * messages still waiting in a dispatch lane. Committing straight from a handler would therefore also commit messages
+ * the service has not processed yet. To settle only processed work, a batch is closed by pausing the service's flows,
+ * queueing a barrier behind the messages already in each lane, and committing once every lane reaches its barrier.
+ * The flows are then resumed.
+ * <p>
+ * A batch closes after {@code maxMessages} successfully processed messages, or {@code maxInterval} after its first
+ * one. If any handler fails, the remaining messages of the batch are skipped and the whole batch is rolled back, so
+ * the broker redelivers it as a group.
+ */
+final class TransactionBatcher {
+
+    private final TransactedSession txSession;
+    private final int maxMessages;
+    private final long maxIntervalInMsecs;
+    private final AtomicInteger pendingBarriers = new AtomicInteger();
+    private List<FlowGate> gates = List.of();
+    private List<SolaceMessageListener> lanes = List.of();
+    private int processed;
+    private boolean failed;
+    private boolean settling;
+    private long batch;
+
+    TransactionBatcher(TransactedSession txSession, AutoCommitConfig config) {
+        this.txSession = txSession;
+        this.maxMessages = config.maxMessages();
+        this.maxIntervalInMsecs = config.maxIntervalInMsecs();
+    }
+
+    /**
+     * Binds the batcher to the flows and lanes of the service once they have been created.
+     */
+    synchronized void bind(List<FlowGate> gates, List<SolaceMessageListener> lanes) {
+        this.gates = List.copyOf(gates);
+        this.lanes = List.copyOf(lanes);
+    }
+
+    /**
+     * Whether the current batch is being rolled back. Messages delivered in such a batch must not be processed, as
+     * the broker will redeliver them.
+     */
+    synchronized boolean isDiscarding() {
+        return failed;
+    }
+
+    /**
+     * Records a successfully processed message. Called on the message's lane.
+     */
+    synchronized void onSuccess() {
+        processed++;
+        if (processed == 1) {
+            long current = batch;
+            CompletableFuture.delayedExecutor(maxIntervalInMsecs, TimeUnit.MILLISECONDS)
+                    .execute(() -> onTimer(current));
+        }
+        if (processed >= maxMessages) {
+            beginSettlement();
+        }
+    }
+
+    /**
+     * Records a failed message, which dooms the current batch. Called on the message's lane.
+     */
+    synchronized void onFailure() {
+        failed = true;
+        beginSettlement();
+    }
+
+    private synchronized void onTimer(long timerBatch) {
+        if (timerBatch == batch && processed > 0) {
+            beginSettlement();
+        }
+    }
+
+    private void beginSettlement() {
+        if (settling) {
+            return;
+        }
+        settling = true;
+        for (FlowGate gate : gates) {
+            // Pausing only stops the flow, which does not fail in practice; settle regardless.
+            CommonUtils.closeQuietly(() -> gate.pause(FlowGate.PAUSE_SETTLEMENT));
+        }
+        pendingBarriers.set(lanes.size());
+        for (SolaceMessageListener lane : lanes) {
+            if (!lane.submitTask(() -> arrive(lane))) {
+                // The lane is shutting down; its messages are settled when the service is closed.
+                pendingBarriers.decrementAndGet();
+            }
+        }
+    }
+
+    private void arrive(SolaceMessageListener lane) {
+        if (pendingBarriers.decrementAndGet() != 0) {
+            return;
+        }
+        // Every lane has drained up to its barrier and the flows are paused, so no handler is running.
+        boolean rollback;
+        synchronized (this) {
+            rollback = failed;
+        }
+        settle(lane, rollback);
+        List<FlowGate> resumeGates;
+        synchronized (this) {
+            processed = 0;
+            failed = false;
+            settling = false;
+            batch++;
+            resumeGates = gates;
+        }
+        for (FlowGate gate : resumeGates) {
+            try {
+                gate.resume(FlowGate.PAUSE_SETTLEMENT);
+            } catch (Exception e) {
+                lane.reportError(CommonUtils.createError("Failed to resume flow after settlement", e),
+                        ERROR_TYPE_RECEIVE);
+            }
+        }
+    }
+
+    private void settle(SolaceMessageListener lane, boolean rollback) {
+        try {
+            if (rollback) {
+                txSession.rollback();
+            } else {
+                txSession.commit();
+            }
+        } catch (Exception e) {
+            lane.reportError(CommonUtils.createError(rollback
+                            ? "Failed to roll back transaction batch" : "Failed to commit transaction batch", e),
+                    rollback ? ERROR_TYPE_ROLLBACK : ERROR_TYPE_COMMIT);
+        }
+    }
+
+    /**
+     * Settles the open batch when the service is closed. The batch is committed only if every lane finished its
+     * queued messages; otherwise delivered-but-unprocessed messages are in the transaction, so it is rolled back.
+     *
+     * @param drained whether every lane of the service drained before shutdown
+     */
+    void close(boolean drained) {
+        boolean rollback;
+        synchronized (this) {
+            if (processed == 0 && !failed && !settling) {
+                return;
+            }
+            rollback = failed || !drained;
+            processed = 0;
+            failed = false;
+            batch++;
+        }
+        // The session is being torn down with the service; uncommitted work is redelivered by the broker.
+        CommonUtils.closeQuietly(rollback ? txSession::rollback : txSession::commit);
+    }
+}
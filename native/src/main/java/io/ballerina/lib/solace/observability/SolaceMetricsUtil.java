@@ -38,13 +38,26 @@ import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.CONTEXT_PRODUCER;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_CONNECTION;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_ACKS;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_CIRCUIT_BREAKER_STATE;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_CIRCUIT_BREAKER_TRANSITIONS;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_CONFLATED;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_CONNECTIONS_UP;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_CONSUMED;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_CONSUMED_SIZE;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_CONSUMERS;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_DEAD_LETTERED;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_DEDUPLICATION_FOOTPRINT;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_DISPATCH_IN_FLIGHT;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_DISPATCH_QUEUED;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_DUPLICATES;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_EMPTY_RECEIVES;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_ERRORS;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_EXPIRED;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_FLOW_THROUGHPUT;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_FLOW_WINDOW;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_LISTENER_STARTUP;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_NACKS;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_PROCESSING_TIMEOUTS;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_PROCESS_DURATION;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_PUBLISHED;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_PUBLISHED_SIZE;
@@ -53,12 +66,16 @@ import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_PUBLISH_DURATION;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_RECONNECTS;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_REDELIVERED;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_REPLAYED;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_REPLAYS;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.NACK_OUTCOME_DMQ;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.NACK_OUTCOME_REQUEUE;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.METRIC_THROTTLE_DURATION;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.TAG_KEY_ERROR_TYPE;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.TAG_KEY_EVENT;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.TAG_KEY_OUTCOME;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.TAG_KEY_RESULT;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.TAG_KEY_STATE;
 import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.UNKNOWN;
 
 /**
@@ -167,22 +184,36 @@ public class SolaceMetricsUtil {
     }
 
     public static void reportAck(BObject consumer) {
+        reportAck(consumer, 1);
+    }
+
+    /**
+     * Reports a group of messages acknowledged together.
+     */
+    public static void reportAck(BObject consumer, int count) {
         if (!ObserveUtils.isMetricsEnabled()) {
             return;
         }
-        incrementCounter(consumerDestinationContext(consumer), METRIC_ACKS[0], METRIC_ACKS[1], 1);
+        incrementCounter(consumerDestinationContext(consumer), METRIC_ACKS[0], METRIC_ACKS[1], count);
     }
 
     /**
      * Reports a negative acknowledgement.
      */
     public static void reportNack(BObject consumer, boolean requeue) {
+        reportNack(consumer, requeue, 1);
+    }
+
+    /**
+     * Reports a group of messages negatively acknowledged together.
+     */
+    public static void reportNack(BObject consumer, boolean requeue, int count) {
         if (!ObserveUtils.isMetricsEnabled()) {
             return;
         }
         SolaceObserverContext ctx = consumerDestinationContext(consumer)
                 .withTag(TAG_KEY_OUTCOME, requeue ? NACK_OUTCOME_REQUEUE : NACK_OUTCOME_DMQ);
-        incrementCounter(ctx, METRIC_NACKS[0], METRIC_NACKS[1], 1);
+        incrementCounter(ctx, METRIC_NACKS[0], METRIC_NACKS[1], count);
     }
 
     /**
@@ -197,6 +228,204 @@ public class SolaceMetricsUtil {
                 METRIC_PROCESS_DURATION[0], METRIC_PROCESS_DURATION[1], durationNanos);
     }
 
+    /**
+     * Publishes a push-based service's current dispatch backlog: messages waiting in its lanes and messages being
+     * processed.
+     */
+    public static void reportDispatchBacklog(String url, String vpn, String destination, String destinationKind,
+                                             int queued, int inFlight) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        SolaceObserverContext ctx = consumeContext(url, vpn, destination, destinationKind);
+        setGauge(ctx, METRIC_DISPATCH_QUEUED[0], METRIC_DISPATCH_QUEUED[1], queued);
+        setGauge(ctx, METRIC_DISPATCH_IN_FLIGHT[0], METRIC_DISPATCH_IN_FLIGHT[1], inFlight);
+    }
+
+    /**
+     * Reports the current adaptive window of a service's flow and the throughput it is achieving.
+     */
+    public static void reportFlowWindow(String url, String vpn, String destination, String destinationKind,
+                                        int window, double throughput) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        SolaceObserverContext ctx = consumeContext(url, vpn, destination, destinationKind);
+        setGauge(ctx, METRIC_FLOW_WINDOW[0], METRIC_FLOW_WINDOW[1], window);
+        setGauge(ctx, METRIC_FLOW_THROUGHPUT[0], METRIC_FLOW_THROUGHPUT[1], throughput);
+    }
+
+    /**
+     * Reports a transition of a service's circuit breaker: sets the state gauge and counts the transition by the state
+     * entered.
+     */
+    public static void reportCircuitBreakerState(String url, String vpn, String destination, String destinationKind,
+                                                 String state, int gaugeValue) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        setGauge(consumeContext(url, vpn, destination, destinationKind), METRIC_CIRCUIT_BREAKER_STATE[0],
+                METRIC_CIRCUIT_BREAKER_STATE[1], gaugeValue);
+        SolaceObserverContext ctx = consumeContext(url, vpn, destination, destinationKind);
+        ctx.addTag(TAG_KEY_STATE, state);
+        incrementCounter(ctx, METRIC_CIRCUIT_BREAKER_TRANSITIONS[0], METRIC_CIRCUIT_BREAKER_TRANSITIONS[1], 1);
+    }
+
+    /**
+     * Counts an {@code onMessage} invocation abandoned after the service's processing timeout, tagged with how the
+     * message was settled.
+     */
+    public static void reportProcessingTimeout(String url, String vpn, String destination, String destinationKind,
+                                               String outcome) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        SolaceObserverContext ctx = consumeContext(url, vpn, destination, destinationKind)
+                .withTag(TAG_KEY_OUTCOME, outcome);
+        incrementCounter(ctx, METRIC_PROCESSING_TIMEOUTS[0], METRIC_PROCESSING_TIMEOUTS[1], 1);
+    }
+
+    /**
+     * Records how long a listener's {@code start()} took to bind and start all of its services.
+     */
+    public static void reportListenerStartup(String context, String url, String vpn, long durationNanos) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        recordDuration(new SolaceObserverContext(context, url).withVpn(vpn), METRIC_LISTENER_STARTUP[0],
+                METRIC_LISTENER_STARTUP[1], durationNanos);
+    }
+
+    /**
+     * Counts a pulled message skipped as a duplicate of an already processed message ID.
+     */
+    public static void reportDuplicate(BObject consumer) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        incrementCounter(consumerDestinationContext(consumer), METRIC_DUPLICATES[0], METRIC_DUPLICATES[1], 1);
+    }
+
+    /**
+     * Counts a pulled message discarded or rejected by the consumer's expired message policy.
+     */
+    public static void reportExpired(BObject consumer) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        incrementCounter(consumerDestinationContext(consumer), METRIC_EXPIRED[0], METRIC_EXPIRED[1], 1);
+    }
+
+    /**
+     * Counts a message discarded or rejected by a service's expired message policy before it was dispatched.
+     */
+    public static void reportExpired(String url, String vpn, String destination, String destinationKind) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        incrementCounter(consumeContext(url, vpn, destination, destinationKind), METRIC_EXPIRED[0],
+                METRIC_EXPIRED[1], 1);
+    }
+
+    /**
+     * Counts a message moved to its consumer's or service's dead-letter destination once the broker accepted it.
+     */
+    public static void reportDeadLettered(String url, String vpn, String destination, String destinationKind) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        incrementCounter(consumeContext(url, vpn, destination, destinationKind), METRIC_DEAD_LETTERED[0],
+                METRIC_DEAD_LETTERED[1], 1);
+    }
+
+    /**
+     * Counts a pulled message dropped because a newer message on its topic replaced it before it was received.
+     */
+    public static void reportConflated(BObject consumer) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        incrementCounter(consumerDestinationContext(consumer), METRIC_CONFLATED[0], METRIC_CONFLATED[1], 1);
+    }
+
+    /**
+     * Counts a message dropped because a newer message on its topic replaced it before it was dispatched to a
+     * push-based service.
+     */
+    public static void reportConflated(String url, String vpn, String destination, String destinationKind) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        incrementCounter(consumeContext(url, vpn, destination, destinationKind), METRIC_CONFLATED[0],
+                METRIC_CONFLATED[1], 1);
+    }
+
+    /**
+     * Counts a replay started on a consumer's flow, whether requested by {@code replayFrom} or by the broker.
+     */
+    public static void reportReplayStarted(BObject consumer) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        incrementCounter(consumerDestinationContext(consumer), METRIC_REPLAYS[0], METRIC_REPLAYS[1], 1);
+    }
+
+    /**
+     * Counts a message received while the consumer's flow was replaying.
+     */
+    public static void reportReplayed(BObject consumer) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        incrementCounter(consumerDestinationContext(consumer), METRIC_REPLAYED[0], METRIC_REPLAYED[1], 1);
+    }
+
+    /**
+     * Counts a message skipped as a duplicate before it reached a push-based service.
+     */
+    public static void reportDuplicate(String url, String vpn, String destination, String destinationKind) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        incrementCounter(consumeContext(url, vpn, destination, destinationKind), METRIC_DUPLICATES[0],
+                METRIC_DUPLICATES[1], 1);
+    }
+
+    /**
+     * Publishes the memory preallocated by a consumer's deduplication cache.
+     */
+    public static void reportDeduplicationFootprint(BObject consumer, long bytes) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        setGauge(consumerDestinationContext(consumer), METRIC_DEDUPLICATION_FOOTPRINT[0],
+                METRIC_DEDUPLICATION_FOOTPRINT[1], bytes);
+    }
+
+    /**
+     * Publishes the memory preallocated by a push-based service's deduplication cache.
+     */
+    public static void reportDeduplicationFootprint(String url, String vpn, String destination,
+                                                    String destinationKind, long bytes) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        setGauge(consumeContext(url, vpn, destination, destinationKind), METRIC_DEDUPLICATION_FOOTPRINT[0],
+                METRIC_DEDUPLICATION_FOOTPRINT[1], bytes);
+    }
+
+    /**
+     * Records how long a push-based service held a message back to stay within its {@code maxRate}.
+     */
+    public static void reportThrottle(String url, String vpn, String destination, String destinationKind,
+                                      long durationNanos) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        recordDuration(consumeContext(url, vpn, destination, destinationKind),
+                METRIC_THROTTLE_DURATION[0], METRIC_THROTTLE_DURATION[1], durationNanos);
+    }
+
     public static void reportProducerError(BObject producer, String errorType) {
         if (!ObserveUtils.isMetricsEnabled()) {
             return;
@@ -373,6 +602,13 @@ public class SolaceMetricsUtil {
         metricRegistry.gauge(new MetricId(CONNECTOR_NAME + "_" + name, desc, ctx.getAllTags())).decrement();
     }
 
+    private static void setGauge(SolaceObserverContext ctx, String name, String desc, double value) {
+        if (metricRegistry == null) {
+            return;
+        }
+        metricRegistry.gauge(new MetricId(CONNECTOR_NAME + "_" + name, desc, ctx.getAllTags())).setValue(value);
+    }
+
     private static void recordDuration(SolaceObserverContext ctx, String name, String desc, long durationNanos) {
         if (metricRegistry == null || durationNanos < 0) {
             return;
@@ -48,6 +48,38 @@ public class SolaceObservabilityConstants {
             {"publish_duration_seconds", "Time taken by a publish call, in seconds"};
     static final String[] METRIC_PROCESS_DURATION =
             {"process_duration_seconds", "Time taken to dispatch a message to the service, in seconds"};
+    static final String[] METRIC_DISPATCH_QUEUED =
+            {"dispatch_queued", "Number of messages waiting to be dispatched to a service"};
+    static final String[] METRIC_DISPATCH_IN_FLIGHT =
+            {"dispatch_in_flight", "Number of messages currently being processed by a service"};
+    static final String[] METRIC_FLOW_WINDOW =
+            {"flow_window", "Number of messages a flow may hand to a service before it is paused"};
+    static final String[] METRIC_FLOW_THROUGHPUT =
+            {"flow_throughput", "Messages processed by a service per second"};
+    static final String[] METRIC_CIRCUIT_BREAKER_STATE =
+            {"circuit_breaker_state", "State of a service's circuit breaker: 0 closed, 1 open, 2 half-open"};
+    static final String[] METRIC_CIRCUIT_BREAKER_TRANSITIONS =
+            {"circuit_breaker_transitions", "Number of times a service's circuit breaker changed state"};
+    static final String[] METRIC_PROCESSING_TIMEOUTS =
+            {"processing_timeouts", "Number of onMessage invocations abandoned after the processing timeout"};
+    static final String[] METRIC_LISTENER_STARTUP =
+            {"listener_startup_seconds", "Time taken by a listener to bind and start its services, in seconds"};
+    static final String[] METRIC_THROTTLE_DURATION =
+            {"throttle_duration_seconds", "Time a message was held back by its service's maxRate, in seconds"};
+    static final String[] METRIC_DUPLICATES =
+            {"duplicates", "Number of messages skipped as duplicates of an already processed message ID"};
+    static final String[] METRIC_DEDUPLICATION_FOOTPRINT =
+            {"deduplication_footprint_bytes", "Memory held by a consumer's deduplication cache, in bytes"};
+    static final String[] METRIC_EXPIRED =
+            {"expired", "Number of messages discarded or rejected because they had expired before delivery"};
+    static final String[] METRIC_REPLAYS =
+            {"replays_started", "Number of message replays started on a consumer flow"};
+    static final String[] METRIC_REPLAYED =
+            {"replayed", "Number of messages received while a replay was catching up to the live backlog"};
+    static final String[] METRIC_DEAD_LETTERED =
+            {"dead_lettered", "Number of messages moved to the dead-letter destination after their last attempt"};
+    static final String[] METRIC_CONFLATED =
+            {"conflated", "Number of messages dropped because a newer message on their topic replaced them"};
 
     static final String TAG_KEY_URL = "url";
     static final String TAG_KEY_DESTINATION = "destination";
@@ -60,6 +92,7 @@ public class SolaceObservabilityConstants {
     static final String TAG_KEY_OUTCOME = "outcome";
     static final String TAG_KEY_RESULT = "result";
     static final String TAG_KEY_EVENT = "event";
+    static final String TAG_KEY_STATE = "state";
 
     public static final String ERROR_TYPE_CONNECTION = "connection";
     public static final String ERROR_TYPE_PUBLISH = "publish";
@@ -74,6 +107,7 @@ public class SolaceObservabilityConstants {
     public static final String CONTEXT_PRODUCER = "producer";
     public static final String CONTEXT_CONSUMER = "consumer";
     public static final String CONTEXT_LISTENER = "listener";
+    public static final String CONTEXT_BROWSER = "browser";
 
     public static final String DESTINATION_KIND_QUEUE = "queue";
     public static final String DESTINATION_KIND_TOPIC = "topic";
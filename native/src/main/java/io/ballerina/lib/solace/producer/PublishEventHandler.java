@@ -36,7 +36,7 @@ public class PublishEventHandler implements JCSMPStreamingPublishCorrelatingEven
     private final String vpn;
     private final PublishAcknowledgementTracker acknowledgementTracker;
 
-    PublishEventHandler(String url, String vpn) {
+    public PublishEventHandler(String url, String vpn) {
         this(url, vpn, null);
     }
 
@@ -53,7 +53,9 @@ public class PublishEventHandler implements JCSMPStreamingPublishCorrelatingEven
      */
     @Override
     public void responseReceivedEx(Object key) {
-        if (acknowledgementTracker != null) {
+        if (key instanceof ConfirmationListener listener) {
+            listener.accepted();
+        } else if (acknowledgementTracker != null) {
             acknowledgementTracker.acknowledge(key);
         }
         recordConfirm(true);
@@ -68,7 +70,9 @@ public class PublishEventHandler implements JCSMPStreamingPublishCorrelatingEven
      */
     @Override
     public void handleErrorEx(Object key, JCSMPException cause, long timestamp) {
-        if (acknowledgementTracker != null) {
+        if (key instanceof ConfirmationListener listener) {
+            listener.rejected(cause);
+        } else if (acknowledgementTracker != null) {
             acknowledgementTracker.reject(key, cause);
         }
         LOGGER.warning(String.format(
@@ -76,6 +80,17 @@ public class PublishEventHandler implements JCSMPStreamingPublishCorrelatingEven
         recordConfirm(false);
     }
 
+    /**
+     * A correlation key that is told the broker's verdict on the guaranteed message it was sent with. Called on the
+     * JCSMP dispatch thread, so implementations must not block.
+     */
+    public interface ConfirmationListener {
+
+        void accepted();
+
+        void rejected(JCSMPException cause);
+    }
+
     private void recordConfirm(boolean accepted) {
         try {
             SolaceMetricsUtil.reportPublishConfirm(url, vpn, accepted);
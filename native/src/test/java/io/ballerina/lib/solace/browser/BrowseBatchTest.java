@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.browser;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class BrowseBatchTest {
+
+    @Test
+    public void testTakesUpToCount() throws Exception {
+        FakeBrowser browser = new FakeBrowser("a", "b", "c", "d");
+
+        assertEquals(BrowseBatch.take(browser, 3, 100), List.of("a", "b", "c"));
+        assertEquals(BrowseBatch.take(browser, 3, 100), List.of("d"));
+        assertEquals(browser.waits, 2);
+    }
+
+    @Test
+    public void testWaitsOnlyForFirstMessage() throws Exception {
+        FakeBrowser browser = new FakeBrowser("a", "b");
+
+        assertEquals(BrowseBatch.take(browser, 10, 100), List.of("a", "b"));
+        assertEquals(browser.waits, 1, "Only the first message should be waited for");
+    }
+
+    @Test
+    public void testEmptyWhenNothingArrives() throws Exception {
+        FakeBrowser browser = new FakeBrowser();
+
+        assertTrue(BrowseBatch.take(browser, 5, 100).isEmpty());
+    }
+
+    @Test
+    public void testZeroTimeoutNeverWaits() throws Exception {
+        FakeBrowser browser = new FakeBrowser("a", "b");
+
+        assertEquals(BrowseBatch.take(browser, 5, 0), List.of("a", "b"));
+        assertEquals(browser.waits, 0);
+    }
+
+    private static final class FakeBrowser implements BrowseBatch.BrowseSource<String> {
+
+        private final Deque<String> buffered;
+        private int waits;
+
+        FakeBrowser(String... messages) {
+            this.buffered = new ArrayDeque<>(List.of(messages));
+        }
+
+        @Override
+        public String next(int timeoutMillis) {
+            waits++;
+            return buffered.poll();
+        }
+
+        @Override
+        public String nextNoWait() {
+            return buffered.poll();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.common;
+
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.DeliveryMode;
+import com.solacesystems.jcsmp.Destination;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.SDTMap;
+import com.solacesystems.jcsmp.TextMessage;
+import com.solacesystems.jcsmp.XMLMessageProducer;
+import io.ballerina.lib.solace.config.DeadLetterConfig;
+import io.ballerina.lib.solace.producer.PublishEventHandler;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class DeadLetterRouterTest {
+
+    private static final Destination PARKING_QUEUE = JCSMPFactory.onlyInstance().createQueue("orders/parking");
+
+    @Test
+    public void testFailureDetailsKeepOriginalProperties() throws Exception {
+        DeadLetterRouter router = router(3, () -> null);
+        TextMessage message = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
+        SDTMap properties = JCSMPFactory.onlyInstance().createMap();
+        properties.putString("orderId", "42");
+        message.setProperties(properties);
+
+        SDTMap details = router.withFailureDetails(message, "price service unavailable");
+
+        assertEquals(details.getString("orderId"), "42");
+        assertEquals(details.getString(DeadLetterRouter.REASON_PROPERTY), "price service unavailable");
+        assertEquals(details.getString(DeadLetterRouter.SOURCE_PROPERTY), "orders");
+        assertTrue(details.containsKey(DeadLetterRouter.TIMESTAMP_PROPERTY));
+        assertFalse(message.getProperties().containsKey(DeadLetterRouter.REASON_PROPERTY),
+                "the original message is left untouched");
+    }
+
+    @Test
+    public void testDirectMessageIsNeverFinalAttempt() {
+        DeadLetterRouter router = router(1, () -> null);
+        TextMessage message = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
+        message.setDeliveryMode(DeliveryMode.DIRECT);
+
+        assertFalse(router.isFinalAttempt(message));
+    }
+
+    @Test
+    public void testDeadLetterPublishesPersistentCopyToDestination() throws Exception {
+        List<Object[]> sends = new ArrayList<>();
+        XMLMessageProducer producer = (XMLMessageProducer) Proxy.newProxyInstance(
+                XMLMessageProducer.class.getClassLoader(), new Class<?>[]{XMLMessageProducer.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("send")) {
+                        sends.add(args);
+                    }
+                    return null;
+                });
+        DeadLetterRouter router = router(3, () -> producer);
+        TextMessage message = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
+        message.setText("order 42");
+        message.setDeliveryMode(DeliveryMode.NON_PERSISTENT);
+
+        router.deadLetter(message, "price service unavailable");
+
+        assertEquals(sends.size(), 1);
+        BytesXMLMessage copy = (BytesXMLMessage) sends.get(0)[0];
+        assertEquals(sends.get(0)[1], PARKING_QUEUE);
+        assertEquals(copy.getDeliveryMode(), DeliveryMode.PERSISTENT);
+        assertEquals(copy.getProperties().getString(DeadLetterRouter.REASON_PROPERTY), "price service unavailable");
+        assertTrue(copy.getCorrelationKey() instanceof PublishEventHandler.ConfirmationListener,
+                "the original is settled from the broker's confirmation of the copy");
+    }
+
+    private static DeadLetterRouter router(long maxDeliveryAttempts, DeadLetterRouter.ProducerSource producers) {
+        return new DeadLetterRouter(new DeadLetterConfig(maxDeliveryAttempts, PARKING_QUEUE), producers,
+                "tcp://localhost:55555", "default", "orders", "queue");
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.common;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+public class DelayedRedeliveryTest {
+
+    @Test
+    public void testBackoffDoublesPerDelivery() {
+        assertEquals(DelayedRedelivery.backoffMillis(500, 0), 500);
+        assertEquals(DelayedRedelivery.backoffMillis(500, 1), 500);
+        assertEquals(DelayedRedelivery.backoffMillis(500, 2), 1000);
+        assertEquals(DelayedRedelivery.backoffMillis(500, 4), 4000);
+    }
+
+    @Test
+    public void testBackoffIsCapped() {
+        assertEquals(DelayedRedelivery.backoffMillis(500, 20), DelayedRedelivery.MAX_BACKOFF_MILLIS);
+        assertEquals(DelayedRedelivery.backoffMillis(500, Integer.MAX_VALUE), DelayedRedelivery.MAX_BACKOFF_MILLIS);
+        long longDelay = DelayedRedelivery.MAX_BACKOFF_MILLIS * 3;
+        assertEquals(DelayedRedelivery.backoffMillis(longDelay, 5), longDelay,
+                "a base delay above the cap is kept as is");
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.common;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+public class DuplicateFilterTest {
+
+    private long now;
+
+    @BeforeMethod
+    public void resetClock() {
+        now = 0;
+    }
+
+    @Test
+    public void testRecordedIdIsDuplicate() {
+        DuplicateFilter filter = new DuplicateFilter(10, 1000, () -> now);
+        assertFalse(filter.isDuplicate("order-1"));
+        filter.record("order-1");
+        assertTrue(filter.isDuplicate("order-1"));
+        assertFalse(filter.isDuplicate("order-2"));
+        assertEquals(filter.size(), 1);
+    }
+
+    @Test
+    public void testMessagesWithoutIdAreNeverDuplicates() {
+        DuplicateFilter filter = new DuplicateFilter(10, 1000, () -> now);
+        filter.record(null);
+        assertFalse(filter.isDuplicate(null));
+        assertEquals(filter.size(), 0);
+    }
+
+    @Test
+    public void testIdIsForgottenAfterWindow() {
+        DuplicateFilter filter = new DuplicateFilter(10, 1000, () -> now);
+        filter.record("order-1");
+        now += TimeUnit.MILLISECONDS.toNanos(500);
+        filter.record("order-2");
+
+        now += TimeUnit.MILLISECONDS.toNanos(500);
+        assertFalse(filter.isDuplicate("order-1"));
+        assertTrue(filter.isDuplicate("order-2"));
+        assertEquals(filter.size(), 1);
+    }
+
+    @Test
+    public void testOldestIdIsEvictedAtCapacity() {
+        DuplicateFilter filter = new DuplicateFilter(3, 1000, () -> now);
+        for (int i = 1; i <= 4; i++) {
+            filter.record("order-" + i);
+        }
+        assertFalse(filter.isDuplicate("order-1"));
+        for (int i = 2; i <= 4; i++) {
+            assertTrue(filter.isDuplicate("order-" + i));
+        }
+        assertEquals(filter.size(), 3);
+    }
+
+    @Test
+    public void testEvictionKeepsCollidingIdsReachable() {
+        // Churning through many IDs deletes from the middle of probe sequences, including ones that wrap around.
+        DuplicateFilter filter = new DuplicateFilter(1000, 1000, () -> now);
+        for (int i = 0; i < 20000; i++) {
+            filter.record("id-" + i);
+            if (i >= 1000) {
+                assertFalse(filter.isDuplicate("id-" + (i - 1000)));
+            }
+        }
+        for (int i = 19000; i < 20000; i++) {
+            assertTrue(filter.isDuplicate("id-" + i), "id-" + i + " should still be remembered");
+        }
+    }
+
+    @Test
+    public void testRecordingAgainKeepsOriginalTime() {
+        DuplicateFilter filter = new DuplicateFilter(10, 1000, () -> now);
+        filter.record("order-1");
+        now += TimeUnit.MILLISECONDS.toNanos(900);
+        filter.record("order-1");
+        now += TimeUnit.MILLISECONDS.toNanos(100);
+        assertFalse(filter.isDuplicate("order-1"));
+    }
+
+    @Test
+    public void testFootprintIsFixed() {
+        DuplicateFilter filter = new DuplicateFilter(1000, 1000, () -> now);
+        long footprint = filter.footprintBytes();
+        assertEquals(footprint, Long.BYTES * (2048L + 1000 + 1000));
+        for (int i = 0; i < 5000; i++) {
+            filter.record("id-" + i);
+        }
+        assertEquals(filter.footprintBytes(), footprint);
+    }
+
+    @Test
+    public void testHashIsNeverEmptySentinel() {
+        assertNotEquals(DuplicateFilter.hash(""), 0L);
+        assertNotEquals(DuplicateFilter.hash("order-1"), DuplicateFilter.hash("order-2"));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.common;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class HashedTimingWheelTest {
+
+    private HashedTimingWheel wheel;
+
+    @BeforeMethod
+    public void setUp() {
+        wheel = new HashedTimingWheel(1, TimeUnit.MILLISECONDS, 8, "test-timing-wheel");
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    public void testTimerFiresNoEarlierThanItsDelay() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        AtomicLong firedAt = new AtomicLong();
+        long start = System.nanoTime();
+        // 30 ms spans several rotations of an 8-slot wheel with 1 ms ticks.
+        wheel.schedule(() -> {
+            firedAt.set(System.nanoTime());
+            fired.countDown();
+        }, 30, TimeUnit.MILLISECONDS);
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+        assertTrue(firedAt.get() - start >= TimeUnit.MILLISECONDS.toNanos(30));
+        assertEquals(wheel.pending(), 0);
+    }
+
+    @Test
+    public void testCancelledTimerDoesNotFire() throws InterruptedException {
+        AtomicBoolean ran = new AtomicBoolean();
+        HashedTimingWheel.Timeout timeout = wheel.schedule(() -> ran.set(true), 20, TimeUnit.MILLISECONDS);
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertEquals(wheel.pending(), 0);
+
+        CountDownLatch later = new CountDownLatch(1);
+        wheel.schedule(later::countDown, 40, TimeUnit.MILLISECONDS);
+        assertTrue(later.await(5, TimeUnit.SECONDS));
+        assertFalse(ran.get());
+    }
+
+    @Test
+    public void testManyTimersAllFire() throws InterruptedException {
+        int count = 200_000;
+        CountDownLatch fired = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            wheel.schedule(fired::countDown, i % 50, TimeUnit.MILLISECONDS);
+        }
+        assertTrue(fired.await(30, TimeUnit.SECONDS));
+        assertEquals(wheel.pending(), 0);
+    }
+
+    @Test
+    public void testFailingTaskDoesNotStopTheWheel() throws InterruptedException {
+        wheel.schedule(() -> {
+            throw new IllegalStateException("boom");
+        }, 1, TimeUnit.MILLISECONDS);
+        CountDownLatch fired = new CountDownLatch(1);
+        wheel.schedule(fired::countDown, 5, TimeUnit.MILLISECONDS);
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+    }
+}
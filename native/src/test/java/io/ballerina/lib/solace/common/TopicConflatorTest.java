@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.common;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class TopicConflatorTest {
+
+    @Test
+    public void testNewerMessageReplacesWaitingOneOfSameTopic() {
+        TopicConflator<String> conflator = new TopicConflator<>();
+        assertTrue(conflator.offer("prices/ACME", "100"));
+        assertFalse(conflator.offer("prices/ACME", "101"));
+        assertFalse(conflator.offer("prices/ACME", "102"));
+        assertEquals(conflator.size(), 1);
+
+        assertEquals(conflator.poll(), "102");
+        assertNull(conflator.poll());
+    }
+
+    @Test
+    public void testTopicsKeepTurnOfTheirFirstWaitingMessage() {
+        TopicConflator<String> conflator = new TopicConflator<>();
+        conflator.offer("prices/ACME", "100");
+        conflator.offer("prices/INIT", "50");
+        conflator.offer("prices/ACME", "101");
+
+        assertEquals(conflator.poll(), "101");
+        assertEquals(conflator.poll(), "50");
+        assertNull(conflator.poll());
+    }
+
+    @Test
+    public void testTopicIsQueuedAgainOnceTaken() {
+        TopicConflator<String> conflator = new TopicConflator<>();
+        conflator.offer("prices/ACME", "100");
+        assertEquals(conflator.poll(), "100");
+
+        assertTrue(conflator.offer("prices/ACME", "101"));
+        assertEquals(conflator.poll(), "101");
+    }
+
+    @Test
+    public void testClearDropsWaitingMessages() {
+        TopicConflator<String> conflator = new TopicConflator<>();
+        conflator.offer("prices/ACME", "100");
+        conflator.offer("prices/INIT", "50");
+        conflator.clear();
+
+        assertEquals(conflator.size(), 0);
+        assertNull(conflator.poll());
+        assertTrue(conflator.offer("prices/ACME", "101"));
+        assertEquals(conflator.poll(), "101");
+    }
+}
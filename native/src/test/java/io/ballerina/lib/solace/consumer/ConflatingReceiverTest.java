@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.consumer;
+
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.XMLMessageConsumer;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class ConflatingReceiverTest {
+
+    @Test
+    public void testReceiveReturnsOnlyLatestMessageOfEachTopic() throws Exception {
+        Deque<BytesXMLMessage> buffered = new ArrayDeque<>();
+        buffered.add(message("prices/ACME", "acme-1"));
+        buffered.add(message("prices/INIT", "init-1"));
+        buffered.add(message("prices/ACME", "acme-2"));
+        buffered.add(message("prices/ACME", "acme-3"));
+        AtomicInteger conflated = new AtomicInteger();
+        ConflatingReceiver receiver = new ConflatingReceiver(consumer(buffered), conflated::incrementAndGet);
+
+        assertEquals(receiver.receive(100).getApplicationMessageId(), "acme-3");
+        assertEquals(receiver.receiveNoWait().getApplicationMessageId(), "init-1");
+        assertNull(receiver.receiveNoWait());
+        assertEquals(conflated.get(), 2);
+    }
+
+    @Test
+    public void testReceiveWaitsOnConsumerWhenNothingIsWaiting() throws Exception {
+        Deque<BytesXMLMessage> buffered = new ArrayDeque<>();
+        ConflatingReceiver receiver = new ConflatingReceiver(consumer(buffered), () -> { });
+        assertNull(receiver.receive(100));
+
+        buffered.add(message("prices/ACME", "acme-1"));
+        assertEquals(receiver.receive(100).getApplicationMessageId(), "acme-1");
+    }
+
+    private static XMLMessageConsumer consumer(Deque<BytesXMLMessage> buffered) {
+        return (XMLMessageConsumer) Proxy.newProxyInstance(
+                XMLMessageConsumer.class.getClassLoader(),
+                new Class<?>[]{XMLMessageConsumer.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "receive", "receiveNoWait" -> buffered.poll();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static BytesXMLMessage message(String topic, String id) {
+        return (BytesXMLMessage) Proxy.newProxyInstance(
+                BytesXMLMessage.class.getClassLoader(),
+                new Class<?>[]{BytesXMLMessage.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getDestination" -> JCSMPFactory.onlyInstance().createTopic(topic);
+                    case "getApplicationMessageId" -> id;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -20,9 +20,15 @@ package io.ballerina.lib.solace.consumer;
 
 import com.solacesystems.jcsmp.FlowEvent;
 import com.solacesystems.jcsmp.FlowEventArgs;
+import com.solacesystems.jcsmp.JCSMPErrorResponseException;
+import com.solacesystems.jcsmp.impl.JCSMPErrorResponseSubcodeMapper;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 public class ConsumerFlowStateTrackerTest {
 
@@ -81,6 +87,52 @@ public class ConsumerFlowStateTrackerTest {
         assertEquals(tracker.state(), ConsumerFlowStateTracker.State.UNKNOWN);
     }
 
+    @Test
+    public void testRequestedReplayStartsWithFlow() {
+        AtomicInteger replays = new AtomicInteger();
+        ConsumerFlowStateTracker tracker = new ConsumerFlowStateTracker(replays::incrementAndGet);
+        tracker.flowStarted(false, true);
+
+        assertTrue(tracker.isReplaying());
+        assertEquals(replays.get(), 1);
+    }
+
+    @Test
+    public void testBrokerStartedReplay() {
+        AtomicInteger replays = new AtomicInteger();
+        ConsumerFlowStateTracker tracker = new ConsumerFlowStateTracker(replays::incrementAndGet);
+        tracker.flowStarted(false, false);
+        assertFalse(tracker.isReplaying());
+
+        JCSMPErrorResponseException replayStarted = new JCSMPErrorResponseException(503, "Replay Started", null,
+                null, JCSMPErrorResponseSubcodeMapper.ErrorContext.CONTROL);
+        tracker.handleEvent(this, new FlowEventArgs(FlowEvent.FLOW_DOWN, "Replay Started", replayStarted, 503));
+        assertTrue(tracker.isReplaying());
+        assertEquals(replays.get(), 1);
+
+        tracker.handleEvent(this, event(FlowEvent.FLOW_RECONNECTED));
+        assertTrue(tracker.isReplaying(), "Rebinding the flow must not end the replay");
+    }
+
+    @Test
+    public void testReplayEndsOnceCaughtUp() {
+        ConsumerFlowStateTracker tracker = new ConsumerFlowStateTracker();
+        tracker.flowStarted(false, true);
+        tracker.replayCaughtUp();
+
+        assertFalse(tracker.isReplaying());
+    }
+
+    @Test
+    public void testOtherFlowDownDoesNotStartReplay() {
+        AtomicInteger replays = new AtomicInteger();
+        ConsumerFlowStateTracker tracker = new ConsumerFlowStateTracker(replays::incrementAndGet);
+        tracker.handleEvent(this, event(FlowEvent.FLOW_DOWN));
+
+        assertFalse(tracker.isReplaying());
+        assertEquals(replays.get(), 0);
+    }
+
     private static FlowEventArgs event(FlowEvent event) {
         return new FlowEventArgs(event, event.name(), null, 0);
     }
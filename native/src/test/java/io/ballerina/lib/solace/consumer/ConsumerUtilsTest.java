@@ -21,9 +21,12 @@ package io.ballerina.lib.solace.consumer;
 import com.solacesystems.jcsmp.CapabilityType;
 import com.solacesystems.jcsmp.ConsumerFlowProperties;
 import com.solacesystems.jcsmp.JCSMPSession;
+import com.solacesystems.jcsmp.Topic;
 import org.testng.annotations.Test;
 
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.testng.Assert.assertEquals;
 
@@ -43,6 +46,25 @@ public class ConsumerUtilsTest {
         assertEquals(properties.isActiveFlowIndication(), false);
     }
 
+    @Test
+    public void testAddSubscriptionsWaitsForConfirmOnlyOnTheLast() throws Exception {
+        List<String> added = new ArrayList<>();
+        JCSMPSession session = (JCSMPSession) Proxy.newProxyInstance(
+                JCSMPSession.class.getClassLoader(),
+                new Class<?>[]{JCSMPSession.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("addSubscription") && args.length == 2) {
+                        added.add(((Topic) args[0]).getName() + (((Boolean) args[1]) ? ":confirm" : ""));
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        ConsumerUtils.addSubscriptions(session, List.of("orders/created", "orders/updated", "payments/>"));
+
+        assertEquals(added, List.of("orders/created", "orders/updated", "payments/>:confirm"));
+    }
+
     private static JCSMPSession sessionWithCapability(boolean supported) {
         return (JCSMPSession) Proxy.newProxyInstance(
                 JCSMPSession.class.getClassLoader(),
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.consumer;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+public class MessagePrefetcherTest {
+
+    private static final long TIMEOUT_MILLIS = 2000;
+
+    @Test
+    public void testReturnsMessagesInOrder() throws Exception {
+        BlockingQueue<String> broker = new ArrayBlockingQueue<>(10);
+        broker.addAll(List.of("a", "b", "c"));
+        MessagePrefetcher<String> prefetcher = start(broker, 4);
+
+        assertEquals(prefetcher.next(TIMEOUT_MILLIS), "A");
+        assertEquals(prefetcher.next(TIMEOUT_MILLIS), "B");
+        assertEquals(prefetcher.next(TIMEOUT_MILLIS), "C");
+        assertNull(prefetcher.next(50));
+
+        prefetcher.close(message -> { });
+    }
+
+    @Test
+    public void testReaderStopsWhenBufferIsFull() throws Exception {
+        BlockingQueue<String> broker = new ArrayBlockingQueue<>(10);
+        broker.addAll(List.of("a", "b", "c", "d", "e"));
+        MessagePrefetcher<String> prefetcher = start(broker, 2);
+
+        awaitBuffered(prefetcher, 2);
+        Thread.sleep(MessagePrefetcher.POLL_INTERVAL_MILLIS * 2L);
+        assertEquals(prefetcher.buffered(), 2);
+        // One more message is held by the reader, waiting for room; the rest stay with the broker.
+        assertEquals(broker.size(), 2);
+
+        assertEquals(prefetcher.next(0), "A");
+        prefetcher.close(message -> { });
+    }
+
+    @Test
+    public void testCloseHandsBackUnclaimedMessages() throws Exception {
+        BlockingQueue<String> broker = new ArrayBlockingQueue<>(10);
+        broker.addAll(List.of("a", "b", "c"));
+        MessagePrefetcher<String> prefetcher = start(broker, 4);
+        awaitBuffered(prefetcher, 3);
+
+        assertEquals(prefetcher.next(0), "A");
+        List<String> unclaimed = new ArrayList<>();
+        prefetcher.close(unclaimed::add);
+
+        assertEquals(unclaimed, List.of("b", "c"));
+        assertTrue(prefetcher.isClosed());
+        assertNull(prefetcher.next(TIMEOUT_MILLIS));
+    }
+
+    @Test
+    public void testCloseHandsBackMessageWaitingForRoom() throws Exception {
+        BlockingQueue<String> broker = new ArrayBlockingQueue<>(10);
+        broker.addAll(List.of("a", "b"));
+        MessagePrefetcher<String> prefetcher = start(broker, 1);
+        awaitBuffered(prefetcher, 1);
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!broker.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        List<String> unclaimed = new ArrayList<>();
+        prefetcher.close(unclaimed::add);
+
+        assertEquals(unclaimed, List.of("a", "b"));
+    }
+
+    @Test
+    public void testCloseWaitsForMessageBeingConverted() throws Exception {
+        BlockingQueue<String> broker = new ArrayBlockingQueue<>(10);
+        broker.add("a");
+        CountDownLatch converting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        MessagePrefetcher<String> prefetcher = new MessagePrefetcher<>(
+                timeoutMillis -> broker.poll(timeoutMillis, TimeUnit.MILLISECONDS), message -> {
+                    converting.countDown();
+                    release.await();
+                    return message.toUpperCase();
+                }, 4, Thread::new);
+        prefetcher.start();
+        assertTrue(converting.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+
+        List<String> unclaimed = new ArrayList<>();
+        Thread closer = new Thread(() -> {
+            try {
+                prefetcher.close(unclaimed::add);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        closer.start();
+        Thread.sleep(MessagePrefetcher.POLL_INTERVAL_MILLIS * 2L);
+        // The reader is still converting, so close must not have drained the buffer yet.
+        assertTrue(closer.isAlive());
+
+        release.countDown();
+        closer.join(TIMEOUT_MILLIS);
+        assertFalse(closer.isAlive());
+        assertEquals(unclaimed, List.of("a"));
+    }
+
+    @Test
+    public void testConversionErrorFailsOnlyItsMessage() throws Exception {
+        BlockingQueue<String> broker = new ArrayBlockingQueue<>(10);
+        broker.addAll(List.of("a", "bad", "c"));
+        MessagePrefetcher<String> prefetcher = new MessagePrefetcher<>(timeoutMillis -> broker.poll(), message -> {
+            if (message.equals("bad")) {
+                throw new IllegalStateException("cannot convert");
+            }
+            return message.toUpperCase();
+        }, 4, Thread::new);
+        prefetcher.start();
+
+        assertEquals(prefetcher.next(TIMEOUT_MILLIS), "A");
+        Exception error = expectThrows(IllegalStateException.class, () -> prefetcher.next(TIMEOUT_MILLIS));
+        assertEquals(error.getMessage(), "cannot convert");
+        assertEquals(prefetcher.next(TIMEOUT_MILLIS), "C");
+
+        prefetcher.close(message -> { });
+    }
+
+    @Test
+    public void testReaderFailureIsReportedOnceAfterBufferedMessages() throws Exception {
+        BlockingQueue<String> broker = new ArrayBlockingQueue<>(10);
+        broker.add("a");
+        MessagePrefetcher<String> prefetcher = new MessagePrefetcher<>(timeoutMillis -> {
+            String message = broker.poll();
+            if (message == null) {
+                throw new IllegalStateException("flow closed");
+            }
+            return message;
+        }, message -> message, 4, Thread::new);
+        prefetcher.start();
+
+        assertEquals(prefetcher.next(TIMEOUT_MILLIS), "a");
+        expectThrows(IllegalStateException.class, () -> prefetcher.next(TIMEOUT_MILLIS));
+        assertNull(prefetcher.next(-1));
+
+        prefetcher.close(message -> { });
+    }
+
+    @Test
+    public void testNextWaitsForMessage() throws Exception {
+        BlockingQueue<String> broker = new ArrayBlockingQueue<>(10);
+        MessagePrefetcher<String> prefetcher = start(broker, 4);
+        assertFalse(prefetcher.buffered() > 0);
+
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+                broker.put("late");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        assertEquals(prefetcher.next(TIMEOUT_MILLIS), "LATE");
+        producer.join();
+        prefetcher.close(message -> { });
+    }
+
+    private static MessagePrefetcher<String> start(BlockingQueue<String> broker, int capacity) {
+        MessagePrefetcher<String> prefetcher = new MessagePrefetcher<>(
+                timeoutMillis -> broker.poll(timeoutMillis, TimeUnit.MILLISECONDS), String::toUpperCase, capacity,
+                Thread::new);
+        prefetcher.start();
+        return prefetcher;
+    }
+
+    private static void awaitBuffered(MessagePrefetcher<String> prefetcher, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (prefetcher.buffered() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(prefetcher.buffered(), count);
+    }
+}
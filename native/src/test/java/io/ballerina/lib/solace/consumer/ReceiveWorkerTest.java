@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.consumer;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+public class ReceiveWorkerTest {
+
+    @Test
+    public void testReturnsTaskResult() throws Exception {
+        ReceiveWorker worker = new ReceiveWorker(Thread::new);
+        assertEquals(worker.submit(timeoutMillis -> "message", 0), "message");
+        assertEquals(worker.submit(timeoutMillis -> null, 0), null);
+        worker.close();
+    }
+
+    @Test
+    public void testRethrowsTaskException() {
+        ReceiveWorker worker = new ReceiveWorker(Thread::new);
+        IllegalStateException error = expectThrows(IllegalStateException.class, () -> worker.submit(timeoutMillis -> {
+            throw new IllegalStateException("flow closed");
+        }, 0));
+        assertEquals(error.getMessage(), "flow closed");
+        worker.close();
+    }
+
+    @Test
+    public void testRunsTasksOneAtATimeOnOneThread() throws Exception {
+        ReceiveWorker worker = new ReceiveWorker(Thread::new);
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<Object>> calls = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            int call = i;
+            calls.add(CompletableFuture.supplyAsync(() -> submit(worker, timeoutMillis -> {
+                threads.add(Thread.currentThread());
+                return call;
+            })));
+        }
+        for (int i = 0; i < 4; i++) {
+            assertEquals(calls.get(i).get(5, TimeUnit.SECONDS), i);
+        }
+        assertEquals(threads.stream().distinct().count(), 1L);
+        worker.close();
+    }
+
+    @Test
+    public void testCloseFailsWaitingRequestsAndStopsWorker() throws Exception {
+        ReceiveWorker worker = new ReceiveWorker(Thread::new);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> blocking = CompletableFuture.supplyAsync(() -> submit(worker, timeoutMillis -> {
+            running.countDown();
+            release.await();
+            return "in flight";
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Object> waiting =
+                CompletableFuture.supplyAsync(() -> submit(worker, timeoutMillis -> "waiting"));
+        Thread.sleep(100);
+
+        worker.close();
+        release.countDown();
+
+        assertEquals(blocking.get(5, TimeUnit.SECONDS), "in flight");
+        ExecutionException error = expectThrows(ExecutionException.class, () -> waiting.get(5, TimeUnit.SECONDS));
+        assertTrue(error.getCause().getCause() instanceof IllegalStateException);
+        expectThrows(IllegalStateException.class, () -> worker.submit(timeoutMillis -> "late", 0));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (worker.isAlive() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(worker.isAlive());
+    }
+
+    @Test
+    public void testRequestQueuedBehindBlockingReceiveTimesOutWithoutRunning() throws Exception {
+        ReceiveWorker worker = new ReceiveWorker(Thread::new);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> blocking = CompletableFuture.supplyAsync(() -> submit(worker, timeoutMillis -> {
+            running.countDown();
+            release.await();
+            return "in flight";
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        AtomicBoolean ran = new AtomicBoolean();
+        long startNanos = System.nanoTime();
+        expectThrows(TimeoutException.class, () -> worker.submit(timeoutMillis -> {
+            ran.set(true);
+            return "late";
+        }, 100));
+        assertTrue(System.nanoTime() - startNanos < TimeUnit.SECONDS.toNanos(5));
+
+        release.countDown();
+        assertEquals(blocking.get(5, TimeUnit.SECONDS), "in flight");
+        assertEquals(worker.submit(timeoutMillis -> "next", 0), "next");
+        assertFalse(ran.get());
+        worker.close();
+    }
+
+    @Test
+    public void testRequestRunsWithTheTimeItHasLeft() throws Exception {
+        ReceiveWorker worker = new ReceiveWorker(Thread::new);
+        int given = (Integer) worker.submit(timeoutMillis -> timeoutMillis, 10_000);
+        assertTrue(given > 0 && given <= 10_000);
+        assertEquals(worker.submit(timeoutMillis -> timeoutMillis, 0), 0);
+        worker.close();
+    }
+
+    private static Object submit(ReceiveWorker worker, ReceiveWorker.ReceiveTask task) {
+        try {
+            return worker.submit(task, 0);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
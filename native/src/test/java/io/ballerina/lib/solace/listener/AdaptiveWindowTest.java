@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import io.ballerina.lib.solace.config.AdaptiveWindowConfig;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class AdaptiveWindowTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void testWindowStartsAtMinimum() {
+        AdaptiveWindow window = new AdaptiveWindow(new AdaptiveWindowConfig(100, 2, 50), new AtomicLong()::get);
+        assertEquals(window.window(), 2);
+    }
+
+    @Test
+    public void testWindowFitsLatencyTarget() {
+        AdaptiveWindow window = new AdaptiveWindow(new AdaptiveWindowConfig(100, 1, 255), new AtomicLong()::get);
+        window.recordProcessing(10 * MILLIS);
+        assertEquals(window.window(), 10);
+        for (int i = 0; i < 50; i++) {
+            window.recordProcessing(40 * MILLIS);
+        }
+        assertEquals(window.window(), 2);
+    }
+
+    @Test
+    public void testWindowIsClampedToBounds() {
+        AdaptiveWindow window = new AdaptiveWindow(new AdaptiveWindowConfig(100, 4, 20), new AtomicLong()::get);
+        window.recordProcessing(MILLIS / 10);
+        assertEquals(window.window(), 20);
+        for (int i = 0; i < 50; i++) {
+            window.recordProcessing(TimeUnit.SECONDS.toNanos(1));
+        }
+        assertEquals(window.window(), 4);
+    }
+
+    @Test
+    public void testPauseAndResumeMarks() throws Exception {
+        AdaptiveWindow window = new AdaptiveWindow(new AdaptiveWindowConfig(100, 1, 255), new AtomicLong()::get);
+        window.recordProcessing(10 * MILLIS);
+        for (int i = 0; i < 9; i++) {
+            window.enqueued();
+        }
+        assertFalse(window.shouldPause(false));
+        window.enqueued();
+        assertTrue(window.shouldPause(false));
+
+        for (int i = 0; i < 4; i++) {
+            window.dequeued();
+        }
+        assertTrue(window.shouldPause(true), "should stay paused above half the window");
+        window.dequeued();
+        assertFalse(window.shouldPause(true));
+    }
+
+    @Test
+    public void testThroughputIsSampledPerInterval() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveWindow window = new AdaptiveWindow(new AdaptiveWindowConfig(100, 1, 255), clock::get);
+        for (int i = 0; i < 49; i++) {
+            clock.addAndGet(10 * MILLIS);
+            assertFalse(window.recordProcessing(MILLIS));
+        }
+        clock.addAndGet(510 * MILLIS);
+        assertTrue(window.recordProcessing(MILLIS));
+        assertEquals(window.throughput(), 50.0, 0.001);
+    }
+}
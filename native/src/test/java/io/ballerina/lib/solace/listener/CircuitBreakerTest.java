@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import io.ballerina.lib.solace.config.CircuitBreakerConfig;
+import io.ballerina.lib.solace.listener.CircuitBreaker.State;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_ACKNOWLEDGE;
+import static io.ballerina.lib.solace.observability.SolaceObservabilityConstants.ERROR_TYPE_DISPATCH;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class CircuitBreakerTest {
+
+    private final List<Runnable> timers = new ArrayList<>();
+    private final List<Long> delays = new ArrayList<>();
+    private final List<State> transitions = new ArrayList<>();
+
+    @BeforeMethod
+    public void setUp() {
+        timers.clear();
+        delays.clear();
+        transitions.clear();
+    }
+
+    private CircuitBreaker breaker(int windowSize, int minimumMessages, double threshold, int halfOpenMessages) {
+        CircuitBreakerConfig config =
+                new CircuitBreakerConfig(windowSize, minimumMessages, threshold, 100, 350, halfOpenMessages);
+        return new CircuitBreaker(config, (task, delayMillis) -> {
+            timers.add(task);
+            delays.add(delayMillis);
+        }, transitions::add);
+    }
+
+    private void fireTimer() {
+        timers.remove(timers.size() - 1).run();
+    }
+
+    @Test
+    public void testOpensOnceThresholdIsReached() {
+        CircuitBreaker breaker = breaker(10, 4, 0.5, 1);
+        breaker.onError(ERROR_TYPE_DISPATCH);
+        breaker.onError(ERROR_TYPE_DISPATCH);
+        assertEquals(breaker.state(), State.CLOSED, "fewer outcomes than minimumMessages must not open");
+        breaker.onSuccess();
+        breaker.onSuccess();
+        assertEquals(breaker.state(), State.CLOSED, "a success never opens the breaker");
+        breaker.onError(ERROR_TYPE_DISPATCH);
+        assertEquals(breaker.state(), State.OPEN);
+        assertEquals(transitions, List.of(State.OPEN));
+        assertEquals(delays, List.of(100L));
+    }
+
+    @Test
+    public void testOnlyHandlerFailuresCount() {
+        CircuitBreaker breaker = breaker(4, 1, 0.5, 1);
+        breaker.onSuccess();
+        for (int i = 0; i < 5; i++) {
+            breaker.onError(ERROR_TYPE_ACKNOWLEDGE);
+        }
+        assertEquals(breaker.state(), State.CLOSED);
+    }
+
+    @Test
+    public void testWindowSlides() {
+        CircuitBreaker breaker = breaker(4, 4, 0.75, 1);
+        breaker.onError(ERROR_TYPE_DISPATCH);
+        breaker.onError(ERROR_TYPE_DISPATCH);
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onSuccess();
+        // The window now holds F S S S; two more failures push the oldest failure out, leaving S S F F.
+        breaker.onError(ERROR_TYPE_DISPATCH);
+        breaker.onError(ERROR_TYPE_DISPATCH);
+        assertEquals(breaker.state(), State.CLOSED);
+        breaker.onError(ERROR_TYPE_DISPATCH);
+        assertEquals(breaker.state(), State.OPEN);
+    }
+
+    @Test
+    public void testSuccessfulProbesClose() {
+        CircuitBreaker breaker = breaker(2, 1, 1.0, 2);
+        breaker.onError(ERROR_TYPE_DISPATCH);
+        assertEquals(breaker.state(), State.OPEN);
+        fireTimer();
+        assertEquals(breaker.state(), State.HALF_OPEN);
+        breaker.onDelivered();
+        breaker.onDelivered();
+        breaker.onSuccess();
+        assertEquals(breaker.state(), State.HALF_OPEN);
+        breaker.onSuccess();
+        assertEquals(breaker.state(), State.CLOSED);
+        assertEquals(transitions, List.of(State.OPEN, State.HALF_OPEN, State.CLOSED));
+    }
+
+    @Test
+    public void testFailedProbeReopensWithBackoff() {
+        CircuitBreaker breaker = breaker(2, 1, 1.0, 1);
+        breaker.onError(ERROR_TYPE_DISPATCH);
+        fireTimer();
+        breaker.onError(ERROR_TYPE_DISPATCH);
+        assertEquals(breaker.state(), State.OPEN);
+        fireTimer();
+        breaker.onError(ERROR_TYPE_DISPATCH);
+        fireTimer();
+        breaker.onError(ERROR_TYPE_DISPATCH);
+        assertEquals(delays, List.of(100L, 200L, 350L, 350L));
+
+        fireTimer();
+        breaker.onSuccess();
+        assertEquals(breaker.state(), State.CLOSED);
+        breaker.onError(ERROR_TYPE_DISPATCH);
+        assertEquals(delays.get(delays.size() - 1).longValue(), 100L, "closing resets the backoff");
+    }
+
+    @Test
+    public void testShutdownIgnoresPendingTimer() {
+        CircuitBreaker breaker = breaker(2, 1, 1.0, 1);
+        breaker.onError(ERROR_TYPE_DISPATCH);
+        breaker.shutdown();
+        fireTimer();
+        assertEquals(breaker.state(), State.OPEN);
+        assertTrue(timers.isEmpty());
+    }
+}
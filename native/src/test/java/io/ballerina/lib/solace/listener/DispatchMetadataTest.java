@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.observability.ObservabilityConstants;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class DispatchMetadataTest {
+
+    @Test
+    public void testUntracedMetadataIsSharedByEveryMessage() {
+        DispatchMetadata metadata = untraced();
+        StrandMetadata first = metadata.onMessage(null);
+        assertSame(metadata.onMessage(Map.of("traceparent", "00-abc-def-01")), first);
+        assertTrue(first.isConcurrentSafe());
+        assertNull(first.properties());
+        assertFalse(metadata.onError(null).isConcurrentSafe());
+    }
+
+    @Test
+    public void testTracedMetadataCarriesAnObserverContextPerMessage() {
+        DispatchMetadata metadata =
+                new DispatchMetadata(true, false, true, "tcp://localhost:55554", "default", "orders", "queue");
+        StrandMetadata first = metadata.onMessage(Map.of("traceparent", "00-abc-def-01"));
+        StrandMetadata second = metadata.onMessage(null);
+        assertNotSame(first, second);
+        assertTrue(first.isConcurrentSafe());
+        assertNotNull(first.properties().get(ObservabilityConstants.KEY_OBSERVER_CONTEXT));
+        assertNotSame(first.properties().get(ObservabilityConstants.KEY_OBSERVER_CONTEXT),
+                second.properties().get(ObservabilityConstants.KEY_OBSERVER_CONTEXT));
+    }
+
+    private static DispatchMetadata untraced() {
+        return new DispatchMetadata(true, false, false, "tcp://localhost:55554", "default", "orders", "queue");
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+public class ParallelStartupTest {
+
+    private ExecutorService executor;
+
+    @BeforeMethod
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testResultsKeepTaskOrder() throws Exception {
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            int value = i;
+            tasks.add(() -> {
+                Thread.sleep(value % 5);
+                return value;
+            });
+        }
+        List<Integer> results = ParallelStartup.runAll(executor, 8, tasks, value -> { });
+        assertEquals(results.size(), 50);
+        for (int i = 0; i < 50; i++) {
+            assertEquals(results.get(i).intValue(), i);
+        }
+    }
+
+    @Test
+    public void testTasksRunConcurrentlyUpToTheLimit() throws Exception {
+        int parallelism = 4;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch allRunning = new CountDownLatch(parallelism);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tasks.add(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                allRunning.countDown();
+                // The first batch only finishes once it has run side by side.
+                allRunning.await(5, TimeUnit.SECONDS);
+                Thread.sleep(5);
+                running.decrementAndGet();
+                return 0;
+            });
+        }
+        ParallelStartup.runAll(executor, parallelism, tasks, value -> { });
+        assertEquals(maxRunning.get(), parallelism);
+    }
+
+    @Test
+    public void testFailureUndoesSucceededStepsAndStopsSubmitting() {
+        List<Integer> undone = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger started = new AtomicInteger();
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        tasks.add(() -> {
+            started.incrementAndGet();
+            return 1;
+        });
+        tasks.add(() -> {
+            started.incrementAndGet();
+            throw new IllegalStateException("bind failed");
+        });
+        for (int i = 0; i < 10; i++) {
+            tasks.add(() -> {
+                started.incrementAndGet();
+                return 2;
+            });
+        }
+        IllegalStateException e = expectThrows(IllegalStateException.class,
+                () -> ParallelStartup.runAll(executor, 1, tasks, undone::add));
+        assertEquals(e.getMessage(), "bind failed");
+        assertEquals(undone, List.of(1));
+        assertEquals(started.get(), 2);
+    }
+
+    @Test
+    public void testRejectedSubmissionFailsTheBatch() {
+        executor.shutdown();
+        List<Callable<Integer>> tasks = List.of(() -> 1, () -> 2);
+        expectThrows(Exception.class, () -> ParallelStartup.runAll(executor, 2, tasks, value -> { }));
+        assertTrue(executor.isShutdown());
+    }
+}
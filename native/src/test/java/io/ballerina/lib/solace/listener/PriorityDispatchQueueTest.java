@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import io.ballerina.lib.solace.config.PriorityDispatchConfig;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class PriorityDispatchQueueTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final List<String> dispatched = new ArrayList<>();
+
+    @BeforeMethod
+    public void setUp() {
+        dispatched.clear();
+    }
+
+    @Test
+    public void testHighestPriorityFirstAndFifoWithinLevel() {
+        PriorityDispatchQueue queue = new PriorityDispatchQueue(new PriorityDispatchConfig(100, 1000),
+                new AtomicLong()::get);
+        queue.offer(record("bulk-1"), 0);
+        queue.offer(record("urgent-1"), 9);
+        queue.offer(record("bulk-2"), 0);
+        queue.offer(record("default"), -1);
+        queue.offer(record("urgent-2"), 9);
+        queue.offer(record("max"), 255);
+        drain(queue);
+        assertEquals(dispatched, List.of("max", "urgent-1", "urgent-2", "default", "bulk-1", "bulk-2"));
+    }
+
+    @Test
+    public void testLevelsAcrossBitmapWords() {
+        PriorityDispatchQueue queue = new PriorityDispatchQueue(new PriorityDispatchConfig(100, 1000),
+                new AtomicLong()::get);
+        int[] priorities = {63, 64, 0, 128, 127, 200, 1};
+        for (int priority : priorities) {
+            queue.offer(record(String.valueOf(priority)), priority);
+        }
+        drain(queue);
+        assertEquals(dispatched, List.of("200", "128", "127", "64", "63", "1", "0"));
+    }
+
+    @Test
+    public void testAgedMessageOvertakesHigherPriorities() {
+        AtomicLong clock = new AtomicLong();
+        PriorityDispatchQueue queue = new PriorityDispatchQueue(new PriorityDispatchConfig(100, 50), clock::get);
+        queue.offer(record("bulk"), 0);
+        for (int i = 0; i < 10; i++) {
+            queue.offer(record("urgent-" + i), 9);
+        }
+        queue.poll().run();
+        assertEquals(dispatched, List.of("urgent-0"));
+
+        clock.set(50 * MILLIS);
+        queue.poll().run();
+        assertEquals(dispatched.get(1), "bulk", "a message that waited maxWait should go next");
+        queue.poll().run();
+        assertEquals(dispatched.get(2), "urgent-1");
+        assertEquals(queue.size(), 8);
+    }
+
+    @Test
+    public void testPauseAndResumeMarks() {
+        PriorityDispatchQueue queue = new PriorityDispatchQueue(new PriorityDispatchConfig(10, 1000),
+                new AtomicLong()::get);
+        for (int i = 0; i < 9; i++) {
+            queue.offer(record("m"), 4);
+        }
+        assertFalse(queue.shouldPause(false));
+        queue.offer(record("m"), 4);
+        assertTrue(queue.shouldPause(false));
+
+        for (int i = 0; i < 4; i++) {
+            queue.poll();
+        }
+        assertTrue(queue.shouldPause(true), "should stay paused above half the capacity");
+        queue.poll();
+        assertFalse(queue.shouldPause(true));
+    }
+
+    @Test
+    public void testClearEmptiesEveryLevel() {
+        PriorityDispatchQueue queue = new PriorityDispatchQueue(new PriorityDispatchConfig(10, 1000),
+                new AtomicLong()::get);
+        queue.offer(record("a"), 1);
+        queue.offer(record("b"), 200);
+        queue.clear();
+        assertEquals(queue.size(), 0);
+        assertNull(queue.poll());
+        queue.offer(record("c"), 3);
+        drain(queue);
+        assertEquals(dispatched, List.of("c"));
+    }
+
+    private Runnable record(String name) {
+        return () -> dispatched.add(name);
+    }
+
+    private static void drain(PriorityDispatchQueue queue) {
+        Runnable task;
+        while ((task = queue.poll()) != null) {
+            task.run();
+        }
+    }
+}
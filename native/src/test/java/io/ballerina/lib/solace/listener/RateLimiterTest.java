@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class RateLimiterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Runnable> timers = new ArrayList<>();
+    private final List<Long> delays = new ArrayList<>();
+
+    @BeforeMethod
+    public void setUp() {
+        clock.set(0);
+        timers.clear();
+        delays.clear();
+    }
+
+    private RateLimiter limiter(double maxRate) {
+        return new RateLimiter(maxRate, clock::get, (task, delayMillis) -> {
+            timers.add(task);
+            delays.add(delayMillis);
+        });
+    }
+
+    @Test
+    public void testBurstUpToOneSecondOfTokens() {
+        RateLimiter limiter = limiter(10);
+        for (int i = 0; i < 9; i++) {
+            assertEquals(limiter.acquire(), 0);
+        }
+        assertFalse(limiter.isPaused());
+        assertEquals(limiter.acquire(), 0, "the last token is still granted at once");
+        assertTrue(limiter.isPaused(), "a dry bucket should pause the flows");
+        assertEquals(delays, List.of(100L));
+    }
+
+    @Test
+    public void testWaitsAreSpacedByTheRate() {
+        RateLimiter limiter = limiter(10);
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+        }
+        assertEquals(limiter.acquire(), 100 * MILLIS);
+        assertEquals(limiter.acquire(), 200 * MILLIS, "borrowed tokens queue up behind each other");
+        clock.set(150 * MILLIS);
+        assertEquals(limiter.acquire(), 150 * MILLIS);
+        assertEquals(timers.size(), 1, "a paused limiter schedules a single resume");
+    }
+
+    @Test
+    public void testResumeWaitsForARefilledToken() {
+        RateLimiter limiter = limiter(10);
+        for (int i = 0; i < 12; i++) {
+            limiter.acquire();
+        }
+        clock.set(100 * MILLIS);
+        timers.remove(0).run();
+        assertTrue(limiter.isPaused(), "the refill was taken by messages already waiting");
+        assertEquals(delays.get(1).longValue(), 200L);
+
+        clock.set(300 * MILLIS);
+        timers.remove(0).run();
+        assertFalse(limiter.isPaused());
+        assertEquals(limiter.acquire(), 0);
+    }
+
+    @Test
+    public void testFractionalRateKeepsOneToken() {
+        RateLimiter limiter = limiter(0.5);
+        assertEquals(limiter.acquire(), 0);
+        assertTrue(limiter.isPaused());
+        assertEquals(limiter.acquire(), TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    public void testShutdownStopsResume() {
+        RateLimiter limiter = limiter(1);
+        limiter.acquire();
+        limiter.shutdown();
+        clock.set(TimeUnit.SECONDS.toNanos(5));
+        timers.remove(0).run();
+        assertTrue(limiter.isPaused(), "a released service's flows must stay paused");
+    }
+}
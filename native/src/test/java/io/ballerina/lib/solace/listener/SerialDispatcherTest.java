@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+public class SerialDispatcherTest {
+
+    private ExecutorService shared;
+
+    @BeforeMethod
+    public void setUp() {
+        shared = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        shared.shutdownNow();
+    }
+
+    @Test
+    public void testTasksRunInSubmissionOrder() throws InterruptedException {
+        SerialDispatcher dispatcher = new SerialDispatcher(shared, new DispatchCounters());
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        int count = SerialDispatcher.MAX_BATCH * 3;
+        for (int i = 0; i < count; i++) {
+            int value = i;
+            dispatcher.execute(() -> order.add(value));
+        }
+        dispatcher.shutdown();
+        assertTrue(dispatcher.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(order.size(), count);
+        for (int i = 0; i < count; i++) {
+            assertEquals(order.get(i).intValue(), i);
+        }
+    }
+
+    @Test
+    public void testLanesShareTheExecutorWithoutOverlapping() throws InterruptedException {
+        SerialDispatcher first = new SerialDispatcher(shared, new DispatchCounters());
+        SerialDispatcher second = new SerialDispatcher(shared, new DispatchCounters());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Runnable task = () -> {
+            int now = running.incrementAndGet();
+            maxRunning.accumulateAndGet(now, Math::max);
+            running.decrementAndGet();
+        };
+        for (int i = 0; i < 500; i++) {
+            first.execute(task);
+        }
+        first.shutdown();
+        assertTrue(first.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(maxRunning.get(), 1);
+
+        CountDownLatch done = new CountDownLatch(1);
+        second.execute(done::countDown);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testShutdownRejectsNewTasks() {
+        SerialDispatcher dispatcher = new SerialDispatcher(shared, new DispatchCounters());
+        dispatcher.shutdown();
+        assertTrue(dispatcher.isTerminated());
+        expectThrows(RejectedExecutionException.class, () -> dispatcher.execute(() -> { }));
+    }
+
+    @Test
+    public void testShutdownNowDiscardsQueuedTasks() throws InterruptedException {
+        DispatchCounters counters = new DispatchCounters();
+        SerialDispatcher dispatcher = new SerialDispatcher(shared, counters);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        dispatcher.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        AtomicInteger ran = new AtomicInteger();
+        dispatcher.execute(ran::incrementAndGet);
+        dispatcher.execute(ran::incrementAndGet);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertFalse(dispatcher.isTerminated());
+        assertEquals(dispatcher.size(), 2);
+        assertEquals(counters.queued(), 2);
+        assertEquals(counters.inFlight(), 1);
+
+        assertEquals(dispatcher.shutdownNow(), 2);
+        assertTrue(dispatcher.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(ran.get(), 0);
+        assertEquals(counters.queued(), 0);
+        assertEquals(counters.inFlight(), 0);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.solace.listener;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class TopicTrieTest {
+
+    @Test
+    public void testExactMatch() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("a/b/c", "exact");
+        assertEquals(trie.match("a/b/c"), List.of("exact"));
+        assertTrue(trie.match("a/b").isEmpty());
+        assertTrue(trie.match("a/b/c/d").isEmpty());
+        assertTrue(trie.match("a/b/x").isEmpty());
+    }
+
+    @Test
+    public void testSingleLevelWildcard() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("a/*/c", "star");
+        assertEquals(trie.match("a/b/c"), List.of("star"));
+        assertEquals(trie.match("a/anything/c"), List.of("star"));
+        assertTrue(trie.match("a/b/x/c").isEmpty());
+        assertTrue(trie.match("a/c").isEmpty());
+    }
+
+    @Test
+    public void testPrefixWildcard() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("orders/eu*/created", "prefix");
+        assertEquals(trie.match("orders/eu/created"), List.of("prefix"));
+        assertEquals(trie.match("orders/eu-west/created"), List.of("prefix"));
+        assertTrue(trie.match("orders/us-east/created").isEmpty());
+        assertTrue(trie.match("orders/e/created").isEmpty());
+    }
+
+    @Test
+    public void testMultiLevelWildcard() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("a/>", "rest");
+        assertEquals(trie.match("a/b"), List.of("rest"));
+        assertEquals(trie.match("a/b/c/d"), List.of("rest"));
+        assertTrue(trie.match("a").isEmpty(), "'>' needs at least one more level");
+        assertTrue(trie.match("b/c").isEmpty());
+    }
+
+    @Test
+    public void testWildcardCharactersElsewhereAreLiteral() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("a/>/c", "literal-gt");
+        trie.add("a/b*c", "literal-star");
+        assertEquals(trie.match("a/>/c"), List.of("literal-gt"));
+        assertTrue(trie.match("a/b/c").isEmpty());
+        assertEquals(trie.match("a/b*c"), List.of("literal-star"));
+        assertTrue(trie.match("a/bxc").isEmpty());
+    }
+
+    @Test
+    public void testEverySubscriberMatchesOnce() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("a/b/c", "first");
+        trie.add("a/*/c", "second");
+        trie.add("a/>", "third");
+        trie.add("a/b/*", "fourth");
+        trie.add("a/b/c", "fourth");
+        trie.add("x/>", "other");
+        List<String> matches = trie.match("a/b/c");
+        assertEquals(matches.size(), 4);
+        assertEquals(Set.copyOf(matches), Set.of("first", "second", "third", "fourth"));
+    }
+}